@@ -0,0 +1,359 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The class that encodes a column of tag values into a column of code values
+ * based on the Enum class that implements the {@link BiCatalog} interface.
+ *
+ * <p>
+ * Each tag value is resolved through the index cached for the target Enum
+ * class, and the code value of the resolved Enum element is written to the
+ * same position of the returned code array. The tag value that is not linked to
+ * any Enum element does not raise an exception, instead the unknown code value
+ * specified when this encoder is created is written and the position of the
+ * tag value is reported by {@link Result#getUnknownPositions()}. Therefore the
+ * data can be converted and validated in a single pass.
+ *
+ * <p>
+ * The input whose length is greater than {@link #PARALLEL_THRESHOLD} is split
+ * and encoded in parallel on a {@link ForkJoinPool}.
+ *
+ * <pre>
+ * <code>
+ * final BiCatalogEncoder&lt;EnumClass, String&gt; encoder = BiCatalogEncoder.of(EnumClass.class);
+ * final BiCatalogEncoder.Result result = encoder.encode(new String[] { "test1", "test2", "unknown" });
+ *
+ * result.getCodes(); // Returns [0, 1, Integer.MIN_VALUE]
+ * result.getUnknownPositions(); // Returns [2]
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class BiCatalogEncoder<E extends BiCatalog<E, T>, T> {
+
+    /**
+     * The number of the tag values at which the encoding is split into parallel
+     * tasks
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * The default code value written for the unknown tag value
+     */
+    public static final int DEFAULT_UNKNOWN_CODE = Integer.MIN_VALUE;
+
+    /**
+     * The empty positions
+     */
+    private static final int[] EMPTY_POSITIONS = new int[0];
+
+    /**
+     * The index of the target Enum class
+     */
+    private final CatalogIndex<E> index;
+
+    /**
+     * The code value written for the unknown tag value
+     */
+    private final int unknownCode;
+
+    /**
+     * Constructor
+     *
+     * @param index       The index of the target Enum class
+     * @param unknownCode The code value written for the unknown tag value
+     */
+    private BiCatalogEncoder(CatalogIndex<E> index, int unknownCode) {
+        this.index = index;
+        this.unknownCode = unknownCode;
+    }
+
+    /**
+     * Returns the new instance of {@link BiCatalogEncoder} for the target Enum
+     * class. The unknown tag value is encoded to {@link #DEFAULT_UNKNOWN_CODE}.
+     *
+     * @param <E>   The type of Enum class
+     * @param <T>   The type of tag value
+     * @param clazz The target Enum class
+     * @return The new instance of {@link BiCatalogEncoder}
+     *
+     * @exception NullPointerException If {@code clazz} is {@code null}
+     */
+    public static <E extends BiCatalog<E, T>, T> BiCatalogEncoder<E, T> of(Class<? extends BiCatalog<E, T>> clazz) {
+        return of(clazz, DEFAULT_UNKNOWN_CODE);
+    }
+
+    /**
+     * Returns the new instance of {@link BiCatalogEncoder} for the target Enum
+     * class.
+     *
+     * @param <E>         The type of Enum class
+     * @param <T>         The type of tag value
+     * @param clazz       The target Enum class
+     * @param unknownCode The code value written for the unknown tag value
+     * @return The new instance of {@link BiCatalogEncoder}
+     *
+     * @exception NullPointerException If {@code clazz} is {@code null}
+     */
+    public static <E extends BiCatalog<E, T>, T> BiCatalogEncoder<E, T> of(Class<? extends BiCatalog<E, T>> clazz,
+            int unknownCode) {
+        Objects.requireNonNull(clazz, "clazz must not be null");
+        return new BiCatalogEncoder<>(CatalogIndex.<E>of(clazz), unknownCode);
+    }
+
+    /**
+     * Encodes the tag values given as an argument into the code values using the
+     * common {@link ForkJoinPool}.
+     *
+     * @param tags The tag values
+     * @return The result of the encoding
+     *
+     * @exception NullPointerException If {@code tags} is {@code null}
+     */
+    public Result encode(T[] tags) {
+        return this.encode(tags, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Encodes the tag values given as an argument into the code values using the
+     * {@link ForkJoinPool} given as an argument.
+     *
+     * @param tags The tag values
+     * @param pool The pool that executes the parallel encoding
+     * @return The result of the encoding
+     *
+     * @exception NullPointerException If {@code tags} or {@code pool} is
+     *                                  {@code null}
+     */
+    public Result encode(T[] tags, ForkJoinPool pool) {
+        Objects.requireNonNull(tags, "tags must not be null");
+        Objects.requireNonNull(pool, "pool must not be null");
+        return this.encode(Arrays.asList(tags), pool);
+    }
+
+    /**
+     * Encodes the tag values given as an argument into the code values using the
+     * common {@link ForkJoinPool}.
+     *
+     * @param tags The tag values
+     * @return The result of the encoding
+     *
+     * @exception NullPointerException If {@code tags} is {@code null}
+     */
+    public Result encode(List<? extends T> tags) {
+        return this.encode(tags, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Encodes the tag values given as an argument into the code values using the
+     * {@link ForkJoinPool} given as an argument.
+     *
+     * <p>
+     * If the {@link List} given as an argument does not implement
+     * {@link RandomAccess}, the tag values are copied to an array before the
+     * encoding.
+     *
+     * @param tags The tag values
+     * @param pool The pool that executes the parallel encoding
+     * @return The result of the encoding
+     *
+     * @exception NullPointerException If {@code tags} or {@code pool} is
+     *                                  {@code null}
+     */
+    public Result encode(List<? extends T> tags, ForkJoinPool pool) {
+        Objects.requireNonNull(tags, "tags must not be null");
+        Objects.requireNonNull(pool, "pool must not be null");
+
+        final List<?> source = tags instanceof RandomAccess ? tags : Arrays.asList(tags.toArray());
+        final int[] codes = new int[source.size()];
+
+        if (codes.length <= PARALLEL_THRESHOLD) {
+            return new Result(codes, this.encode(source, codes, 0, codes.length));
+        }
+
+        return new Result(codes, pool.invoke(new EncodeTask(source, codes, 0, codes.length)));
+    }
+
+    /**
+     * Encodes the tag values in the range given as arguments.
+     *
+     * @param tags  The tag values
+     * @param codes The code values to be written
+     * @param from  The first position, inclusive
+     * @param to    The last position, exclusive
+     * @return The positions of the unknown tag values
+     */
+    private int[] encode(List<?> tags, int[] codes, int from, int to) {
+
+        int[] positions = EMPTY_POSITIONS;
+        int count = 0;
+
+        for (int i = from; i < to; i++) {
+            final E element = this.index.findByTag(tags.get(i));
+
+            if (element != null) {
+                codes[i] = element.getCode();
+                continue;
+            }
+
+            codes[i] = this.unknownCode;
+
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, Math.max(8, count * 2));
+            }
+
+            positions[count++] = i;
+        }
+
+        return count == positions.length ? positions : Arrays.copyOf(positions, count);
+    }
+
+    /**
+     * The task that encodes the tag values in parallel.
+     */
+    @SuppressWarnings("serial")
+    private final class EncodeTask extends RecursiveTask<int[]> {
+
+        /**
+         * The tag values
+         */
+        private final List<?> tags;
+
+        /**
+         * The code values to be written
+         */
+        private final int[] codes;
+
+        /**
+         * The first position, inclusive
+         */
+        private final int from;
+
+        /**
+         * The last position, exclusive
+         */
+        private final int to;
+
+        /**
+         * Constructor
+         *
+         * @param tags  The tag values
+         * @param codes The code values to be written
+         * @param from  The first position, inclusive
+         * @param to    The last position, exclusive
+         */
+        EncodeTask(List<?> tags, int[] codes, int from, int to) {
+            this.tags = tags;
+            this.codes = codes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+
+            if (this.to - this.from <= PARALLEL_THRESHOLD) {
+                return encode(this.tags, this.codes, this.from, this.to);
+            }
+
+            final int middle = (this.from + this.to) >>> 1;
+            final EncodeTask left = new EncodeTask(this.tags, this.codes, this.from, middle);
+            left.fork();
+
+            final int[] right = new EncodeTask(this.tags, this.codes, middle, this.to).compute();
+            final int[] positions = left.join();
+
+            if (right.length == 0) {
+                return positions;
+            } else if (positions.length == 0) {
+                return right;
+            }
+
+            final int[] merged = Arrays.copyOf(positions, positions.length + right.length);
+            System.arraycopy(right, 0, merged, positions.length, right.length);
+
+            return merged;
+        }
+    }
+
+    /**
+     * The class that represents the result of the encoding.
+     *
+     * @author Kato Shinya
+     * @since 1.1.0
+     */
+    public static final class Result {
+
+        /**
+         * The encoded code values
+         */
+        private final int[] codes;
+
+        /**
+         * The positions of the unknown tag values in ascending order
+         */
+        private final int[] unknownPositions;
+
+        /**
+         * Constructor
+         *
+         * @param codes            The encoded code values
+         * @param unknownPositions The positions of the unknown tag values
+         */
+        private Result(int[] codes, int[] unknownPositions) {
+            this.codes = codes;
+            this.unknownPositions = unknownPositions;
+        }
+
+        /**
+         * Returns the encoded code values. The returned array is not copied.
+         *
+         * @return The encoded code values
+         */
+        public int[] getCodes() {
+            return this.codes;
+        }
+
+        /**
+         * Returns the positions of the unknown tag values in ascending order. The
+         * returned array is not copied.
+         *
+         * @return The positions of the unknown tag values
+         */
+        public int[] getUnknownPositions() {
+            return this.unknownPositions;
+        }
+
+        /**
+         * Checks if all tag values were linked to the Enum elements.
+         *
+         * @return {@code true} if all tag values were linked to the Enum elements,
+         *         otherwise {@code false}
+         */
+        public boolean isValid() {
+            return this.unknownPositions.length == 0;
+        }
+    }
+}
@@ -18,6 +18,10 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -122,7 +126,7 @@ public interface Catalog<E extends Catalog<E>> extends CatalogSupport<E> {
      *         value
      */
     public static <E extends Catalog<E>> E getEnum(Class<? extends Catalog<E>> clazz, int code) {
-        return stream(clazz).filter(e -> e.equalsByCode(code)).map(Catalog::toEnum).findFirst().orElse(null);
+        return CatalogIndex.<E>of(clazz).findByCode(code);
     }
 
     /**
@@ -153,7 +157,128 @@ public interface Catalog<E extends Catalog<E>> extends CatalogSupport<E> {
      *         the code value passed as an argument, otherwise {@code false}
      */
     public static <E extends Catalog<E>> boolean hasCode(Class<? extends Catalog<E>> clazz, int code) {
-        return stream(clazz).anyMatch(e -> e.equalsByCode(code));
+        return CatalogIndex.of(clazz).indexOfCode(code) >= 0;
+    }
+
+    /**
+     * Returns the number of the Enum elements defined in the target Enum class.
+     *
+     * @param <E>   The type of Enum class
+     * @param clazz The target Enum class
+     * @return The number of the Enum elements
+     */
+    public static <E extends Catalog<E>> int size(Class<? extends Catalog<E>> clazz) {
+        return CatalogIndex.of(clazz).size();
+    }
+
+    /**
+     * Returns the Enum element at the index given as an argument.
+     *
+     * <p>
+     * The index is the position of the Enum element in the order of the code
+     * value, which is the same order as {@link #getOrderedList(Class)}. The
+     * index is therefore in the range from {@code 0} to
+     * {@code size(clazz) - 1}.
+     *
+     * @param <E>   The type of Enum class
+     * @param clazz The target Enum class
+     * @param index The index of the Enum element in the order of the code value
+     * @return The Enum element at the index
+     *
+     * @exception ArrayIndexOutOfBoundsException If {@code index} is out of range
+     */
+    public static <E extends Catalog<E>> E get(Class<? extends Catalog<E>> clazz, int index) {
+        return CatalogIndex.<E>of(clazz).get(index);
+    }
+
+    /**
+     * Performs the action given as an argument for each Enum element of the target
+     * Enum class in the order of the code value.
+     *
+     * <p>
+     * Unlike {@link #stream(Class)}, this method neither copies the Enum elements
+     * nor creates a {@link Stream} for each call, because the Enum elements are
+     * visited through the index cached for the target Enum class.
+     *
+     * @param <E>    The type of Enum class
+     * @param clazz  The target Enum class
+     * @param action The action to be performed for each Enum element
+     */
+    public static <E extends Catalog<E>> void forEach(Class<? extends Catalog<E>> clazz, Consumer<? super E> action) {
+        CatalogIndex.<E>of(clazz).forEach(action);
+    }
+
+    /**
+     * Returns the {@link Spliterator} over the Enum elements of the target Enum
+     * class in the order of the code value.
+     *
+     * <p>
+     * The returned {@link Spliterator} is backed by the index cached for the
+     * target Enum class and reports {@link Spliterator#ORDERED},
+     * {@link Spliterator#DISTINCT}, {@link Spliterator#NONNULL},
+     * {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED} and
+     * {@link Spliterator#SUBSIZED}. Therefore the stream created by
+     * {@link java.util.stream.StreamSupport#stream(Spliterator, boolean)} can be
+     * split evenly when it is processed in parallel.
+     *
+     * @param <E>   The type of Enum class
+     * @param clazz The target Enum class
+     * @return The {@link Spliterator} over the Enum elements
+     */
+    public static <E extends Catalog<E>> Spliterator<E> spliterator(Class<? extends Catalog<E>> clazz) {
+        return CatalogIndex.<E>of(clazz).spliterator();
+    }
+
+    /**
+     * Returns the unmodifiable {@link Map} that groups the Enum elements of the
+     * target Enum class by the classifier given as an argument.
+     *
+     * <p>
+     * The keys of the returned {@link Map} are iterated in the order in which they
+     * first appear in the order of the code value, and the Enum elements of each
+     * group are also in the order of the code value. The grouping is computed only
+     * once for each pair of the target Enum class and the classifier, and the same
+     * instance is returned by every call afterwards. The classifier is held weakly
+     * by the cache, so pass the same instance, such as a non-capturing lambda
+     * expression or one held in a constant, to share the grouping. Note that the
+     * same lambda expression written in different places of the source code
+     * results in different instances.
+     *
+     * @param <E>        The type of Enum class
+     * @param <K>        The type of key
+     * @param clazz      The target Enum class
+     * @param classifier The classifier that maps each Enum element to its key
+     * @return The unmodifiable grouping of the Enum elements
+     *
+     * @exception NullPointerException If {@code classifier} is {@code null} or
+     *                                 maps any Enum element to {@code null}
+     */
+    public static <E extends Catalog<E>, K> Map<K, List<E>> groupingBy(Class<? extends Catalog<E>> clazz,
+            Function<? super E, ? extends K> classifier) {
+        return CatalogGrouping.<E>of(clazz).groupingBy(classifier);
+    }
+
+    /**
+     * Returns the partition of the Enum elements of the target Enum class by the
+     * predicate given as an argument.
+     *
+     * <p>
+     * The returned {@link CatalogPartition} holds the result of the predicate as
+     * a bitset over the index of each Enum element in the order of the code value.
+     * Like {@link #groupingBy(Class, Function)}, the partition is computed only
+     * once for each pair of the target Enum class and the predicate, and the
+     * predicate is held weakly by the cache.
+     *
+     * @param <E>       The type of Enum class
+     * @param clazz     The target Enum class
+     * @param predicate The predicate
+     * @return The partition of the Enum elements
+     *
+     * @exception NullPointerException If {@code predicate} is {@code null}
+     */
+    public static <E extends Catalog<E>> CatalogPartition<E> partitioningBy(Class<? extends Catalog<E>> clazz,
+            Predicate<? super E> predicate) {
+        return CatalogGrouping.<E>of(clazz).partitioningBy(predicate);
     }
 
     /**
@@ -0,0 +1,478 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+/**
+ * The {@link Flow.Processor} that decodes batches of code values or tag values
+ * into batches of Enum elements of a catalog class.
+ *
+ * <p>
+ * Each batch received from the upstream is decoded in bulk against the index
+ * cached for the catalog class and is emitted to the downstream as an
+ * unmodifiable {@link List} of the Enum elements in the order of the batch. The
+ * code values or tag values that are not linked to any Enum element are left out
+ * of the emitted batch, and the original batch is passed to the unknown consumer
+ * with the positions of those values in ascending order. A batch whose values
+ * are all unknown is not emitted, and one more batch is requested from the
+ * upstream instead.
+ *
+ * <p>
+ * The processor emits at most one batch for each batch it receives, and a
+ * skipped batch is replaced by a {@code request(1)} to the upstream, so the
+ * demand requested by the downstream is forwarded to the upstream as it is and
+ * no batch is buffered. The demand requested before the upstream subscription
+ * arrives or while the downstream is being subscribed is accumulated and
+ * forwarded afterwards. The processor accepts only one downstream subscriber.
+ *
+ * <p>
+ * Every signal to the downstream, including the error of a non-positive
+ * demand, is delivered serially and without holding any lock. A terminal signal
+ * that arrives while a batch is being emitted is delivered after the emission
+ * returns.
+ *
+ * <pre>
+ * <code>
+ * final CatalogBatchDecoder&lt;int[], EnumClass&gt; decoder = CatalogBatchDecoder.ofCodes(EnumClass.class,
+ *         (batch, positions) -&gt; logUnknownCodes(batch, positions));
+ *
+ * publisher.subscribe(decoder);
+ * decoder.subscribe(subscriber);
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogBatchDecoder<B, E extends CodeSupport> implements Flow.Processor<B, List<E>> {
+
+    /**
+     * The empty positions
+     */
+    private static final int[] EMPTY_POSITIONS = new int[0];
+
+    /**
+     * The terminal signal that represents the completion of the upstream
+     */
+    private static final Object COMPLETE = new Object();
+
+    /**
+     * The index of the catalog class
+     */
+    private final CatalogIndex<E> index;
+
+    /**
+     * The strategy that decodes a value of the batch
+     */
+    private final Lookup<B, E> lookup;
+
+    /**
+     * The consumer that receives the batches containing unknown values
+     */
+    private final BiConsumer<? super B, int[]> unknownConsumer;
+
+    /**
+     * The lock that guards the subscription state
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The upstream subscription
+     */
+    private Flow.Subscription upstream;
+
+    /**
+     * The downstream subscriber
+     */
+    private volatile Flow.Subscriber<? super List<E>> downstream;
+
+    /**
+     * The demand requested before the upstream subscription arrives or before the
+     * downstream returns from the subscription
+     */
+    private long pendingDemand;
+
+    /**
+     * Whether the downstream subscription is cancelled
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Whether the downstream has returned from the subscription
+     */
+    private boolean subscribed;
+
+    /**
+     * The number of the signals in progress to the downstream, which is held by
+     * one until the downstream has returned from the subscription
+     */
+    private final AtomicInteger signals = new AtomicInteger(1);
+
+    /**
+     * The terminal signal, which is either {@link #COMPLETE} or the error
+     */
+    private final AtomicReference<Object> terminal = new AtomicReference<>();
+
+    /**
+     * Constructor
+     *
+     * @param index           The index of the catalog class
+     * @param lookup          The strategy that decodes a value of the batch
+     * @param unknownConsumer The consumer that receives the batches containing
+     *                        unknown values
+     */
+    private CatalogBatchDecoder(CatalogIndex<E> index, Lookup<B, E> lookup,
+            BiConsumer<? super B, int[]> unknownConsumer) {
+        this.index = index;
+        this.lookup = lookup;
+        this.unknownConsumer = unknownConsumer;
+    }
+
+    /**
+     * Returns the new decoder that decodes batches of code values into the Enum
+     * elements of the catalog class given as an argument.
+     *
+     * @param <E>             The type of Enum class
+     * @param clazz           The catalog class that implements the {@link Catalog}
+     *                        or {@link BiCatalog} interface
+     * @param unknownConsumer The consumer that receives each batch containing
+     *                        unknown code values with their positions
+     * @return The new decoder of code values
+     *
+     * @exception NullPointerException If any argument is {@code null}
+     */
+    public static <E extends CodeSupport> CatalogBatchDecoder<int[], E> ofCodes(Class<E> clazz,
+            BiConsumer<? super int[], int[]> unknownConsumer) {
+        Objects.requireNonNull(clazz, "clazz must not be null");
+        Objects.requireNonNull(unknownConsumer, "unknownConsumer must not be null");
+        return new CatalogBatchDecoder<>(CatalogIndex.of(clazz), new Lookup<int[], E>() {
+
+            @Override
+            public int size(int[] batch) {
+                return batch.length;
+            }
+
+            @Override
+            public E find(CatalogIndex<E> index, int[] batch, int position) {
+                return index.findByCode(batch[position]);
+            }
+        }, unknownConsumer);
+    }
+
+    /**
+     * Returns the new decoder that decodes batches of tag values into the Enum
+     * elements of the catalog class given as an argument.
+     *
+     * @param <E>             The type of Enum class
+     * @param <T>             The type of tag value
+     * @param clazz           The catalog class that implements the
+     *                        {@link BiCatalog} interface
+     * @param unknownConsumer The consumer that receives each batch containing
+     *                        unknown tag values with their positions
+     * @return The new decoder of tag values
+     *
+     * @exception NullPointerException If any argument is {@code null}
+     */
+    public static <E extends BiCatalog<E, T>, T> CatalogBatchDecoder<List<T>, E> ofTags(
+            Class<? extends BiCatalog<E, T>> clazz, BiConsumer<? super List<T>, int[]> unknownConsumer) {
+        Objects.requireNonNull(clazz, "clazz must not be null");
+        Objects.requireNonNull(unknownConsumer, "unknownConsumer must not be null");
+        return new CatalogBatchDecoder<>(CatalogIndex.<E>of(clazz), new Lookup<List<T>, E>() {
+
+            @Override
+            public int size(List<T> batch) {
+                return batch.size();
+            }
+
+            @Override
+            public E find(CatalogIndex<E> index, List<T> batch, int position) {
+                return index.findByTag(batch.get(position));
+            }
+        }, unknownConsumer);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super List<E>> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber must not be null");
+
+        final boolean rejected;
+
+        synchronized (this.lock) {
+            rejected = this.downstream != null;
+
+            if (!rejected) {
+                this.downstream = subscriber;
+            }
+        }
+
+        if (rejected) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("The decoder accepts only one subscriber"));
+            return;
+        }
+
+        subscriber.onSubscribe(new DownstreamSubscription());
+
+        final Flow.Subscription subscription;
+        final long demand;
+
+        synchronized (this.lock) {
+            this.subscribed = true;
+            subscription = this.upstream;
+            demand = subscription != null && !this.cancelled ? this.pendingDemand : 0;
+
+            if (demand > 0) {
+                this.pendingDemand = 0;
+            }
+        }
+
+        this.leave();
+
+        if (demand > 0 && this.terminal.get() == null) {
+            subscription.request(demand);
+        }
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription must not be null");
+
+        final long demand;
+
+        synchronized (this.lock) {
+            if (this.upstream != null || this.cancelled) {
+                subscription.cancel();
+                return;
+            }
+
+            this.upstream = subscription;
+
+            if (!this.subscribed) {
+                return;
+            }
+
+            demand = this.pendingDemand;
+            this.pendingDemand = 0;
+        }
+
+        if (demand > 0) {
+            subscription.request(demand);
+        }
+    }
+
+    @Override
+    public void onNext(B batch) {
+        Objects.requireNonNull(batch, "batch must not be null");
+
+        if (this.cancelled) {
+            return;
+        }
+
+        final int size = this.lookup.size(batch);
+        final Object[] elements = new Object[size];
+        int[] positions = EMPTY_POSITIONS;
+        int count = 0;
+        int unknown = 0;
+
+        for (int i = 0; i < size; i++) {
+            final E element = this.lookup.find(this.index, batch, i);
+
+            if (element != null) {
+                elements[count++] = element;
+                continue;
+            }
+
+            if (unknown == positions.length) {
+                positions = Arrays.copyOf(positions, Math.max(8, unknown * 2));
+            }
+
+            positions[unknown++] = i;
+        }
+
+        if (unknown > 0) {
+            try {
+                this.unknownConsumer.accept(batch, Arrays.copyOf(positions, unknown));
+            } catch (RuntimeException e) {
+                this.upstream.cancel();
+                this.onError(e);
+                return;
+            }
+        }
+
+        if (count == 0) {
+            this.upstream.request(1);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        final List<E> decoded = (List<E>) (List<?>) Arrays
+                .asList(count == size ? elements : Arrays.copyOf(elements, count));
+
+        if (this.signals.compareAndSet(0, 1)) {
+            this.downstream.onNext(Collections.unmodifiableList(decoded));
+            this.leave();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable, "throwable must not be null");
+
+        if (!this.cancelled) {
+            this.terminate(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!this.cancelled) {
+            this.terminate(COMPLETE);
+        }
+    }
+
+    /**
+     * Records the terminal signal given as an argument and delivers it to the
+     * downstream unless another signal is in progress, in which case the signal in
+     * progress delivers it on return. Only the first terminal signal is recorded.
+     *
+     * @param signal The terminal signal, which is either {@link #COMPLETE} or the
+     *               error
+     */
+    private void terminate(Object signal) {
+        if (this.terminal.compareAndSet(null, signal) && this.signals.getAndIncrement() == 0) {
+            this.deliver(signal);
+        }
+    }
+
+    /**
+     * Finishes the signal in progress and delivers the terminal signal recorded
+     * meanwhile.
+     */
+    private void leave() {
+        if (this.signals.decrementAndGet() != 0) {
+            this.deliver(this.terminal.get());
+        }
+    }
+
+    /**
+     * Delivers the terminal signal given as an argument to the downstream.
+     *
+     * @param signal The terminal signal, which is either {@link #COMPLETE} or the
+     *               error
+     */
+    private void deliver(Object signal) {
+        if (signal == COMPLETE) {
+            this.downstream.onComplete();
+        } else {
+            this.downstream.onError((Throwable) signal);
+        }
+    }
+
+    /**
+     * The subscription given to the downstream subscriber.
+     */
+    private final class DownstreamSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+
+            if (n <= 0) {
+                this.cancel();
+                terminate(new IllegalArgumentException("The demand must be positive"));
+                return;
+            }
+
+            final Flow.Subscription subscription;
+
+            synchronized (lock) {
+                if (cancelled) {
+                    return;
+                }
+
+                subscription = upstream;
+
+                if (subscription == null || !subscribed) {
+                    pendingDemand = pendingDemand + n < 0 ? Long.MAX_VALUE : pendingDemand + n;
+                    return;
+                }
+            }
+
+            subscription.request(n);
+        }
+
+        @Override
+        public void cancel() {
+
+            final Flow.Subscription subscription;
+
+            synchronized (lock) {
+                if (cancelled) {
+                    return;
+                }
+
+                cancelled = true;
+                subscription = upstream;
+            }
+
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+    }
+
+    /**
+     * The strategy that decodes a value of the batch.
+     *
+     * @param <B> The type of batch
+     * @param <E> The type of Enum class
+     */
+    private interface Lookup<B, E extends CodeSupport> {
+
+        /**
+         * Returns the number of the values of the batch.
+         *
+         * @param batch The batch
+         * @return The number of the values
+         */
+        int size(B batch);
+
+        /**
+         * Returns the Enum element linked to the value at the position of the batch.
+         *
+         * @param index    The index of the catalog class
+         * @param batch    The batch
+         * @param position The position of the value
+         * @return The Enum element, or {@code null} if the value is unknown
+         */
+        E find(CatalogIndex<E> index, B batch, int position);
+    }
+}
@@ -0,0 +1,1436 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * The class that represents a set of Enum elements of a catalog class as a
+ * compressed bitmap keyed by the code value.
+ *
+ * <p>
+ * The bitmap follows the layout of the roaring bitmap. The code values are
+ * divided by their upper 16 bits into chunks, and each chunk is stored in the
+ * container that suits its density: a sorted array for a sparse chunk, a plain
+ * bitmap of 65536 bits for a dense chunk and a list of runs for a chunk made of
+ * consecutive code values. Because only the chunks that contain a code value are
+ * allocated, the bitmap stays compact even if the code values are spread across
+ * the whole range of {@code int}, and the membership test is a binary search
+ * over the chunks followed by a lookup in a single container. The run
+ * containers are created by {@link #runOptimize()}.
+ *
+ * <p>
+ * The bitmap is written by {@link #serialize(DataOutput)} in the following
+ * big-endian format, which does not depend on the platform. Note that this
+ * format is specific to this class and is not the interchange format of other
+ * roaring bitmap libraries.
+ *
+ * <pre>
+ * byte   version (currently 1)
+ * int    number of containers
+ * repeated for each container in ascending order of key:
+ *   short  key (upper 16 bits of the code value with the sign bit flipped)
+ *   byte   type (0: array, 1: bitmap, 2: run)
+ *   array:  short cardinality - 1, followed by the sorted lower 16 bits as shorts
+ *   bitmap: 1024 longs
+ *   run:    short number of runs, followed by the pairs of start and length - 1 as shorts
+ * </pre>
+ *
+ * <p>
+ * This class is not thread-safe. The bitmaps combined by
+ * {@link #union(CatalogBitmap)} or {@link #intersection(CatalogBitmap)} must
+ * belong to the same catalog class.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogBitmap<E extends CodeSupport> {
+
+    /**
+     * The version of the serialized form
+     */
+    private static final byte VERSION = 1;
+
+    /**
+     * The maximum cardinality of the array container
+     */
+    private static final int ARRAY_MAX_CARDINALITY = 4096;
+
+    /**
+     * The number of the {@code long} words of the bitmap container
+     */
+    private static final int BITMAP_WORDS = 1024;
+
+    /**
+     * The type of the array container in the serialized form
+     */
+    private static final byte TYPE_ARRAY = 0;
+
+    /**
+     * The type of the bitmap container in the serialized form
+     */
+    private static final byte TYPE_BITMAP = 1;
+
+    /**
+     * The type of the run container in the serialized form
+     */
+    private static final byte TYPE_RUN = 2;
+
+    /**
+     * The index of the catalog class
+     */
+    private final CatalogIndex<E> index;
+
+    /**
+     * The keys of the containers in ascending order
+     */
+    private char[] keys;
+
+    /**
+     * The containers linked to the keys
+     */
+    private Container[] containers;
+
+    /**
+     * The number of the containers
+     */
+    private int size;
+
+    /**
+     * Constructor
+     *
+     * @param index    The index of the catalog class
+     * @param capacity The initial capacity of the containers
+     */
+    private CatalogBitmap(CatalogIndex<E> index, int capacity) {
+        this.index = index;
+        this.keys = new char[capacity];
+        this.containers = new Container[capacity];
+    }
+
+    /**
+     * Returns the new empty bitmap of the catalog class given as an argument.
+     *
+     * @param <E>   The type of Enum class
+     * @param clazz The catalog class that implements the {@link Catalog} or
+     *              {@link BiCatalog} interface
+     * @return The new empty bitmap
+     *
+     * @exception NullPointerException If {@code clazz} is {@code null}
+     */
+    public static <E extends CodeSupport> CatalogBitmap<E> of(Class<E> clazz) {
+        Objects.requireNonNull(clazz, "clazz must not be null");
+        return new CatalogBitmap<>(CatalogIndex.of(clazz), 4);
+    }
+
+    /**
+     * Returns the new bitmap of the catalog class that contains the Enum elements
+     * given as arguments.
+     *
+     * @param <E>      The type of Enum class
+     * @param clazz    The catalog class that implements the {@link Catalog} or
+     *                 {@link BiCatalog} interface
+     * @param elements The Enum elements
+     * @return The new bitmap that contains the Enum elements
+     *
+     * @exception NullPointerException If any argument is {@code null}
+     */
+    @SafeVarargs
+    public static <E extends CodeSupport> CatalogBitmap<E> of(Class<E> clazz, E... elements) {
+        final CatalogBitmap<E> bitmap = of(clazz);
+
+        for (final E element : elements) {
+            bitmap.add(element);
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * Adds the Enum element given as an argument.
+     *
+     * @param element The Enum element
+     * @return {@code true} if the bitmap did not contain the Enum element,
+     *         otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code element} is {@code null}
+     */
+    public boolean add(E element) {
+        return this.addUnchecked(element.getCode());
+    }
+
+    /**
+     * Adds the Enum element linked to the code value given as an argument.
+     *
+     * @param code The code value
+     * @return {@code true} if the bitmap did not contain the code value, otherwise
+     *         {@code false}
+     *
+     * @exception IllegalArgumentException If the code value is not defined in the
+     *                                     catalog class
+     */
+    public boolean addCode(int code) {
+
+        if (this.index.indexOfCode(code) < 0) {
+            throw new IllegalArgumentException(String.format("The code value %d is not defined", code));
+        }
+
+        return this.addUnchecked(code);
+    }
+
+    /**
+     * Removes the Enum element given as an argument.
+     *
+     * @param element The Enum element
+     * @return {@code true} if the bitmap contained the Enum element, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code element} is {@code null}
+     */
+    public boolean remove(E element) {
+        return this.removeCode(element.getCode());
+    }
+
+    /**
+     * Removes the code value given as an argument.
+     *
+     * @param code The code value
+     * @return {@code true} if the bitmap contained the code value, otherwise
+     *         {@code false}
+     */
+    public boolean removeCode(int code) {
+
+        final int position = this.search(high(code));
+
+        if (position < 0) {
+            return false;
+        }
+
+        final Container container = this.containers[position];
+        final int cardinality = container.cardinality();
+        final Container removed = container.remove(low(code));
+
+        if (removed.cardinality() == 0) {
+            System.arraycopy(this.keys, position + 1, this.keys, position, this.size - position - 1);
+            System.arraycopy(this.containers, position + 1, this.containers, position, this.size - position - 1);
+            this.containers[--this.size] = null;
+        } else {
+            this.containers[position] = removed;
+        }
+
+        return removed.cardinality() != cardinality;
+    }
+
+    /**
+     * Checks if the bitmap contains the Enum element given as an argument.
+     *
+     * @param element The Enum element
+     * @return {@code true} if the bitmap contains the Enum element, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code element} is {@code null}
+     */
+    public boolean contains(E element) {
+        return this.containsCode(element.getCode());
+    }
+
+    /**
+     * Checks if the bitmap contains the code value given as an argument.
+     *
+     * @param code The code value
+     * @return {@code true} if the bitmap contains the code value, otherwise
+     *         {@code false}
+     */
+    public boolean containsCode(int code) {
+        final int position = this.search(high(code));
+        return position >= 0 && this.containers[position].contains(low(code));
+    }
+
+    /**
+     * Returns the number of the code values in the bitmap.
+     *
+     * @return The number of the code values
+     */
+    public int getCardinality() {
+
+        int cardinality = 0;
+
+        for (int i = 0; i < this.size; i++) {
+            cardinality += this.containers[i].cardinality();
+        }
+
+        return cardinality;
+    }
+
+    /**
+     * Checks if the bitmap is empty.
+     *
+     * @return {@code true} if the bitmap is empty, otherwise {@code false}
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the new bitmap that contains the code values contained in this bitmap
+     * or the bitmap given as an argument.
+     *
+     * @param other The other bitmap of the same catalog class
+     * @return The union of the bitmaps
+     *
+     * @exception NullPointerException If {@code other} is {@code null}
+     */
+    public CatalogBitmap<E> union(CatalogBitmap<E> other) {
+
+        final CatalogBitmap<E> union = new CatalogBitmap<>(this.index, Math.max(1, this.size + other.size));
+        int i = 0;
+        int j = 0;
+
+        while (i < this.size && j < other.size) {
+            if (this.keys[i] < other.keys[j]) {
+                union.append(this.keys[i], this.containers[i].copy());
+                i++;
+            } else if (this.keys[i] > other.keys[j]) {
+                union.append(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                union.append(this.keys[i], Container.or(this.containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+
+        for (; i < this.size; i++) {
+            union.append(this.keys[i], this.containers[i].copy());
+        }
+
+        for (; j < other.size; j++) {
+            union.append(other.keys[j], other.containers[j].copy());
+        }
+
+        return union;
+    }
+
+    /**
+     * Returns the new bitmap that contains the code values contained in both this
+     * bitmap and the bitmap given as an argument.
+     *
+     * @param other The other bitmap of the same catalog class
+     * @return The intersection of the bitmaps
+     *
+     * @exception NullPointerException If {@code other} is {@code null}
+     */
+    public CatalogBitmap<E> intersection(CatalogBitmap<E> other) {
+
+        final int capacity = Math.max(1, Math.min(this.size, other.size));
+        final CatalogBitmap<E> intersection = new CatalogBitmap<>(this.index, capacity);
+        int i = 0;
+        int j = 0;
+
+        while (i < this.size && j < other.size) {
+            if (this.keys[i] < other.keys[j]) {
+                i++;
+            } else if (this.keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                final Container container = Container.and(this.containers[i], other.containers[j]);
+
+                if (container != null) {
+                    intersection.append(this.keys[i], container);
+                }
+
+                i++;
+                j++;
+            }
+        }
+
+        return intersection;
+    }
+
+    /**
+     * Converts the containers to the run containers where it makes the bitmap
+     * smaller.
+     *
+     * @return This bitmap
+     */
+    public CatalogBitmap<E> runOptimize() {
+
+        for (int i = 0; i < this.size; i++) {
+            this.containers[i] = this.containers[i].runOptimize();
+        }
+
+        return this;
+    }
+
+    /**
+     * Performs the action given as an argument for each code value in the bitmap
+     * in ascending order.
+     *
+     * @param action The action to be performed for each code value
+     *
+     * @exception NullPointerException If {@code action} is {@code null}
+     */
+    public void forEachCode(IntConsumer action) {
+        Objects.requireNonNull(action, "action must not be null");
+
+        for (int i = 0; i < this.size; i++) {
+            this.containers[i].forEach(this.keys[i], action);
+        }
+    }
+
+    /**
+     * Performs the action given as an argument for each Enum element in the bitmap
+     * in the order of the code value.
+     *
+     * @param action The action to be performed for each Enum element
+     *
+     * @exception NullPointerException If {@code action} is {@code null}
+     */
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action, "action must not be null");
+        this.forEachCode(code -> {
+            final int position = this.index.indexOfCode(code);
+
+            if (position >= 0) {
+                action.accept(this.index.get(position));
+            }
+        });
+    }
+
+    /**
+     * Returns the code values in the bitmap in ascending order.
+     *
+     * @return The code values in the bitmap
+     */
+    public int[] toCodeArray() {
+
+        final int[] codes = new int[this.getCardinality()];
+        final int[] position = new int[1];
+        this.forEachCode(code -> codes[position[0]++] = code);
+
+        return codes;
+    }
+
+    /**
+     * Writes the bitmap to the output given as an argument in the serialized form
+     * described in the class documentation.
+     *
+     * @param out The output
+     *
+     * @exception IOException If an I/O error occurs
+     */
+    public void serialize(DataOutput out) throws IOException {
+
+        out.writeByte(VERSION);
+        out.writeInt(this.size);
+
+        for (int i = 0; i < this.size; i++) {
+            out.writeShort(this.keys[i]);
+            this.containers[i].write(out);
+        }
+    }
+
+    /**
+     * Returns the serialized form of the bitmap.
+     *
+     * @return The serialized form of the bitmap
+     */
+    public byte[] toByteArray() {
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            this.serialize(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads the bitmap of the catalog class given as an argument from the input
+     * given as an argument.
+     *
+     * @param <E>   The type of Enum class
+     * @param clazz The catalog class
+     * @param in    The input
+     * @return The bitmap read from the input
+     *
+     * @exception IOException If an I/O error occurs or the input is not in the
+     *                        serialized form of the bitmap
+     */
+    public static <E extends CodeSupport> CatalogBitmap<E> deserialize(Class<E> clazz, DataInput in)
+            throws IOException {
+
+        final byte version = in.readByte();
+
+        if (version != VERSION) {
+            throw new IOException(String.format("Unsupported version %d", version));
+        }
+
+        final int size = in.readInt();
+
+        if (size < 0 || size > 65536) {
+            throw new IOException(String.format("Invalid number of containers %d", size));
+        }
+
+        final CatalogBitmap<E> bitmap = new CatalogBitmap<>(CatalogIndex.of(clazz), Math.max(1, size));
+
+        for (int i = 0; i < size; i++) {
+            final char key = in.readChar();
+
+            if (i > 0 && key <= bitmap.keys[i - 1]) {
+                throw new IOException("The keys of the containers are not in ascending order");
+            }
+
+            bitmap.append(key, Container.read(in));
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * Reads the bitmap of the catalog class given as an argument from the
+     * serialized form given as an argument.
+     *
+     * @param <E>   The type of Enum class
+     * @param clazz The catalog class
+     * @param bytes The serialized form of the bitmap
+     * @return The bitmap read from the serialized form
+     *
+     * @exception IllegalArgumentException If the bytes are not in the serialized
+     *                                     form of the bitmap
+     */
+    public static <E extends CodeSupport> CatalogBitmap<E> fromByteArray(Class<E> clazz, byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            return deserialize(clazz, in);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("The bytes are not in the serialized form of the bitmap", e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (!(obj instanceof CatalogBitmap)) {
+            return false;
+        }
+
+        final CatalogBitmap<?> other = (CatalogBitmap<?>) obj;
+
+        if (this.index != other.index || this.size != other.size) {
+            return false;
+        }
+
+        for (int i = 0; i < this.size; i++) {
+            if (this.keys[i] != other.keys[i]
+                    || !Arrays.equals(this.containers[i].toWords(), other.containers[i].toWords())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+
+        int hash = 1;
+
+        for (int i = 0; i < this.size; i++) {
+            hash = 31 * hash + this.keys[i];
+            hash = 31 * hash + Arrays.hashCode(this.containers[i].toWords());
+        }
+
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogBitmap [codes=" + Arrays.toString(this.toCodeArray()) + "]";
+    }
+
+    /**
+     * Adds the code value given as an argument without checking if it is defined.
+     *
+     * @param code The code value
+     * @return {@code true} if the bitmap did not contain the code value, otherwise
+     *         {@code false}
+     */
+    private boolean addUnchecked(int code) {
+
+        final char high = high(code);
+        int position = this.search(high);
+
+        if (position < 0) {
+            position = -position - 1;
+
+            if (this.size == this.keys.length) {
+                this.keys = Arrays.copyOf(this.keys, this.size * 2);
+                this.containers = Arrays.copyOf(this.containers, this.size * 2);
+            }
+
+            System.arraycopy(this.keys, position, this.keys, position + 1, this.size - position);
+            System.arraycopy(this.containers, position, this.containers, position + 1, this.size - position);
+
+            this.keys[position] = high;
+            this.containers[position] = new ArrayContainer();
+            this.size++;
+        }
+
+        final Container container = this.containers[position];
+        final int cardinality = container.cardinality();
+        this.containers[position] = container.add(low(code));
+
+        return this.containers[position].cardinality() != cardinality;
+    }
+
+    /**
+     * Appends the container given as an argument after the last container.
+     *
+     * @param key       The key of the container
+     * @param container The container
+     */
+    private void append(char key, Container container) {
+
+        if (this.size == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.size * 2);
+            this.containers = Arrays.copyOf(this.containers, this.size * 2);
+        }
+
+        this.keys[this.size] = key;
+        this.containers[this.size++] = container;
+    }
+
+    /**
+     * Searches the position of the container linked to the key given as an
+     * argument.
+     *
+     * @param key The key
+     * @return The position of the container, or {@code -(insertion point) - 1} if
+     *         there is no container linked to the key
+     */
+    private int search(char key) {
+        return Arrays.binarySearch(this.keys, 0, this.size, key);
+    }
+
+    /**
+     * Returns the key of the code value given as an argument. The sign bit is
+     * flipped so that the order of the keys matches the order of the code values.
+     *
+     * @param code The code value
+     * @return The key of the code value
+     */
+    private static char high(int code) {
+        return (char) ((code ^ Integer.MIN_VALUE) >>> 16);
+    }
+
+    /**
+     * Returns the lower 16 bits of the code value given as an argument.
+     *
+     * @param code The code value
+     * @return The lower 16 bits of the code value
+     */
+    private static char low(int code) {
+        return (char) code;
+    }
+
+    /**
+     * Returns the code value composed of the key and the lower 16 bits given as
+     * arguments.
+     *
+     * @param high The key
+     * @param low  The lower 16 bits
+     * @return The code value
+     */
+    private static int code(char high, int low) {
+        return ((high << 16) | low) ^ Integer.MIN_VALUE;
+    }
+
+    /**
+     * The container that holds the lower 16 bits of the code values sharing a key.
+     */
+    private abstract static class Container {
+
+        /**
+         * Checks if the container contains the value given as an argument.
+         *
+         * @param value The lower 16 bits of the code value
+         * @return {@code true} if the container contains the value, otherwise
+         *         {@code false}
+         */
+        abstract boolean contains(char value);
+
+        /**
+         * Adds the value given as an argument.
+         *
+         * @param value The lower 16 bits of the code value
+         * @return The container that contains the value, which may be a new
+         *         container of another type
+         */
+        abstract Container add(char value);
+
+        /**
+         * Removes the value given as an argument.
+         *
+         * @param value The lower 16 bits of the code value
+         * @return The container that does not contain the value, which may be a new
+         *         container of another type
+         */
+        abstract Container remove(char value);
+
+        /**
+         * Returns the number of the values.
+         *
+         * @return The number of the values
+         */
+        abstract int cardinality();
+
+        /**
+         * Sets the bits of the values to the words given as an argument.
+         *
+         * @param words The 1024 words of a bitmap
+         */
+        abstract void fill(long[] words);
+
+        /**
+         * Performs the action for each code value in ascending order.
+         *
+         * @param high   The key of the container
+         * @param action The action
+         */
+        abstract void forEach(char high, IntConsumer action);
+
+        /**
+         * Returns the copy of the container.
+         *
+         * @return The copy of the container
+         */
+        abstract Container copy();
+
+        /**
+         * Writes the container with its type.
+         *
+         * @param out The output
+         *
+         * @exception IOException If an I/O error occurs
+         */
+        abstract void write(DataOutput out) throws IOException;
+
+        /**
+         * Returns the values as the 1024 words of a bitmap.
+         *
+         * @return The values as a bitmap
+         */
+        long[] toWords() {
+            final long[] words = new long[BITMAP_WORDS];
+            this.fill(words);
+            return words;
+        }
+
+        /**
+         * Returns the run container if it is smaller than this container, otherwise
+         * this container.
+         *
+         * @return The smallest container
+         */
+        Container runOptimize() {
+            final long[] words = this.toWords();
+            final int runs = RunContainer.countRuns(words);
+            return RunContainer.sizeInBytes(runs) < this.sizeInBytes() ? RunContainer.fromWords(words, runs) : this;
+        }
+
+        /**
+         * Returns the size of the serialized form of the container.
+         *
+         * @return The size in bytes
+         */
+        abstract int sizeInBytes();
+
+        /**
+         * Returns the smallest container of array or bitmap that holds the values of
+         * the words given as an argument.
+         *
+         * @param words The 1024 words of a bitmap
+         * @return The container, or {@code null} if the words are empty
+         */
+        static Container fromWords(long[] words) {
+
+            final int cardinality = CatalogBits.cardinality(words);
+
+            if (cardinality == 0) {
+                return null;
+            } else if (cardinality > ARRAY_MAX_CARDINALITY) {
+                return new BitmapContainer(words, cardinality);
+            }
+
+            final char[] values = new char[cardinality];
+            int position = 0;
+
+            for (int i = CatalogBits.nextSetBit(words, 0); i >= 0; i = CatalogBits.nextSetBit(words, i + 1)) {
+                values[position++] = (char) i;
+            }
+
+            return new ArrayContainer(values, cardinality);
+        }
+
+        /**
+         * Returns the union of the containers given as arguments.
+         *
+         * @param first  The first container
+         * @param second The second container
+         * @return The union of the containers
+         */
+        static Container or(Container first, Container second) {
+
+            if (first instanceof ArrayContainer && second instanceof ArrayContainer
+                    && first.cardinality() + second.cardinality() <= ARRAY_MAX_CARDINALITY) {
+                return ArrayContainer.merge((ArrayContainer) first, (ArrayContainer) second);
+            }
+
+            final long[] words = first.toWords();
+            second.fill(words);
+
+            return fromWords(words);
+        }
+
+        /**
+         * Returns the intersection of the containers given as arguments.
+         *
+         * @param first  The first container
+         * @param second The second container
+         * @return The intersection of the containers, or {@code null} if it is empty
+         */
+        static Container and(Container first, Container second) {
+
+            if (second instanceof ArrayContainer) {
+                return ((ArrayContainer) second).filter(first);
+            } else if (first instanceof ArrayContainer) {
+                return ((ArrayContainer) first).filter(second);
+            }
+
+            final long[] words = first.toWords();
+            final long[] others = second.toWords();
+
+            for (int i = 0; i < words.length; i++) {
+                words[i] &= others[i];
+            }
+
+            return fromWords(words);
+        }
+
+        /**
+         * Reads the container with its type.
+         *
+         * @param in The input
+         * @return The container read from the input
+         *
+         * @exception IOException If an I/O error occurs or the input is not in the
+         *                        serialized form of the container
+         */
+        static Container read(DataInput in) throws IOException {
+
+            final byte type = in.readByte();
+
+            switch (type) {
+            case TYPE_ARRAY:
+                return ArrayContainer.read(in);
+            case TYPE_BITMAP:
+                return BitmapContainer.read(in);
+            case TYPE_RUN:
+                return RunContainer.read(in);
+            default:
+                throw new IOException(String.format("Unknown container type %d", type));
+            }
+        }
+    }
+
+    /**
+     * The container that holds the values as a sorted array.
+     */
+    private static final class ArrayContainer extends Container {
+
+        /**
+         * The values in ascending order
+         */
+        private char[] values;
+
+        /**
+         * The number of the values
+         */
+        private int cardinality;
+
+        /**
+         * Constructor
+         */
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        /**
+         * Constructor
+         *
+         * @param values      The values in ascending order
+         * @param cardinality The number of the values
+         */
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(this.values, 0, this.cardinality, value) >= 0;
+        }
+
+        @Override
+        Container add(char value) {
+
+            int position = Arrays.binarySearch(this.values, 0, this.cardinality, value);
+
+            if (position >= 0) {
+                return this;
+            } else if (this.cardinality == ARRAY_MAX_CARDINALITY) {
+                return new BitmapContainer(this.toWords(), this.cardinality).add(value);
+            }
+
+            position = -position - 1;
+
+            if (this.cardinality == this.values.length) {
+                this.values = Arrays.copyOf(this.values, Math.min(ARRAY_MAX_CARDINALITY, this.cardinality * 2));
+            }
+
+            System.arraycopy(this.values, position, this.values, position + 1, this.cardinality - position);
+            this.values[position] = value;
+            this.cardinality++;
+
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+
+            final int position = Arrays.binarySearch(this.values, 0, this.cardinality, value);
+
+            if (position >= 0) {
+                System.arraycopy(this.values, position + 1, this.values, position, this.cardinality - position - 1);
+                this.cardinality--;
+            }
+
+            return this;
+        }
+
+        @Override
+        int cardinality() {
+            return this.cardinality;
+        }
+
+        @Override
+        void fill(long[] words) {
+            for (int i = 0; i < this.cardinality; i++) {
+                CatalogBits.set(words, this.values[i]);
+            }
+        }
+
+        @Override
+        void forEach(char high, IntConsumer action) {
+            for (int i = 0; i < this.cardinality; i++) {
+                action.accept(code(high, this.values[i]));
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(this.values, Math.max(1, this.cardinality)), this.cardinality);
+        }
+
+        @Override
+        int sizeInBytes() {
+            return 2 + 2 * this.cardinality;
+        }
+
+        @Override
+        void write(DataOutput out) throws IOException {
+
+            out.writeByte(TYPE_ARRAY);
+            out.writeShort(this.cardinality - 1);
+
+            for (int i = 0; i < this.cardinality; i++) {
+                out.writeShort(this.values[i]);
+            }
+        }
+
+        /**
+         * Returns the values of this container contained in the container given as
+         * an argument.
+         *
+         * @param other The other container
+         * @return The intersection, or {@code null} if it is empty
+         */
+        Container filter(Container other) {
+
+            final char[] values = new char[this.cardinality];
+            int cardinality = 0;
+
+            for (int i = 0; i < this.cardinality; i++) {
+                if (other.contains(this.values[i])) {
+                    values[cardinality++] = this.values[i];
+                }
+            }
+
+            return cardinality == 0 ? null : new ArrayContainer(values, cardinality);
+        }
+
+        /**
+         * Returns the union of the array containers given as arguments.
+         *
+         * @param first  The first container
+         * @param second The second container
+         * @return The union of the containers
+         */
+        static Container merge(ArrayContainer first, ArrayContainer second) {
+
+            final char[] values = new char[first.cardinality + second.cardinality];
+            int cardinality = 0;
+            int i = 0;
+            int j = 0;
+
+            while (i < first.cardinality && j < second.cardinality) {
+                if (first.values[i] < second.values[j]) {
+                    values[cardinality++] = first.values[i++];
+                } else if (first.values[i] > second.values[j]) {
+                    values[cardinality++] = second.values[j++];
+                } else {
+                    values[cardinality++] = first.values[i++];
+                    j++;
+                }
+            }
+
+            while (i < first.cardinality) {
+                values[cardinality++] = first.values[i++];
+            }
+
+            while (j < second.cardinality) {
+                values[cardinality++] = second.values[j++];
+            }
+
+            return new ArrayContainer(values, cardinality);
+        }
+
+        /**
+         * Reads the array container without its type.
+         *
+         * @param in The input
+         * @return The array container
+         *
+         * @exception IOException If an I/O error occurs or the values are not in
+         *                        ascending order
+         */
+        static Container read(DataInput in) throws IOException {
+
+            final int cardinality = in.readUnsignedShort() + 1;
+
+            if (cardinality > ARRAY_MAX_CARDINALITY) {
+                throw new IOException(String.format("Invalid cardinality %d of the array container", cardinality));
+            }
+
+            final char[] values = new char[cardinality];
+
+            for (int i = 0; i < cardinality; i++) {
+                values[i] = in.readChar();
+
+                if (i > 0 && values[i] <= values[i - 1]) {
+                    throw new IOException("The values of the array container are not in ascending order");
+                }
+            }
+
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+
+    /**
+     * The container that holds the values as a bitmap of 65536 bits.
+     */
+    private static final class BitmapContainer extends Container {
+
+        /**
+         * The 1024 words of the bitmap
+         */
+        private final long[] words;
+
+        /**
+         * The number of the values
+         */
+        private int cardinality;
+
+        /**
+         * Constructor
+         *
+         * @param words       The 1024 words of the bitmap
+         * @param cardinality The number of the values
+         */
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return CatalogBits.get(this.words, value);
+        }
+
+        @Override
+        Container add(char value) {
+
+            if (!this.contains(value)) {
+                CatalogBits.set(this.words, value);
+                this.cardinality++;
+            }
+
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+
+            if (this.contains(value)) {
+                CatalogBits.clear(this.words, value);
+                this.cardinality--;
+
+                if (this.cardinality <= ARRAY_MAX_CARDINALITY) {
+                    final Container container = fromWords(this.words);
+                    return container == null ? new ArrayContainer() : container;
+                }
+            }
+
+            return this;
+        }
+
+        @Override
+        int cardinality() {
+            return this.cardinality;
+        }
+
+        @Override
+        void fill(long[] words) {
+            CatalogBits.or(words, 0, this.words, 0, BITMAP_WORDS);
+        }
+
+        @Override
+        void forEach(char high, IntConsumer action) {
+            for (int i = CatalogBits.nextSetBit(this.words, 0); i >= 0; i = CatalogBits.nextSetBit(this.words, i + 1)) {
+                action.accept(code(high, i));
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(this.words.clone(), this.cardinality);
+        }
+
+        @Override
+        int sizeInBytes() {
+            return 8 * BITMAP_WORDS;
+        }
+
+        @Override
+        void write(DataOutput out) throws IOException {
+
+            out.writeByte(TYPE_BITMAP);
+
+            for (final long word : this.words) {
+                out.writeLong(word);
+            }
+        }
+
+        /**
+         * Reads the bitmap container without its type.
+         *
+         * @param in The input
+         * @return The bitmap container
+         *
+         * @exception IOException If an I/O error occurs or the bitmap is empty
+         */
+        static Container read(DataInput in) throws IOException {
+
+            final long[] words = new long[BITMAP_WORDS];
+
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] = in.readLong();
+            }
+
+            final int cardinality = CatalogBits.cardinality(words);
+
+            if (cardinality == 0) {
+                throw new IOException("The bitmap container is empty");
+            }
+
+            return cardinality > ARRAY_MAX_CARDINALITY ? new BitmapContainer(words, cardinality) : fromWords(words);
+        }
+    }
+
+    /**
+     * The container that holds the values as runs of consecutive values.
+     */
+    private static final class RunContainer extends Container {
+
+        /**
+         * The start values of the runs in ascending order
+         */
+        private final char[] starts;
+
+        /**
+         * The lengths of the runs minus one
+         */
+        private final char[] lengths;
+
+        /**
+         * The number of the values
+         */
+        private final int cardinality;
+
+        /**
+         * Constructor
+         *
+         * @param starts  The start values of the runs in ascending order
+         * @param lengths The lengths of the runs minus one
+         */
+        RunContainer(char[] starts, char[] lengths) {
+
+            this.starts = starts;
+            this.lengths = lengths;
+
+            int cardinality = 0;
+
+            for (final char length : lengths) {
+                cardinality += length + 1;
+            }
+
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+
+            int low = 0;
+            int high = this.starts.length - 1;
+
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+
+                if (this.starts[middle] <= value) {
+                    if (value - this.starts[middle] <= this.lengths[middle]) {
+                        return true;
+                    }
+
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        Container add(char value) {
+            return this.contains(value) ? this : fromWords(this.toWords()).add(value);
+        }
+
+        @Override
+        Container remove(char value) {
+
+            if (!this.contains(value)) {
+                return this;
+            }
+
+            final Container container = fromWords(this.toWords());
+            return container.remove(value);
+        }
+
+        @Override
+        int cardinality() {
+            return this.cardinality;
+        }
+
+        @Override
+        void fill(long[] words) {
+            for (int i = 0; i < this.starts.length; i++) {
+                final int start = this.starts[i];
+                final int end = start + this.lengths[i];
+                final int firstWord = start >>> 6;
+                final int lastWord = end >>> 6;
+
+                if (firstWord == lastWord) {
+                    words[firstWord] |= (-1L >>> (63 - (end - start))) << start;
+                    continue;
+                }
+
+                words[firstWord] |= -1L << start;
+
+                for (int word = firstWord + 1; word < lastWord; word++) {
+                    words[word] = -1L;
+                }
+
+                words[lastWord] |= -1L >>> (63 - (end & 63));
+            }
+        }
+
+        @Override
+        void forEach(char high, IntConsumer action) {
+            for (int i = 0; i < this.starts.length; i++) {
+                final int end = this.starts[i] + this.lengths[i];
+
+                for (int value = this.starts[i]; value <= end; value++) {
+                    action.accept(code(high, value));
+                }
+            }
+        }
+
+        @Override
+        Container copy() {
+            return this;
+        }
+
+        @Override
+        Container runOptimize() {
+            return this;
+        }
+
+        @Override
+        int sizeInBytes() {
+            return sizeInBytes(this.starts.length);
+        }
+
+        @Override
+        void write(DataOutput out) throws IOException {
+
+            out.writeByte(TYPE_RUN);
+            out.writeShort(this.starts.length);
+
+            for (int i = 0; i < this.starts.length; i++) {
+                out.writeShort(this.starts[i]);
+                out.writeShort(this.lengths[i]);
+            }
+        }
+
+        /**
+         * Returns the size of the serialized form of the run container that has the
+         * number of the runs given as an argument.
+         *
+         * @param runs The number of the runs
+         * @return The size in bytes
+         */
+        static int sizeInBytes(int runs) {
+            return 2 + 4 * runs;
+        }
+
+        /**
+         * Counts the runs of the words given as an argument.
+         *
+         * @param words The 1024 words of a bitmap
+         * @return The number of the runs
+         */
+        static int countRuns(long[] words) {
+
+            int runs = 0;
+            long carry = 0;
+
+            for (final long word : words) {
+                runs += Long.bitCount(word & ~((word << 1) | carry));
+                carry = word >>> 63;
+            }
+
+            return runs;
+        }
+
+        /**
+         * Returns the run container that holds the values of the words given as an
+         * argument.
+         *
+         * @param words The 1024 words of a bitmap
+         * @param runs  The number of the runs
+         * @return The run container
+         */
+        static Container fromWords(long[] words, int runs) {
+
+            final char[] starts = new char[runs];
+            final char[] lengths = new char[runs];
+            int run = -1;
+            int previous = -2;
+
+            int value = CatalogBits.nextSetBit(words, 0);
+
+            while (value >= 0) {
+                if (value != previous + 1) {
+                    starts[++run] = (char) value;
+                }
+
+                lengths[run] = (char) (value - starts[run]);
+                previous = value;
+                value = CatalogBits.nextSetBit(words, value + 1);
+            }
+
+            return new RunContainer(starts, lengths);
+        }
+
+        /**
+         * Reads the run container without its type.
+         *
+         * @param in The input
+         * @return The run container
+         *
+         * @exception IOException If an I/O error occurs or the runs are not in
+         *                        ascending order
+         */
+        static Container read(DataInput in) throws IOException {
+
+            final int runs = in.readUnsignedShort();
+
+            if (runs == 0) {
+                throw new IOException("The run container is empty");
+            }
+
+            final char[] starts = new char[runs];
+            final char[] lengths = new char[runs];
+
+            for (int i = 0; i < runs; i++) {
+                starts[i] = in.readChar();
+                lengths[i] = in.readChar();
+
+                if (starts[i] + lengths[i] > Character.MAX_VALUE
+                        || (i > 0 && starts[i] <= starts[i - 1] + lengths[i - 1] + 1)) {
+                    throw new IOException("The runs of the run container are not in ascending order");
+                }
+            }
+
+            return new RunContainer(starts, lengths);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+/**
+ * The utility class that operates on a bitset over the dense index of a catalog
+ * class held in an array of {@code long} words.
+ *
+ * <p>
+ * The bit of the dense index {@code i} is the bit {@code i % 64} of the word
+ * {@code i / 64}, which is the same layout as the argument of
+ * {@link java.util.BitSet#valueOf(long[])}. A bit matrix is held as consecutive
+ * rows of the same number of words in a single array, and each row is addressed
+ * by the offset of its first word.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+final class CatalogBits {
+
+    /**
+     * Constructor
+     */
+    private CatalogBits() {
+    }
+
+    /**
+     * Returns the number of the words that hold the bits given as an argument.
+     *
+     * @param bits The number of the bits
+     * @return The number of the words
+     */
+    static int wordCount(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    /**
+     * Returns the new empty bitset that holds the bits given as an argument.
+     *
+     * @param bits The number of the bits
+     * @return The new empty bitset
+     */
+    static long[] create(int bits) {
+        return new long[wordCount(bits)];
+    }
+
+    /**
+     * Tests the bit given as an argument.
+     *
+     * @param words The words of the bitset
+     * @param bit   The bit
+     * @return {@code true} if the bit is set, otherwise {@code false}
+     */
+    static boolean get(long[] words, int bit) {
+        return get(words, 0, bit);
+    }
+
+    /**
+     * Tests the bit given as an argument in the row that starts at the offset
+     * given as an argument.
+     *
+     * @param words  The words of the bit matrix
+     * @param offset The offset of the first word of the row
+     * @param bit    The bit in the row
+     * @return {@code true} if the bit is set, otherwise {@code false}
+     */
+    static boolean get(long[] words, int offset, int bit) {
+        return (words[offset + (bit >>> 6)] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Sets the bit given as an argument.
+     *
+     * @param words The words of the bitset
+     * @param bit   The bit
+     */
+    static void set(long[] words, int bit) {
+        set(words, 0, bit);
+    }
+
+    /**
+     * Sets the bit given as an argument in the row that starts at the offset given
+     * as an argument.
+     *
+     * @param words  The words of the bit matrix
+     * @param offset The offset of the first word of the row
+     * @param bit    The bit in the row
+     */
+    static void set(long[] words, int offset, int bit) {
+        words[offset + (bit >>> 6)] |= 1L << bit;
+    }
+
+    /**
+     * Clears the bit given as an argument.
+     *
+     * @param words The words of the bitset
+     * @param bit   The bit
+     */
+    static void clear(long[] words, int bit) {
+        words[bit >>> 6] &= ~(1L << bit);
+    }
+
+    /**
+     * Sets the bits of the source row to the target row.
+     *
+     * @param target       The words of the target
+     * @param targetOffset The offset of the first word of the target row
+     * @param source       The words of the source
+     * @param sourceOffset The offset of the first word of the source row
+     * @param length       The number of the words of each row
+     */
+    static void or(long[] target, int targetOffset, long[] source, int sourceOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            target[targetOffset + i] |= source[sourceOffset + i];
+        }
+    }
+
+    /**
+     * Returns the number of the set bits.
+     *
+     * @param words The words of the bitset
+     * @return The number of the set bits
+     */
+    static int cardinality(long[] words) {
+        return cardinality(words, 0, words.length);
+    }
+
+    /**
+     * Returns the number of the set bits in the row that starts at the offset
+     * given as an argument.
+     *
+     * @param words  The words of the bit matrix
+     * @param offset The offset of the first word of the row
+     * @param length The number of the words of the row
+     * @return The number of the set bits
+     */
+    static int cardinality(long[] words, int offset, int length) {
+
+        int cardinality = 0;
+
+        for (int i = 0; i < length; i++) {
+            cardinality += Long.bitCount(words[offset + i]);
+        }
+
+        return cardinality;
+    }
+
+    /**
+     * Returns the first set bit from the bit given as an argument.
+     *
+     * @param words The words of the bitset
+     * @param from  The bit from which the bits are searched
+     * @return The first set bit, or {@code -1} if there is no such bit
+     */
+    static int nextSetBit(long[] words, int from) {
+        return nextSetBit(words, 0, words.length, from);
+    }
+
+    /**
+     * Returns the first set bit from the bit given as an argument in the row that
+     * starts at the offset given as an argument.
+     *
+     * @param words  The words of the bit matrix
+     * @param offset The offset of the first word of the row
+     * @param length The number of the words of the row
+     * @param from   The bit in the row from which the bits are searched
+     * @return The first set bit in the row, or {@code -1} if there is no such bit
+     */
+    static int nextSetBit(long[] words, int offset, int length, int from) {
+
+        int w = from >>> 6;
+
+        if (w >= length) {
+            return -1;
+        }
+
+        long word = words[offset + w] & (-1L << from);
+
+        while (true) {
+            if (word != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+
+            if (++w == length) {
+                return -1;
+            }
+
+            word = words[offset + w];
+        }
+    }
+
+    /**
+     * Returns the last bit that is set in both rows given as arguments.
+     *
+     * @param words  The words of the bit matrix
+     * @param first  The offset of the first word of the first row
+     * @param second The offset of the first word of the second row
+     * @param length The number of the words of each row
+     * @return The last common set bit, or {@code -1} if there is no such bit
+     */
+    static int lastCommonSetBit(long[] words, int first, int second, int length) {
+
+        for (int i = length - 1; i >= 0; i--) {
+            final long common = words[first + i] & words[second + i];
+
+            if (common != 0) {
+                return (i << 6) + 63 - Long.numberOfLeadingZeros(common);
+            }
+        }
+
+        return -1;
+    }
+}
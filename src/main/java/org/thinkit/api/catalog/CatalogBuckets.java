@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * The class that holds the records sorted by the Enum element of a catalog
+ * class and the boundaries of the records of each Enum element.
+ *
+ * <p>
+ * The instance of this class is the result of the methods of
+ * {@link CatalogSorter}. The records of each Enum element are the contiguous
+ * range from {@link #getStart(CodeSupport)} to {@link #getEnd(CodeSupport)} of
+ * {@link #getRecords()}, and are returned as a view by
+ * {@link #get(CodeSupport)}. When the records were sorted in place, the views
+ * reflect the later changes of the sorted list or array.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogBuckets<E extends CodeSupport, R> {
+
+    /**
+     * The index of the catalog class
+     */
+    private final CatalogIndex<E> index;
+
+    /**
+     * The sorted records
+     */
+    private final List<R> records;
+
+    /**
+     * The start of the records of each Enum element, followed by the number of
+     * the records
+     */
+    private final int[] offsets;
+
+    /**
+     * Constructor
+     *
+     * @param index   The index of the catalog class
+     * @param records The sorted records
+     * @param offsets The start of the records of each Enum element, followed by
+     *                the number of the records
+     */
+    CatalogBuckets(CatalogIndex<E> index, List<R> records, int[] offsets) {
+        this.index = index;
+        this.records = records;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Returns the unmodifiable view of the sorted records.
+     *
+     * @return The sorted records
+     */
+    public List<R> getRecords() {
+        return this.records;
+    }
+
+    /**
+     * Returns the unmodifiable view of the records of the Enum element given as an
+     * argument.
+     *
+     * @param element The Enum element
+     * @return The records of the Enum element
+     */
+    public List<R> get(E element) {
+        final int position = this.index.indexOf(element);
+        return this.records.subList(this.offsets[position], this.offsets[position + 1]);
+    }
+
+    /**
+     * Returns the position of the first record of the Enum element given as an
+     * argument.
+     *
+     * @param element The Enum element
+     * @return The position of the first record of the Enum element
+     */
+    public int getStart(E element) {
+        return this.offsets[this.index.indexOf(element)];
+    }
+
+    /**
+     * Returns the position following the last record of the Enum element given as
+     * an argument.
+     *
+     * @param element The Enum element
+     * @return The position following the last record of the Enum element
+     */
+    public int getEnd(E element) {
+        return this.offsets[this.index.indexOf(element) + 1];
+    }
+
+    /**
+     * Returns the number of the records of the Enum element given as an argument.
+     *
+     * @param element The Enum element
+     * @return The number of the records of the Enum element
+     */
+    public int getCount(E element) {
+        final int position = this.index.indexOf(element);
+        return this.offsets[position + 1] - this.offsets[position];
+    }
+
+    /**
+     * Returns the boundaries of the records of the Enum elements. The element at
+     * position {@code i} of the returned array is the start of the records of the
+     * Enum element at position {@code i} in the order of the code value, and the
+     * last element is the number of the records.
+     *
+     * @return The copy of the boundaries
+     */
+    public int[] getBoundaries() {
+        return this.offsets.clone();
+    }
+
+    /**
+     * Performs the action given as an argument for the records of each Enum
+     * element that has at least one record in the order of the code value.
+     *
+     * @param action The action for the Enum element and its records
+     */
+    public void forEach(BiConsumer<? super E, ? super List<R>> action) {
+        for (int i = 0, size = this.index.size(); i < size; i++) {
+            if (this.offsets[i] < this.offsets[i + 1]) {
+                action.accept(this.index.get(i), this.records.subList(this.offsets[i], this.offsets[i + 1]));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("CatalogBuckets[");
+
+        for (int i = 0, size = this.index.size(); i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+
+            builder.append(this.index.get(i)).append('=').append(this.offsets[i + 1] - this.offsets[i]);
+        }
+
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.Objects;
+
+/**
+ * The class that validates arrays of code values against the code values
+ * defined in a catalog class.
+ *
+ * <p>
+ * The validator chooses how to check the code values when it is created for each
+ * catalog class. If the defined code values are contiguous, a code value is
+ * valid if it is in the range from the smallest to the largest defined code
+ * value. If they are not contiguous but the range is small enough, each code
+ * value is also tested against a bitset over the range. Otherwise each code value
+ * is looked up in the index of the catalog class.
+ *
+ * <p>
+ * On Java 17 and later, the range check and the bitset membership test are
+ * vectorized with the Vector API if the {@code jdk.incubator.vector} module is
+ * resolved, for example by {@code --add-modules jdk.incubator.vector}. The
+ * result of the validation does not depend on whether the Vector API is used,
+ * which is reported by {@link #isVectorized()}.
+ *
+ * <pre>
+ * <code>
+ * final CatalogCodeValidator&lt;EnumClass&gt; validator = CatalogCodeValidator.of(EnumClass.class);
+ * final int invalid = validator.indexOfInvalid(codes);
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogCodeValidator<E extends CodeSupport> {
+
+    /**
+     * The maximum number of the bits of the bitset over the range of the code
+     * values
+     */
+    private static final long MAX_BITSET_BITS = 1L << 20;
+
+    /**
+     * The cache of the validator for each catalog class
+     */
+    private static final ClassValue<CatalogCodeValidator<?>> VALIDATORS = new ClassValue<>() {
+
+        @Override
+        protected CatalogCodeValidator<?> computeValue(Class<?> type) {
+            return new CatalogCodeValidator<>(CatalogIndex.of(type));
+        }
+    };
+
+    /**
+     * The index of the catalog class
+     */
+    private final CatalogIndex<E> index;
+
+    /**
+     * The smallest defined code value
+     */
+    private final int min;
+
+    /**
+     * The largest defined code value
+     */
+    private final int max;
+
+    /**
+     * Whether the defined code values are contiguous
+     */
+    private final boolean contiguous;
+
+    /**
+     * The bitset of the defined code values over the range, or {@code null} if the
+     * range is too large
+     */
+    private final int[] words;
+
+    /**
+     * Constructor
+     *
+     * @param index The index of the catalog class
+     */
+    private CatalogCodeValidator(CatalogIndex<E> index) {
+        this.index = index;
+
+        final int size = index.size();
+
+        if (size == 0) {
+            this.min = 0;
+            this.max = 0;
+            this.contiguous = false;
+            this.words = null;
+            return;
+        }
+
+        this.min = index.codeAt(0);
+        this.max = index.codeAt(size - 1);
+
+        final long range = (long) this.max - this.min + 1;
+        int distinct = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || index.codeAt(i) != index.codeAt(i - 1)) {
+                distinct++;
+            }
+        }
+
+        this.contiguous = distinct == range;
+
+        if (this.contiguous || range > MAX_BITSET_BITS) {
+            this.words = null;
+            return;
+        }
+
+        this.words = new int[(int) ((range + 31) >>> 5)];
+
+        for (int i = 0; i < size; i++) {
+            final int offset = index.codeAt(i) - this.min;
+            this.words[offset >>> 5] |= 1 << offset;
+        }
+    }
+
+    /**
+     * Returns the validator of the catalog class given as an argument.
+     *
+     * @param <E>   The type of Enum class
+     * @param clazz The catalog class that implements the {@link Catalog} or
+     *              {@link BiCatalog} interface
+     * @return The validator of the catalog class
+     *
+     * @exception NullPointerException If {@code clazz} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends CodeSupport> CatalogCodeValidator<E> of(Class<E> clazz) {
+        Objects.requireNonNull(clazz, "clazz must not be null");
+        return (CatalogCodeValidator<E>) VALIDATORS.get(clazz);
+    }
+
+    /**
+     * Checks if the code values are validated with the Vector API.
+     *
+     * @return {@code true} if the code values are validated with the Vector API,
+     *         otherwise {@code false}
+     */
+    public static boolean isVectorized() {
+        return CodeValidationKernel.isVectorized();
+    }
+
+    /**
+     * Checks if all of the code values given as an argument are defined in the
+     * catalog class.
+     *
+     * @param codes The code values
+     * @return {@code true} if all of the code values are defined, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code codes} is {@code null}
+     */
+    public boolean isValid(int[] codes) {
+        return this.indexOfInvalid(codes) < 0;
+    }
+
+    /**
+     * Returns the position of the first code value that is not defined in the
+     * catalog class.
+     *
+     * @param codes The code values
+     * @return The position of the first undefined code value, or {@code -1} if all
+     *         of the code values are defined
+     *
+     * @exception NullPointerException If {@code codes} is {@code null}
+     */
+    public int indexOfInvalid(int[] codes) {
+        Objects.requireNonNull(codes, "codes must not be null");
+        return this.scan(codes, 0, codes.length);
+    }
+
+    /**
+     * Returns the position of the first code value that is not defined in the
+     * catalog class within the range of the positions given as arguments.
+     *
+     * @param codes The code values
+     * @param from  The first position to be validated, inclusive
+     * @param to    The last position to be validated, exclusive
+     * @return The position of the first undefined code value, or {@code -1} if all
+     *         of the code values in the range are defined
+     *
+     * @exception NullPointerException      If {@code codes} is {@code null}
+     * @exception IndexOutOfBoundsException If the range is out of bounds
+     */
+    public int indexOfInvalid(int[] codes, int from, int to) {
+        Objects.requireNonNull(codes, "codes must not be null");
+        Objects.checkFromToIndex(from, to, codes.length);
+        return this.scan(codes, from, to);
+    }
+
+    /**
+     * Returns the number of the code values that are not defined in the catalog
+     * class.
+     *
+     * @param codes The code values
+     * @return The number of the undefined code values
+     *
+     * @exception NullPointerException If {@code codes} is {@code null}
+     */
+    public int countInvalid(int[] codes) {
+        Objects.requireNonNull(codes, "codes must not be null");
+
+        int count = 0;
+
+        for (int i = this.scan(codes, 0, codes.length); i >= 0; i = this.scan(codes, i + 1, codes.length)) {
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the position of the first undefined code value within the range.
+     *
+     * @param codes The code values
+     * @param from  The first position to be validated, inclusive
+     * @param to    The last position to be validated, exclusive
+     * @return The position of the first undefined code value, or {@code -1}
+     */
+    private int scan(int[] codes, int from, int to) {
+
+        if (this.index.size() == 0) {
+            return from < to ? from : -1;
+        }
+
+        if (this.contiguous) {
+            return CodeValidationKernel.indexOfOutOfRange(codes, from, to, this.min, this.max);
+        }
+
+        if (this.words != null) {
+            return CodeValidationKernel.indexOfNonMember(codes, from, to, this.min, this.max, this.words);
+        }
+
+        for (int i = from; i < to; i++) {
+            if (this.index.indexOfCode(codes[i]) < 0) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
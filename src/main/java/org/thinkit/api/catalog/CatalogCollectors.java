@@ -0,0 +1,384 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+/**
+ * The class that provides the {@link Collector} implementations that aggregate
+ * the records of a stream by the Enum elements of a catalog class.
+ *
+ * <p>
+ * Unlike the combination of {@link java.util.stream.Collectors#groupingBy(Function)}
+ * and {@link java.util.stream.Collectors#counting()}, the collectors of this
+ * class accumulate into arrays indexed by the position of each Enum element in
+ * the order of the code value. No {@link java.util.HashMap} is created and no
+ * count is boxed for each record, and the partial results of a parallel stream
+ * are combined by adding or merging the arrays element by element.
+ *
+ * <pre>
+ * <code>
+ * final CatalogCounts&lt;Status&gt; counts = records.parallelStream()
+ *         .collect(CatalogCollectors.toCountsByCode(Status.class, Record::getStatusCode));
+ *
+ * counts.get(Status.ACTIVE);
+ * counts.getByCode(0);
+ * counts.getUnknown();
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogCollectors {
+
+    /**
+     * Constructor
+     */
+    private CatalogCollectors() {
+    }
+
+    /**
+     * Returns the {@link Collector} that counts the records by the Enum element to
+     * which the classifier given as an argument maps each record.
+     *
+     * @param <T>        The type of record
+     * @param <E>        The type of Enum class
+     * @param clazz      The catalog class
+     * @param classifier The classifier that maps each record to the Enum element
+     * @return The {@link Collector} that counts the records by the Enum element
+     *
+     * @exception NullPointerException If any argument is {@code null}. When the
+     *                                 classifier maps a record to {@code null},
+     *                                 {@link NullPointerException} is thrown by the
+     *                                 accumulation
+     */
+    public static <T, E extends CodeSupport> Collector<T, ?, CatalogCounts<E>> toCounts(Class<E> clazz,
+            Function<? super T, ? extends E> classifier) {
+        Objects.requireNonNull(clazz, "clazz must not be null");
+        Objects.requireNonNull(classifier, "classifier must not be null");
+
+        final CatalogIndex<E> index = CatalogIndex.of(clazz);
+
+        return Collector.of(() -> new long[index.size() + 1], (counts, record) -> {
+            final E element = Objects.requireNonNull(classifier.apply(record), "element must not be null");
+            counts[index.indexOf(element)]++;
+        }, CatalogCollectors::add, counts -> new CatalogCounts<>(index, counts), Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns the {@link Collector} that counts the records by the Enum element
+     * linked to the code value that the function given as an argument extracts
+     * from each record. The records whose code value is not defined in the catalog
+     * class are counted separately and are reported by
+     * {@link CatalogCounts#getUnknown()}.
+     *
+     * @param <T>           The type of record
+     * @param <E>           The type of Enum class
+     * @param clazz         The catalog class
+     * @param codeExtractor The function that extracts the code value from each
+     *                      record
+     * @return The {@link Collector} that counts the records by the code value
+     *
+     * @exception NullPointerException If any argument is {@code null}
+     */
+    public static <T, E extends CodeSupport> Collector<T, ?, CatalogCounts<E>> toCountsByCode(Class<E> clazz,
+            ToIntFunction<? super T> codeExtractor) {
+        Objects.requireNonNull(clazz, "clazz must not be null");
+        Objects.requireNonNull(codeExtractor, "codeExtractor must not be null");
+
+        final CatalogIndex<E> index = CatalogIndex.of(clazz);
+        final int unknown = index.size();
+
+        return Collector.of(() -> new long[unknown + 1], (counts, record) -> {
+            final int element = index.indexOfCode(codeExtractor.applyAsInt(record));
+            counts[element < 0 ? unknown : element]++;
+        }, CatalogCollectors::add, counts -> new CatalogCounts<>(index, counts), Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns the {@link Collector} that collects the Enum elements into a
+     * {@link CatalogSet}.
+     *
+     * @param <E>   The type of Enum class
+     * @param clazz The catalog class
+     * @return The {@link Collector} that collects the Enum elements into a
+     *         {@link CatalogSet}
+     *
+     * @exception NullPointerException If {@code clazz} is {@code null}. When the
+     *                                 stream contains {@code null},
+     *                                 {@link NullPointerException} is thrown by the
+     *                                 accumulation
+     */
+    public static <E extends CodeSupport> Collector<E, ?, CatalogSet<E>> toCatalogSet(Class<E> clazz) {
+        Objects.requireNonNull(clazz, "clazz must not be null");
+
+        final CatalogIndex<E> index = CatalogIndex.of(clazz);
+
+        return Collector.of(() -> CatalogBits.create(index.size()), (words, element) -> {
+            CatalogBits.set(words, index.indexOf(Objects.requireNonNull(element, "element must not be null")));
+        }, (left, right) -> {
+            CatalogBits.or(left, 0, right, 0, left.length);
+            return left;
+        }, words -> new CatalogSet<>(clazz, index, words), Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns the {@link Collector} that groups the records by the Enum element to
+     * which the classifier given as an argument maps each record, and reduces the
+     * records of each group by the downstream {@link Collector}.
+     *
+     * <p>
+     * The result is the unmodifiable {@link Map} that contains only the Enum
+     * elements that have at least one record, and its entries are iterated in the
+     * order of the code value. As with
+     * {@link java.util.stream.Collectors#groupingBy(Function, Collector)}, the Enum
+     * element is kept in the result even if the downstream {@link Collector}
+     * reduces its records to {@code null}. The containers of the downstream {@link Collector}
+     * are held in an array indexed by the position of each Enum element in the
+     * order of the code value, so neither the accumulation nor the lookup of the
+     * result computes any hash code.
+     *
+     * @param <T>        The type of record
+     * @param <E>        The type of Enum class
+     * @param <A>        The type of the container of the downstream
+     *                   {@link Collector}
+     * @param <D>        The type of the result of the downstream {@link Collector}
+     * @param clazz      The catalog class
+     * @param classifier The classifier that maps each record to the Enum element
+     * @param downstream The {@link Collector} that reduces the records of each
+     *                   group
+     * @return The {@link Collector} that groups the records by the Enum element
+     *
+     * @exception NullPointerException If any argument is {@code null}. When the
+     *                                 classifier maps a record to {@code null},
+     *                                 {@link NullPointerException} is thrown by the
+     *                                 accumulation
+     */
+    public static <T, E extends CodeSupport, A, D> Collector<T, ?, Map<E, D>> groupingByCatalog(Class<E> clazz,
+            Function<? super T, ? extends E> classifier, Collector<? super T, A, D> downstream) {
+        Objects.requireNonNull(clazz, "clazz must not be null");
+        Objects.requireNonNull(classifier, "classifier must not be null");
+        Objects.requireNonNull(downstream, "downstream must not be null");
+
+        final CatalogIndex<E> index = CatalogIndex.of(clazz);
+        final Supplier<A> supplier = downstream.supplier();
+        final BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+        final BinaryOperator<A> combiner = downstream.combiner();
+        final Function<A, D> finisher = downstream.finisher();
+
+        final BiConsumer<Object[], T> groupAccumulator = (containers, record) -> {
+            final E element = Objects.requireNonNull(classifier.apply(record), "element must not be null");
+            final int position = index.indexOf(element);
+
+            if (containers[position] == null) {
+                containers[position] = supplier.get();
+            }
+
+            @SuppressWarnings("unchecked")
+            final A container = (A) containers[position];
+            accumulator.accept(container, record);
+        };
+
+        final BinaryOperator<Object[]> groupCombiner = (left, right) -> {
+            for (int i = 0; i < left.length; i++) {
+                if (left[i] == null) {
+                    left[i] = right[i];
+                } else if (right[i] != null) {
+                    @SuppressWarnings("unchecked")
+                    final A merged = combiner.apply((A) left[i], (A) right[i]);
+                    left[i] = merged;
+                }
+            }
+
+            return left;
+        };
+
+        final Function<Object[], Map<E, D>> groupFinisher = containers -> {
+            final long[] groups = CatalogBits.create(containers.length);
+
+            for (int i = 0; i < containers.length; i++) {
+                if (containers[i] != null) {
+                    CatalogBits.set(groups, i);
+
+                    @SuppressWarnings("unchecked")
+                    final D result = finisher.apply((A) containers[i]);
+                    containers[i] = result;
+                }
+            }
+
+            return new GroupMap<>(clazz, index, containers, groups);
+        };
+
+        if (downstream.characteristics().contains(Collector.Characteristics.UNORDERED)) {
+            return Collector.of(() -> new Object[index.size()], groupAccumulator, groupCombiner, groupFinisher,
+                    Collector.Characteristics.UNORDERED);
+        }
+
+        return Collector.of(() -> new Object[index.size()], groupAccumulator, groupCombiner, groupFinisher);
+    }
+
+    /**
+     * Adds the counts of the second array to the first array.
+     *
+     * @param left  The first array
+     * @param right The second array
+     * @return The first array
+     */
+    private static long[] add(long[] left, long[] right) {
+        for (int i = 0; i < left.length; i++) {
+            left[i] += right[i];
+        }
+
+        return left;
+    }
+
+    /**
+     * The unmodifiable {@link Map} from the Enum elements to the results of the
+     * groups held in an array indexed by the dense index.
+     *
+     * @param <E> The type of Enum class
+     * @param <D> The type of the result of each group
+     */
+    private static final class GroupMap<E extends CodeSupport, D> extends AbstractMap<E, D> {
+
+        /**
+         * The catalog class
+         */
+        private final Class<E> type;
+
+        /**
+         * The index of the catalog class
+         */
+        private final CatalogIndex<E> index;
+
+        /**
+         * The result of each group indexed by the dense index, which may be
+         * {@code null} if the downstream {@link Collector} returns {@code null}
+         */
+        private final Object[] results;
+
+        /**
+         * The bits of the groups that have at least one record
+         */
+        private final long[] groups;
+
+        /**
+         * The number of the groups that have at least one record
+         */
+        private final int size;
+
+        /**
+         * The entries, which is created on first use
+         */
+        private Set<Map.Entry<E, D>> entries;
+
+        /**
+         * Constructor
+         *
+         * @param type    The catalog class
+         * @param index   The index of the catalog class
+         * @param results The result of each group indexed by the dense index
+         * @param groups  The bits of the groups that have at least one record
+         */
+        GroupMap(Class<E> type, CatalogIndex<E> index, Object[] results, long[] groups) {
+            this.type = type;
+            this.index = index;
+            this.results = results;
+            this.groups = groups;
+            this.size = CatalogBits.cardinality(groups);
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return this.type.isInstance(key)
+                    && CatalogBits.get(this.groups, this.index.indexOf(this.type.cast(key)));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public D get(Object key) {
+            return this.type.isInstance(key) ? (D) this.results[this.index.indexOf(this.type.cast(key))] : null;
+        }
+
+        @Override
+        public Set<Map.Entry<E, D>> entrySet() {
+
+            if (this.entries == null) {
+                this.entries = new AbstractSet<>() {
+
+                    @Override
+                    public int size() {
+                        return GroupMap.this.size;
+                    }
+
+                    @Override
+                    public Iterator<Map.Entry<E, D>> iterator() {
+                        return new EntryIterator();
+                    }
+                };
+            }
+
+            return this.entries;
+        }
+
+        /**
+         * The iterator over the entries in the order of the code value.
+         */
+        private final class EntryIterator implements Iterator<Map.Entry<E, D>> {
+
+            /**
+             * The dense index of the next entry, or {@code -1} if there is no more
+             * entry
+             */
+            private int next = CatalogBits.nextSetBit(groups, 0);
+
+            @Override
+            public boolean hasNext() {
+                return this.next >= 0;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Map.Entry<E, D> next() {
+                if (this.next < 0) {
+                    throw new NoSuchElementException();
+                }
+
+                final Map.Entry<E, D> entry = new AbstractMap.SimpleImmutableEntry<>(index.get(this.next),
+                        (D) results[this.next]);
+                this.next = CatalogBits.nextSetBit(groups, this.next + 1);
+                return entry;
+            }
+        }
+    }
+}
@@ -0,0 +1,504 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * The class that stores a large sequence of the Enum elements of a catalog class
+ * as bit-packed dense indexes.
+ *
+ * <p>
+ * Each value is stored as the position of the Enum element in the order of the
+ * code value, using as few bits as the number of the Enum elements of the
+ * catalog class requires. The values are packed into {@code long} words so that
+ * no value straddles two words, so a catalog class that has at most 16 Enum
+ * elements needs 4 bits per value instead of a reference of 4 or 8 bytes.
+ *
+ * <p>
+ * {@link #count(CodeSupport)} and {@link #forEachIndexOf(CodeSupport, IntConsumer)}
+ * compare all of the values of a word at once. The word is XORed with the value
+ * repeated in every field, and the fields that become zero, which are the
+ * matching values, are found by adding the lower bits of every field to a mask so
+ * that only a non-zero field carries into its highest bit.
+ *
+ * <p>
+ * This class is not thread-safe.
+ *
+ * <pre>
+ * <code>
+ * final CatalogColumn&lt;Status&gt; column = CatalogColumn.of(Status.class);
+ * column.addCodes(codes);
+ *
+ * column.get(0);
+ * column.count(Status.ACTIVE);
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogColumn<E extends CodeSupport> {
+
+    /**
+     * The default number of the values for which the storage is allocated first
+     */
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * The index of the catalog class
+     */
+    private final CatalogIndex<E> index;
+
+    /**
+     * The number of the bits of each value
+     */
+    private final int bitsPerValue;
+
+    /**
+     * The number of the values in each word
+     */
+    private final int valuesPerWord;
+
+    /**
+     * The mask of the bits of a value
+     */
+    private final long valueMask;
+
+    /**
+     * The mask of the lowest bit of every field of a word
+     */
+    private final long lowBits;
+
+    /**
+     * The mask of the highest bit of every field of a word
+     */
+    private final long highBits;
+
+    /**
+     * The mask of the bits of every field of a word except the highest bit
+     */
+    private final long lowerBits;
+
+    /**
+     * The words that hold the packed values
+     */
+    private long[] words;
+
+    /**
+     * The number of the values
+     */
+    private int size;
+
+    /**
+     * Constructor
+     *
+     * @param index    The index of the catalog class
+     * @param capacity The number of the values for which the storage is allocated
+     *                 first
+     */
+    private CatalogColumn(CatalogIndex<E> index, int capacity) {
+        this.index = index;
+        this.bitsPerValue = index.size() <= 2 ? 1 : 32 - Integer.numberOfLeadingZeros(index.size() - 1);
+        this.valuesPerWord = Long.SIZE / this.bitsPerValue;
+        this.valueMask = (1L << this.bitsPerValue) - 1;
+
+        long lowBits = 0;
+
+        for (int i = 0; i < this.valuesPerWord; i++) {
+            lowBits |= 1L << (i * this.bitsPerValue);
+        }
+
+        this.lowBits = lowBits;
+        this.highBits = lowBits << (this.bitsPerValue - 1);
+        this.lowerBits = this.highBits - lowBits;
+        this.words = new long[Math.max(1, (capacity + this.valuesPerWord - 1) / this.valuesPerWord)];
+    }
+
+    /**
+     * Returns the new empty column of the catalog class given as an argument.
+     *
+     * @param <E>   The type of Enum class
+     * @param clazz The catalog class
+     * @return The new empty column
+     *
+     * @exception NullPointerException If {@code clazz} is {@code null}
+     */
+    public static <E extends CodeSupport> CatalogColumn<E> of(Class<E> clazz) {
+        return of(clazz, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns the new empty column of the catalog class given as an argument whose
+     * storage is allocated for the number of the values given as an argument.
+     *
+     * @param <E>      The type of Enum class
+     * @param clazz    The catalog class
+     * @param capacity The number of the values for which the storage is allocated
+     *                 first
+     * @return The new empty column
+     *
+     * @exception NullPointerException     If {@code clazz} is {@code null}
+     * @exception IllegalArgumentException If {@code capacity} is negative
+     */
+    public static <E extends CodeSupport> CatalogColumn<E> of(Class<E> clazz, int capacity) {
+        Objects.requireNonNull(clazz, "clazz must not be null");
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative");
+        }
+
+        return new CatalogColumn<>(CatalogIndex.of(clazz), capacity);
+    }
+
+    /**
+     * Returns the number of the values.
+     *
+     * @return The number of the values
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of the bits used for each value, which is chosen from the
+     * number of the Enum elements of the catalog class.
+     *
+     * @return The number of the bits of each value
+     */
+    public int getBitsPerValue() {
+        return this.bitsPerValue;
+    }
+
+    /**
+     * Appends the Enum element given as an argument.
+     *
+     * @param element The Enum element
+     *
+     * @exception NullPointerException If {@code element} is {@code null}
+     */
+    public void add(E element) {
+        Objects.requireNonNull(element, "element must not be null");
+        this.ensureCapacity(this.size + 1);
+        this.write(this.size++, this.index.indexOf(element));
+    }
+
+    /**
+     * Appends the Enum element linked to the code value given as an argument.
+     *
+     * @param code The code value
+     *
+     * @exception IllegalArgumentException If the code value is not defined
+     */
+    public void addCode(int code) {
+        final int value = this.toValue(code);
+        this.ensureCapacity(this.size + 1);
+        this.write(this.size++, value);
+    }
+
+    /**
+     * Appends the Enum elements linked to the code values given as an argument. If
+     * any code value is not defined, no value is appended.
+     *
+     * @param codes The code values
+     *
+     * @exception NullPointerException     If {@code codes} is {@code null}
+     * @exception IllegalArgumentException If any code value is not defined
+     */
+    public void addCodes(int[] codes) {
+        Objects.requireNonNull(codes, "codes must not be null");
+        this.addCodes(codes, 0, codes.length);
+    }
+
+    /**
+     * Appends the Enum elements linked to the code values in the range of the
+     * array given as arguments. If any code value is not defined, no value is
+     * appended.
+     *
+     * @param codes The code values
+     * @param from  The first position of the code values, inclusive
+     * @param to    The last position of the code values, exclusive
+     *
+     * @exception NullPointerException      If {@code codes} is {@code null}
+     * @exception IndexOutOfBoundsException If the range is out of bounds
+     * @exception IllegalArgumentException  If any code value is not defined
+     */
+    public void addCodes(int[] codes, int from, int to) {
+        Objects.requireNonNull(codes, "codes must not be null");
+        Objects.checkFromToIndex(from, to, codes.length);
+
+        final int[] values = new int[to - from];
+
+        for (int i = from; i < to; i++) {
+            values[i - from] = this.toValue(codes[i]);
+        }
+
+        this.ensureCapacity(this.size + values.length);
+
+        int position = this.size;
+        int i = 0;
+
+        while (i < values.length) {
+            final int word = position / this.valuesPerWord;
+            int shift = (position % this.valuesPerWord) * this.bitsPerValue;
+            long bits = this.words[word];
+
+            for (; i < values.length && shift + this.bitsPerValue <= Long.SIZE; i++, position++) {
+                bits |= (long) values[i] << shift;
+                shift += this.bitsPerValue;
+            }
+
+            this.words[word] = bits;
+        }
+
+        this.size = position;
+    }
+
+    /**
+     * Returns the Enum element at the position given as an argument.
+     *
+     * @param position The position
+     * @return The Enum element at the position
+     *
+     * @exception IndexOutOfBoundsException If {@code position} is out of range
+     */
+    public E get(int position) {
+        return this.index.get(this.read(Objects.checkIndex(position, this.size)));
+    }
+
+    /**
+     * Returns the code value of the Enum element at the position given as an
+     * argument.
+     *
+     * @param position The position
+     * @return The code value of the Enum element at the position
+     *
+     * @exception IndexOutOfBoundsException If {@code position} is out of range
+     */
+    public int getCode(int position) {
+        return this.index.codeAt(this.read(Objects.checkIndex(position, this.size)));
+    }
+
+    /**
+     * Replaces the Enum element at the position given as an argument.
+     *
+     * @param position The position
+     * @param element  The Enum element
+     *
+     * @exception NullPointerException      If {@code element} is {@code null}
+     * @exception IndexOutOfBoundsException If {@code position} is out of range
+     */
+    public void set(int position, E element) {
+        Objects.requireNonNull(element, "element must not be null");
+        this.write(Objects.checkIndex(position, this.size), this.index.indexOf(element));
+    }
+
+    /**
+     * Performs the action given as an argument for each Enum element in order.
+     *
+     * @param action The action
+     *
+     * @exception NullPointerException If {@code action} is {@code null}
+     */
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action, "action must not be null");
+
+        int position = 0;
+
+        for (int w = 0; position < this.size; w++) {
+            long bits = this.words[w];
+
+            for (int i = 0; i < this.valuesPerWord && position < this.size; i++, position++) {
+                action.accept(this.index.get((int) (bits & this.valueMask)));
+                bits >>>= this.bitsPerValue;
+            }
+        }
+    }
+
+    /**
+     * Returns the code values of the Enum elements in order.
+     *
+     * @return The code values of the Enum elements
+     */
+    public int[] toCodeArray() {
+        final int[] codes = new int[this.size];
+
+        for (int i = 0; i < this.size; i++) {
+            codes[i] = this.index.codeAt(this.read(i));
+        }
+
+        return codes;
+    }
+
+    /**
+     * Returns the number of the occurrences of the Enum element given as an
+     * argument.
+     *
+     * @param element The Enum element
+     * @return The number of the occurrences of the Enum element
+     *
+     * @exception NullPointerException If {@code element} is {@code null}
+     */
+    public int count(E element) {
+        Objects.requireNonNull(element, "element must not be null");
+
+        final long pattern = this.lowBits * this.index.indexOf(element);
+        final int fullWords = this.size / this.valuesPerWord;
+        int count = 0;
+
+        for (int w = 0; w < fullWords; w++) {
+            count += this.valuesPerWord - Long.bitCount(this.nonMatching(this.words[w] ^ pattern));
+        }
+
+        final int remaining = this.size % this.valuesPerWord;
+
+        if (remaining > 0) {
+            final long fields = this.highBits & ((1L << (remaining * this.bitsPerValue)) - 1);
+            count += remaining - Long.bitCount(this.nonMatching(this.words[fullWords] ^ pattern) & fields);
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the number of the occurrences of the Enum element linked to the code
+     * value given as an argument.
+     *
+     * @param code The code value
+     * @return The number of the occurrences, or {@code 0} if the code value is not
+     *         defined
+     */
+    public int countCode(int code) {
+        final int value = this.index.indexOfCode(code);
+        return value < 0 ? 0 : this.count(this.index.get(value));
+    }
+
+    /**
+     * Performs the action given as an argument for the position of each occurrence
+     * of the Enum element given as an argument in ascending order.
+     *
+     * @param element The Enum element
+     * @param action  The action that receives each position
+     *
+     * @exception NullPointerException If any argument is {@code null}
+     */
+    public void forEachIndexOf(E element, IntConsumer action) {
+        Objects.requireNonNull(element, "element must not be null");
+        Objects.requireNonNull(action, "action must not be null");
+
+        final long pattern = this.lowBits * this.index.indexOf(element);
+        final int wordCount = (this.size + this.valuesPerWord - 1) / this.valuesPerWord;
+
+        for (int w = 0; w < wordCount; w++) {
+            final int base = w * this.valuesPerWord;
+            long matching = ~this.nonMatching(this.words[w] ^ pattern) & this.highBits;
+
+            while (matching != 0) {
+                final int position = base + Long.numberOfTrailingZeros(matching) / this.bitsPerValue;
+
+                if (position >= this.size) {
+                    return;
+                }
+
+                action.accept(position);
+                matching &= matching - 1;
+            }
+        }
+    }
+
+    /**
+     * Returns the positions of the occurrences of the Enum element given as an
+     * argument in ascending order.
+     *
+     * @param element The Enum element
+     * @return The positions of the occurrences of the Enum element
+     *
+     * @exception NullPointerException If {@code element} is {@code null}
+     */
+    public int[] indexesOf(E element) {
+        final int[] positions = new int[this.count(element)];
+        final int[] count = new int[1];
+        this.forEachIndexOf(element, position -> positions[count[0]++] = position);
+        return positions;
+    }
+
+    /**
+     * Returns the highest bit of every field of the word given as an argument that
+     * is set if the field is not zero.
+     *
+     * @param word The word
+     * @return The highest bit of every non-zero field
+     */
+    private long nonMatching(long word) {
+        return (((word & this.lowerBits) + this.lowerBits) | word) & this.highBits;
+    }
+
+    /**
+     * Returns the dense index of the Enum element linked to the code value.
+     *
+     * @param code The code value
+     * @return The dense index
+     *
+     * @exception IllegalArgumentException If the code value is not defined
+     */
+    private int toValue(int code) {
+        final int value = this.index.indexOfCode(code);
+
+        if (value < 0) {
+            throw new IllegalArgumentException(String.format("The code value %d is not defined", code));
+        }
+
+        return value;
+    }
+
+    /**
+     * Reads the value at the position.
+     *
+     * @param position The position
+     * @return The value at the position
+     */
+    private int read(int position) {
+        final int shift = (position % this.valuesPerWord) * this.bitsPerValue;
+        return (int) ((this.words[position / this.valuesPerWord] >>> shift) & this.valueMask);
+    }
+
+    /**
+     * Writes the value at the position.
+     *
+     * @param position The position
+     * @param value    The value
+     */
+    private void write(int position, int value) {
+        final int word = position / this.valuesPerWord;
+        final int shift = (position % this.valuesPerWord) * this.bitsPerValue;
+        this.words[word] = (this.words[word] & ~(this.valueMask << shift)) | ((long) value << shift);
+    }
+
+    /**
+     * Grows the storage so that it can hold the number of the values.
+     *
+     * @param capacity The number of the values
+     */
+    private void ensureCapacity(int capacity) {
+        final int required = (capacity + this.valuesPerWord - 1) / this.valuesPerWord;
+
+        if (required > this.words.length) {
+            this.words = Arrays.copyOf(this.words, Math.max(required, this.words.length + (this.words.length >> 1)));
+        }
+    }
+}
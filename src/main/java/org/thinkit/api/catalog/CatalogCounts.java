@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The class that holds the number of the records counted for each Enum element
+ * of a catalog class.
+ *
+ * <p>
+ * The instance of this class is the result of
+ * {@link CatalogCollectors#toCounts(Class, java.util.function.Function)} or
+ * {@link CatalogCollectors#toCountsByCode(Class, java.util.function.ToIntFunction)}.
+ * The numbers are held in an array indexed by the position of each Enum element
+ * in the order of the code value, and can be looked up either by the Enum element
+ * or by the code value.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogCounts<E extends CodeSupport> {
+
+    /**
+     * The index of the catalog class
+     */
+    private final CatalogIndex<E> index;
+
+    /**
+     * The number of the records of each Enum element, followed by the number of
+     * the records whose code value is not defined
+     */
+    private final long[] counts;
+
+    /**
+     * Constructor
+     *
+     * @param index  The index of the catalog class
+     * @param counts The number of the records of each Enum element, followed by
+     *               the number of the records whose code value is not defined
+     */
+    CatalogCounts(CatalogIndex<E> index, long[] counts) {
+        this.index = index;
+        this.counts = counts;
+    }
+
+    /**
+     * Returns the number of the records of the Enum element given as an argument.
+     *
+     * @param element The Enum element
+     * @return The number of the records of the Enum element
+     */
+    public long get(E element) {
+        return this.counts[this.index.indexOf(element)];
+    }
+
+    /**
+     * Returns the number of the records of the Enum element linked to the code
+     * value given as an argument.
+     *
+     * @param code The code value
+     * @return The number of the records of the Enum element, or {@code 0} if the
+     *         code value is not defined
+     */
+    public long getByCode(int code) {
+        final int index = this.index.indexOfCode(code);
+        return index < 0 ? 0 : this.counts[index];
+    }
+
+    /**
+     * Returns the number of the records whose code value is not defined in the
+     * catalog class.
+     *
+     * @return The number of the records whose code value is not defined
+     */
+    public long getUnknown() {
+        return this.counts[this.index.size()];
+    }
+
+    /**
+     * Returns the number of all of the records including the records whose code
+     * value is not defined.
+     *
+     * @return The number of all of the records
+     */
+    public long getTotal() {
+        long total = 0;
+
+        for (final long count : this.counts) {
+            total += count;
+        }
+
+        return total;
+    }
+
+    /**
+     * Returns the copy of the numbers of the records of the Enum elements in the
+     * order of the code value.
+     *
+     * @return The copy of the numbers of the records
+     */
+    public long[] toArray() {
+        final long[] counts = new long[this.index.size()];
+        System.arraycopy(this.counts, 0, counts, 0, counts.length);
+        return counts;
+    }
+
+    /**
+     * Returns the unmodifiable {@link Map} from each Enum element that has at least
+     * one record to its number of the records, in the order of the code value.
+     *
+     * @return The numbers of the records by the Enum element
+     */
+    public Map<E, Long> toMap() {
+        final Map<E, Long> map = new LinkedHashMap<>();
+
+        for (int i = 0; i < this.index.size(); i++) {
+            if (this.counts[i] != 0) {
+                map.put(this.index.get(i), this.counts[i]);
+            }
+        }
+
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CatalogCounts[counts=%s, unknown=%d]", this.toMap(), this.getUnknown());
+    }
+}
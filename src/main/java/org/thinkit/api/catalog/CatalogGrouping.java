@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The class that caches the groupings and partitions of the elements of a
+ * catalog class.
+ *
+ * <p>
+ * The groupings and partitions are cached for each catalog class and are keyed
+ * by the classifier or predicate. A classifier is therefore evaluated against
+ * the elements only once as long as the same instance is passed, such as a
+ * non-capturing lambda expression or one held in a constant. The classifiers
+ * and predicates are held weakly, so a capturing lambda expression created on
+ * each call does not pin its grouping in memory, and its entry is discarded once
+ * the lambda expression is no longer referenced.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+final class CatalogGrouping<E extends CodeSupport> {
+
+    /**
+     * The cache of the groupings for each catalog class
+     */
+    private static final ClassValue<CatalogGrouping<?>> GROUPINGS = new ClassValue<>() {
+
+        @Override
+        protected CatalogGrouping<?> computeValue(Class<?> type) {
+            return new CatalogGrouping<>(type);
+        }
+    };
+
+    /**
+     * The index of the catalog class
+     */
+    private final CatalogIndex<E> index;
+
+    /**
+     * The groupings keyed weakly by the classifier
+     */
+    private final Map<Object, Map<?, List<E>>> groups = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * The partitions keyed weakly by the predicate
+     */
+    private final Map<Object, CatalogPartition<E>> partitions = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Constructor
+     *
+     * @param type The catalog class
+     */
+    private CatalogGrouping(Class<?> type) {
+        this.index = CatalogIndex.of(type);
+    }
+
+    /**
+     * Returns the groupings of the catalog class given as an argument.
+     *
+     * @param <E>   The type of Enum class
+     * @param clazz The catalog class
+     * @return The groupings of the catalog class
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends CodeSupport> CatalogGrouping<E> of(Class<?> clazz) {
+        return (CatalogGrouping<E>) GROUPINGS.get(clazz);
+    }
+
+    /**
+     * Returns the grouping of the elements by the classifier given as an argument.
+     * The classifier is evaluated outside of the lock of the cache, so the
+     * grouping may be computed more than once by concurrent calls, but the same
+     * instance is returned by every call once it is cached.
+     *
+     * @param <K>        The type of key
+     * @param classifier The classifier that maps each element to its key
+     * @return The unmodifiable grouping of the elements
+     *
+     * @exception NullPointerException If {@code classifier} is {@code null} or
+     *                                 maps any element to {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    <K> Map<K, List<E>> groupingBy(Function<? super E, ? extends K> classifier) {
+        Objects.requireNonNull(classifier, "classifier must not be null");
+
+        final Map<?, List<E>> cached = this.groups.get(classifier);
+
+        if (cached != null) {
+            return (Map<K, List<E>>) cached;
+        }
+
+        final Map<K, List<E>> grouping = new LinkedHashMap<>();
+
+        for (int i = 0; i < this.index.size(); i++) {
+            final E element = this.index.get(i);
+            final K key = Objects.requireNonNull(classifier.apply(element),
+                    () -> String.format("%s cannot be mapped to a null key", element));
+
+            grouping.computeIfAbsent(key, k -> new ArrayList<>()).add(element);
+        }
+
+        for (final Map.Entry<K, List<E>> entry : grouping.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+
+        final Map<K, List<E>> view = Collections.unmodifiableMap(grouping);
+        final Map<?, List<E>> existing = this.groups.putIfAbsent(classifier, view);
+
+        return existing != null ? (Map<K, List<E>>) existing : view;
+    }
+
+    /**
+     * Returns the partition of the elements by the predicate given as an argument.
+     * Like {@link #groupingBy(Function)}, the predicate is evaluated outside of the
+     * lock of the cache.
+     *
+     * @param predicate The predicate
+     * @return The partition of the elements
+     *
+     * @exception NullPointerException If {@code predicate} is {@code null}
+     */
+    CatalogPartition<E> partitioningBy(Predicate<? super E> predicate) {
+        Objects.requireNonNull(predicate, "predicate must not be null");
+
+        final CatalogPartition<E> cached = this.partitions.get(predicate);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        final CatalogPartition<E> partition = new CatalogPartition<>(this.index, predicate);
+        final CatalogPartition<E> existing = this.partitions.putIfAbsent(predicate, partition);
+
+        return existing != null ? existing : partition;
+    }
+}
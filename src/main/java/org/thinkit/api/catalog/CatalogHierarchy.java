@@ -0,0 +1,349 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The class that holds the precomputed tree of a hierarchical catalog class.
+ *
+ * <p>
+ * The elements are numbered in depth-first preorder, and the ancestors of each
+ * element are held as a bitset over these preorder numbers that includes the
+ * element itself. Because every ancestor of an element precedes the element in
+ * preorder and a deeper ancestor has a greater preorder number, the lowest
+ * common ancestor of two elements is the highest bit of the intersection of
+ * their bitsets. The subtree of an element is the contiguous range of the
+ * preorder that starts at the element.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+final class CatalogHierarchy<E extends HierarchicalCatalog<E>> {
+
+    /**
+     * The cache of the hierarchy for each catalog class
+     */
+    private static final ClassValue<CatalogHierarchy<?>> HIERARCHIES = new ClassValue<>() {
+
+        @Override
+        protected CatalogHierarchy<?> computeValue(Class<?> type) {
+            return new CatalogHierarchy<>(type);
+        }
+    };
+
+    /**
+     * The index of the catalog class
+     */
+    private final CatalogIndex<E> index;
+
+    /**
+     * The dense index of the parent of each element, or {@code -1} for the root
+     */
+    private final int[] parents;
+
+    /**
+     * The depth of each element indexed by the dense index
+     */
+    private final int[] depths;
+
+    /**
+     * The preorder number of each element indexed by the dense index
+     */
+    private final int[] preorders;
+
+    /**
+     * The number of the {@code long} words of each ancestor bitset
+     */
+    private final int words;
+
+    /**
+     * The ancestor bitsets of all elements laid out row by row in the order of the
+     * dense index
+     */
+    private final long[] ancestors;
+
+    /**
+     * The elements in preorder
+     */
+    private final List<E> preorder;
+
+    /**
+     * The child elements of each element indexed by the dense index
+     */
+    private final List<List<E>> children;
+
+    /**
+     * The subtree of each element indexed by the dense index
+     */
+    private final List<List<E>> subtrees;
+
+    /**
+     * The root elements
+     */
+    private final List<E> roots;
+
+    /**
+     * Constructor
+     *
+     * @param type The hierarchical catalog class
+     *
+     * @exception IllegalStateException If the parent code values do not form a
+     *                                  tree
+     */
+    private CatalogHierarchy(Class<?> type) {
+
+        this.index = CatalogIndex.of(type);
+
+        final int size = this.index.size();
+        this.parents = new int[size];
+        this.depths = new int[size];
+        this.preorders = new int[size];
+        this.words = CatalogBits.wordCount(size);
+        this.ancestors = new long[size * this.words];
+
+        final int[] childCounts = new int[size];
+        final List<E> roots = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            final E element = this.index.get(i);
+            final int parentCode = element.getParentCode();
+
+            if (parentCode == HierarchicalCatalog.NO_PARENT) {
+                this.parents[i] = -1;
+                roots.add(element);
+                continue;
+            }
+
+            final int parent = this.index.indexOfCode(parentCode);
+
+            if (parent < 0) {
+                throw new IllegalStateException(String.format("The parent code value %d of %s is not defined in %s",
+                        parentCode, element, type.getName()));
+            }
+
+            this.parents[i] = parent;
+            childCounts[parent]++;
+        }
+
+        final int[][] childIndexes = new int[size][];
+
+        for (int i = 0; i < size; i++) {
+            childIndexes[i] = new int[childCounts[i]];
+            childCounts[i] = 0;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (this.parents[i] >= 0) {
+                childIndexes[this.parents[i]][childCounts[this.parents[i]]++] = i;
+            }
+        }
+
+        final int[] order = new int[size];
+        final int[] stack = new int[size];
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (this.parents[i] >= 0) {
+                continue;
+            }
+
+            int top = 0;
+            stack[top++] = i;
+
+            while (top > 0) {
+                final int current = stack[--top];
+                final int parent = this.parents[current];
+
+                this.preorders[current] = count;
+                order[count++] = current;
+
+                final int row = current * this.words;
+
+                if (parent >= 0) {
+                    this.depths[current] = this.depths[parent] + 1;
+                    System.arraycopy(this.ancestors, parent * this.words, this.ancestors, row, this.words);
+                }
+
+                CatalogBits.set(this.ancestors, row, this.preorders[current]);
+
+                final int[] currentChildren = childIndexes[current];
+
+                for (int j = currentChildren.length - 1; j >= 0; j--) {
+                    stack[top++] = currentChildren[j];
+                }
+            }
+        }
+
+        if (count < size) {
+            throw new IllegalStateException(String.format("The parent code values of %s form a cycle", type.getName()));
+        }
+
+        final int[] subtreeSizes = new int[size];
+
+        for (int i = size - 1; i >= 0; i--) {
+            final int current = order[i];
+            subtreeSizes[current]++;
+
+            if (this.parents[current] >= 0) {
+                subtreeSizes[this.parents[current]] += subtreeSizes[current];
+            }
+        }
+
+        final List<E> preorder = new ArrayList<>(size);
+
+        for (final int current : order) {
+            preorder.add(this.index.get(current));
+        }
+
+        this.preorder = Collections.unmodifiableList(preorder);
+
+        final List<List<E>> children = new ArrayList<>(size);
+        final List<List<E>> subtrees = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            final List<E> elements = new ArrayList<>(childIndexes[i].length);
+
+            for (final int child : childIndexes[i]) {
+                elements.add(this.index.get(child));
+            }
+
+            children.add(Collections.unmodifiableList(elements));
+            subtrees.add(this.preorder.subList(this.preorders[i], this.preorders[i] + subtreeSizes[i]));
+        }
+
+        this.children = children;
+        this.subtrees = subtrees;
+        this.roots = Collections.unmodifiableList(roots);
+    }
+
+    /**
+     * Returns the hierarchy of the catalog class given as an argument.
+     *
+     * @param <E>   The type of Enum class
+     * @param clazz The hierarchical catalog class
+     * @return The hierarchy of the catalog class
+     *
+     * @exception IllegalStateException If the parent code values do not form a
+     *                                  tree
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends HierarchicalCatalog<E>> CatalogHierarchy<E> of(Class<?> clazz) {
+        return (CatalogHierarchy<E>) HIERARCHIES.get(clazz);
+    }
+
+    /**
+     * Returns the hierarchy of the catalog class to which the element given as an
+     * argument belongs.
+     *
+     * @param <E>     The type of Enum class
+     * @param element The element of the hierarchical catalog class
+     * @return The hierarchy of the catalog class
+     *
+     * @exception IllegalStateException If the parent code values do not form a
+     *                                  tree
+     */
+    static <E extends HierarchicalCatalog<E>> CatalogHierarchy<E> of(HierarchicalCatalogSupport<E> element) {
+        return of(((Enum<?>) element).getDeclaringClass());
+    }
+
+    /**
+     * Returns the parent of the element given as an argument.
+     *
+     * @param element The element
+     * @return The parent, or {@code null} if the element is a root
+     */
+    E getParent(E element) {
+        final int parent = this.parents[this.index.indexOf(element)];
+        return parent < 0 ? null : this.index.get(parent);
+    }
+
+    /**
+     * Returns the depth of the element given as an argument.
+     *
+     * @param element The element
+     * @return The depth of the element
+     */
+    int getDepth(E element) {
+        return this.depths[this.index.indexOf(element)];
+    }
+
+    /**
+     * Returns the child elements of the element given as an argument.
+     *
+     * @param element The element
+     * @return The child elements
+     */
+    List<E> getChildren(E element) {
+        return this.children.get(this.index.indexOf(element));
+    }
+
+    /**
+     * Returns the subtree rooted at the element given as an argument.
+     *
+     * @param element The element
+     * @return The subtree rooted at the element
+     */
+    List<E> getSubtree(E element) {
+        return this.subtrees.get(this.index.indexOf(element));
+    }
+
+    /**
+     * Returns the root elements.
+     *
+     * @return The root elements
+     */
+    List<E> getRoots() {
+        return this.roots;
+    }
+
+    /**
+     * Checks if the first element is a descendant of the second element.
+     *
+     * @param descendant The element that may be a descendant
+     * @param ancestor   The element that may be an ancestor
+     * @return {@code true} if the first element is a descendant of the second
+     *         element, otherwise {@code false}
+     */
+    boolean isDescendant(E descendant, E ancestor) {
+
+        if (descendant == ancestor) {
+            return false;
+        }
+
+        final int row = this.index.indexOf(descendant) * this.words;
+        final int preorder = this.preorders[this.index.indexOf(ancestor)];
+
+        return CatalogBits.get(this.ancestors, row, preorder);
+    }
+
+    /**
+     * Returns the lowest common ancestor of the elements given as arguments.
+     *
+     * @param first  The first element
+     * @param second The second element
+     * @return The lowest common ancestor, or {@code null} if the elements belong to
+     *         different trees
+     */
+    E getLowestCommonAncestor(E first, E second) {
+
+        final int common = CatalogBits.lastCommonSetBit(this.ancestors, this.index.indexOf(first) * this.words,
+                this.index.indexOf(second) * this.words, this.words);
+
+        return common < 0 ? null : this.preorder.get(common);
+    }
+}
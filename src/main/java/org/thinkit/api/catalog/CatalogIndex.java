@@ -0,0 +1,1101 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
+
+/**
+ * The class that holds the per-class index of a catalog class.
+ *
+ * <p>
+ * The index is built once for each Enum class that implements the
+ * {@link Catalog} or {@link BiCatalog} interface and is shared by every call
+ * afterwards. The elements of the index are sorted by the code value, and the
+ * position of each element in that order is called the dense index of the
+ * element. Elements that have the same code value keep the order in which they
+ * are declared in the Enum class.
+ *
+ * <p>
+ * The lookups by the code value and by the tag value are delegated to the
+ * strategy chosen when the index is built, which is described by
+ * {@link CatalogLookupStrategy}. If there are at most
+ * {@value #LINEAR_SCAN_THRESHOLD} distinct values, the values are scanned one by
+ * one, first in the order of the code value for the code values and in the order
+ * of declaration for the tag values. One hit in {@value #SAMPLE_RATE} is counted
+ * in an atomic counter of the value, and the scan order is rebuilt from those
+ * counts after {@value #REORDER_INTERVAL} sampled hits, then after twice as many
+ * and so on until {@value #MAX_REORDER_SAMPLES} sampled hits, so that the values
+ * looked up most often come first. Each scan order is an immutable snapshot
+ * published through a single volatile field, and it is rebuilt by the one thread
+ * that claims the interval, so the lookups never observe a partially written
+ * scan. Otherwise the code values are looked up in a dense
+ * array if they are compact or in an open addressing hash table if they are
+ * sparse, and
+ * the tag values are looked up in an array indexed by the ordinal if they are
+ * Enum elements of the same Enum class or in a {@link HashMap} otherwise.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+final class CatalogIndex<E extends CodeSupport> {
+
+    /**
+     * The characteristics reported by the spliterator of the index
+     */
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL
+            | Spliterator.IMMUTABLE | Spliterator.SIZED | Spliterator.SUBSIZED;
+
+    /**
+     * The maximum number of the distinct values scanned one by one
+     */
+    static final int LINEAR_SCAN_THRESHOLD = 8;
+
+    /**
+     * The reciprocal of the ratio of the hits of the linear scan that are counted,
+     * which must be a power of two
+     */
+    static final int SAMPLE_RATE = 16;
+
+    /**
+     * The number of the sampled hits after which the scan order is rebuilt first
+     */
+    static final int REORDER_INTERVAL = 1 << 6;
+
+    /**
+     * The number of the sampled hits after which the scan order is no longer
+     * rebuilt
+     */
+    static final int MAX_REORDER_SAMPLES = 1 << 14;
+
+    /**
+     * The maximum ratio of the range of the code values to the number of the
+     * distinct code values for the dense array
+     */
+    private static final int DENSE_ARRAY_RATIO = 4;
+
+    /**
+     * The maximum length of the dense array
+     */
+    private static final int MAX_DENSE_ARRAY_LENGTH = 1 << 16;
+
+    /**
+     * The cache of the index for each catalog class
+     */
+    private static final ClassValue<CatalogIndex<?>> INDEXES = new ClassValue<>() {
+
+        @Override
+        protected CatalogIndex<?> computeValue(Class<?> type) {
+            return new CatalogIndex<>(type);
+        }
+    };
+
+    /**
+     * The elements sorted by the code value
+     */
+    private final E[] elements;
+
+    /**
+     * The code values sorted in ascending order
+     */
+    private final int[] codes;
+
+    /**
+     * The dense index of each element indexed by the ordinal
+     */
+    private final int[] indexes;
+
+    /**
+     * The lookup by the code value
+     */
+    private final CodeLookup codeLookup;
+
+    /**
+     * The lookup by the tag value, which is created on first use
+     */
+    private volatile TagLookup tagLookup;
+
+    /**
+     * Constructor
+     *
+     * @param type The catalog class
+     *
+     * @exception IllegalArgumentException If {@code type} is not an Enum class
+     */
+    @SuppressWarnings("unchecked")
+    private CatalogIndex(Class<?> type) {
+
+        final Object[] constants = type.getEnumConstants();
+
+        if (constants == null) {
+            throw new IllegalArgumentException(String.format("%s is not an Enum class", type.getName()));
+        }
+
+        this.elements = (E[]) constants.clone();
+        Arrays.sort(this.elements, Comparator.comparingInt(CodeSupport::getCode));
+
+        this.codes = new int[this.elements.length];
+        this.indexes = new int[this.elements.length];
+
+        for (int i = 0; i < this.elements.length; i++) {
+            this.codes[i] = this.elements[i].getCode();
+            this.indexes[((Enum<?>) this.elements[i]).ordinal()] = i;
+        }
+
+        this.codeLookup = this.createCodeLookup();
+    }
+
+    /**
+     * Creates the lookup by the code value that suits the code values.
+     *
+     * @return The lookup by the code value
+     */
+    private CodeLookup createCodeLookup() {
+
+        final int[] distinct = new int[this.codes.length];
+        int count = 0;
+
+        for (int i = 0; i < this.codes.length; i++) {
+            if (i == 0 || this.codes[i] != this.codes[i - 1]) {
+                distinct[count++] = i;
+            }
+        }
+
+        final int[] order = Arrays.copyOf(distinct, count);
+
+        if (count <= LINEAR_SCAN_THRESHOLD) {
+            return new LinearCodeLookup(this.codes, order);
+        }
+
+        final long range = (long) this.codes[this.codes.length - 1] - this.codes[0] + 1;
+
+        if (range <= MAX_DENSE_ARRAY_LENGTH && range <= (long) count * DENSE_ARRAY_RATIO) {
+            return new DenseCodeLookup(this.codes, order, (int) range);
+        }
+
+        return new HashCodeLookup(this.codes, order);
+    }
+
+    /**
+     * Creates the lookup by the tag value that suits the tag values.
+     *
+     * @return The lookup by the tag value
+     *
+     * @exception ClassCastException If the catalog class does not implement the
+     *                               {@link TagSupport} interface
+     */
+    private TagLookup createTagLookup() {
+
+        final Map<Object, Integer> first = new LinkedHashMap<>(this.elements.length * 2);
+        Class<?> enumClass = null;
+        boolean sameEnum = true;
+
+        for (final int index : this.indexes) {
+            final Object tag = ((TagSupport<?>) this.elements[index]).getTag();
+
+            if (first.putIfAbsent(tag, index) != null) {
+                continue;
+            }
+
+            if (!(tag instanceof Enum)) {
+                sameEnum = false;
+            } else if (enumClass == null) {
+                enumClass = ((Enum<?>) tag).getDeclaringClass();
+            } else if (enumClass != ((Enum<?>) tag).getDeclaringClass()) {
+                sameEnum = false;
+            }
+        }
+
+        if (first.size() <= LINEAR_SCAN_THRESHOLD) {
+            final Object[] tags = first.keySet().toArray();
+            final int[] order = new int[tags.length];
+            int count = 0;
+
+            for (final int index : first.values()) {
+                order[count++] = index;
+            }
+
+            return new LinearTagLookup(tags, order);
+        }
+
+        if (sameEnum) {
+            return new OrdinalTagLookup(enumClass, first);
+        }
+
+        return new HashTagLookup(first);
+    }
+
+    /**
+     * Returns the index of the catalog class given as an argument.
+     *
+     * @param <E>   The type of Enum class
+     * @param clazz The catalog class
+     * @return The index of the catalog class
+     *
+     * @exception NullPointerException     If {@code clazz} is {@code null}
+     * @exception IllegalArgumentException If {@code clazz} is not an Enum class
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends CodeSupport> CatalogIndex<E> of(Class<?> clazz) {
+        return (CatalogIndex<E>) INDEXES.get(clazz);
+    }
+
+    /**
+     * Returns the number of the elements.
+     *
+     * @return The number of the elements
+     */
+    int size() {
+        return this.elements.length;
+    }
+
+    /**
+     * Returns the element at the dense index given as an argument.
+     *
+     * @param index The dense index
+     * @return The element at the dense index
+     *
+     * @exception ArrayIndexOutOfBoundsException If {@code index} is out of range
+     */
+    E get(int index) {
+        return this.elements[index];
+    }
+
+    /**
+     * Returns the dense index of the element given as an argument.
+     *
+     * @param element The element of the catalog class
+     * @return The dense index of the element
+     */
+    int indexOf(E element) {
+        return this.indexes[((Enum<?>) element).ordinal()];
+    }
+
+    /**
+     * Returns the dense index of the element linked to the code value given as an
+     * argument. If there are several elements linked to the same code value, the
+     * dense index of the element declared first in the Enum class is returned.
+     *
+     * @param code The code value
+     * @return The dense index of the element linked to the code value, or
+     *         {@code -1} if there is no element linked to the code value
+     */
+    int indexOfCode(int code) {
+        return this.codeLookup.indexOf(code);
+    }
+
+    /**
+     * Returns the element linked to the code value given as an argument. If there
+     * are several elements linked to the same code value, the element declared
+     * first in the Enum class is returned.
+     *
+     * @param code The code value
+     * @return The element linked to the code value, or {@code null} if there is no
+     *         element linked to the code value
+     */
+    E findByCode(int code) {
+        final int index = this.indexOfCode(code);
+        return index < 0 ? null : this.elements[index];
+    }
+
+    /**
+     * Returns the code value at the dense index given as an argument.
+     *
+     * @param index The dense index
+     * @return The code value at the dense index
+     */
+    int codeAt(int index) {
+        return this.codes[index];
+    }
+
+    /**
+     * Returns the copy of the elements sorted by the code value.
+     *
+     * @return The copy of the elements
+     */
+    E[] toArray() {
+        return this.elements.clone();
+    }
+
+    /**
+     * Performs the action given as an argument for each element in the order of
+     * the code value.
+     *
+     * @param action The action
+     */
+    void forEach(Consumer<? super E> action) {
+        for (final E element : this.elements) {
+            action.accept(element);
+        }
+    }
+
+    /**
+     * Returns the spliterator over the elements in the order of the code value.
+     *
+     * @return The spliterator over the elements
+     */
+    Spliterator<E> spliterator() {
+        return Spliterators.spliterator(this.elements, CHARACTERISTICS);
+    }
+
+    /**
+     * Returns the element linked to the tag value given as an argument. If there
+     * are several elements linked to the same tag value, the element declared
+     * first in the Enum class is returned.
+     *
+     * @param tag The tag value
+     * @return The element linked to the tag value, or {@code null} if there is no
+     *         element linked to the tag value
+     *
+     * @exception ClassCastException If the catalog class does not implement the
+     *                               {@link TagSupport} interface
+     */
+    E findByTag(Object tag) {
+        final int index = this.getTagLookup().indexOf(tag);
+        return index < 0 ? null : this.elements[index];
+    }
+
+    /**
+     * Returns the strategy of the lookup by the code value.
+     *
+     * @return The strategy of the lookup by the code value
+     */
+    CatalogLookupStrategy getCodeLookupStrategy() {
+        return this.codeLookup.getStrategy();
+    }
+
+    /**
+     * Returns the strategy of the lookup by the tag value.
+     *
+     * @return The strategy of the lookup by the tag value
+     *
+     * @exception ClassCastException If the catalog class does not implement the
+     *                               {@link TagSupport} interface
+     */
+    CatalogLookupStrategy getTagLookupStrategy() {
+        return this.getTagLookup().getStrategy();
+    }
+
+    /**
+     * Returns the dense indexes in the current scan order of the lookup by the code
+     * value for diagnostics.
+     *
+     * @return The copy of the dense indexes in the scan order, or {@code null} if
+     *         the code values are not scanned one by one
+     */
+    int[] getCodeScanOrder() {
+        return this.codeLookup.getScanOrder();
+    }
+
+    /**
+     * Returns the dense indexes in the current scan order of the lookup by the tag
+     * value for diagnostics.
+     *
+     * @return The copy of the dense indexes in the scan order, or {@code null} if
+     *         the tag values are not scanned one by one
+     *
+     * @exception ClassCastException If the catalog class does not implement the
+     *                               {@link TagSupport} interface
+     */
+    int[] getTagScanOrder() {
+        return this.getTagLookup().getScanOrder();
+    }
+
+    /**
+     * Returns the lookup by the tag value, creating it on first use.
+     *
+     * @return The lookup by the tag value
+     *
+     * @exception ClassCastException If the catalog class does not implement the
+     *                               {@link TagSupport} interface
+     */
+    private TagLookup getTagLookup() {
+
+        TagLookup tagLookup = this.tagLookup;
+
+        if (tagLookup == null) {
+            tagLookup = this.createTagLookup();
+            this.tagLookup = tagLookup;
+        }
+
+        return tagLookup;
+    }
+
+    /**
+     * The lookup of the dense index by the code value.
+     */
+    private abstract static class CodeLookup {
+
+        /**
+         * Returns the dense index of the first element linked to the code value.
+         *
+         * @param code The code value
+         * @return The dense index, or {@code -1} if there is no element linked to the
+         *         code value
+         */
+        abstract int indexOf(int code);
+
+        /**
+         * Returns the strategy of the lookup.
+         *
+         * @return The strategy of the lookup
+         */
+        abstract CatalogLookupStrategy getStrategy();
+
+        /**
+         * Returns the dense indexes in the current scan order.
+         *
+         * @return The copy of the dense indexes in the scan order, or {@code null}
+         *         if the lookup does not scan the values
+         */
+        int[] getScanOrder() {
+            return null;
+        }
+    }
+
+    /**
+     * The lookup of the dense index by the tag value.
+     */
+    private abstract static class TagLookup {
+
+        /**
+         * Returns the dense index of the first declared element linked to the tag
+         * value.
+         *
+         * @param tag The tag value
+         * @return The dense index, or {@code -1} if there is no element linked to the
+         *         tag value
+         */
+        abstract int indexOf(Object tag);
+
+        /**
+         * Returns the strategy of the lookup.
+         *
+         * @return The strategy of the lookup
+         */
+        abstract CatalogLookupStrategy getStrategy();
+
+        /**
+         * Returns the dense indexes in the current scan order.
+         *
+         * @return The copy of the dense indexes in the scan order, or {@code null}
+         *         if the lookup does not scan the values
+         */
+        int[] getScanOrder() {
+            return null;
+        }
+    }
+
+    /**
+     * The lookup by the code value that scans the distinct code values one by one.
+     */
+    private static final class LinearCodeLookup extends CodeLookup {
+
+        /**
+         * The statistics of the hits
+         */
+        private final ScanStatistics statistics;
+
+        /**
+         * The current scan
+         */
+        private volatile CodeScan scan;
+
+        /**
+         * Constructor
+         *
+         * @param codes The code values sorted in ascending order
+         * @param order The dense indexes of the distinct code values
+         */
+        LinearCodeLookup(int[] codes, int[] order) {
+            final int[] keys = new int[order.length];
+
+            for (int i = 0; i < order.length; i++) {
+                keys[i] = codes[order[i]];
+            }
+
+            this.statistics = new ScanStatistics(order.length);
+            this.scan = new CodeScan(keys, order, ScanStatistics.identity(order.length), true);
+        }
+
+        @Override
+        int indexOf(int code) {
+
+            final CodeScan scan = this.scan;
+            final int[] keys = scan.keys;
+
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == code) {
+                    if (scan.adaptive && this.statistics.record(scan.slots[i])) {
+                        this.reorder(scan);
+                    }
+
+                    return scan.order[i];
+                }
+            }
+
+            return -1;
+        }
+
+        /**
+         * Publishes the scan rebuilt from the statistics of the hits. This method is
+         * called only by the thread that claimed the interval, and every scan it
+         * publishes is a complete permutation of the values.
+         *
+         * @param scan The current scan
+         */
+        private void reorder(CodeScan scan) {
+
+            final int[] positions = this.statistics.rank(scan.slots);
+            final boolean adaptive = this.statistics.isAdaptive();
+
+            if (positions == null) {
+                if (!adaptive) {
+                    this.scan = new CodeScan(scan.keys, scan.order, scan.slots, false);
+                }
+
+                return;
+            }
+
+            final int[] keys = new int[positions.length];
+            final int[] order = new int[positions.length];
+            final int[] slots = new int[positions.length];
+
+            for (int i = 0; i < positions.length; i++) {
+                keys[i] = scan.keys[positions[i]];
+                order[i] = scan.order[positions[i]];
+                slots[i] = scan.slots[positions[i]];
+            }
+
+            this.scan = new CodeScan(keys, order, slots, adaptive);
+        }
+
+        @Override
+        CatalogLookupStrategy getStrategy() {
+            return CatalogLookupStrategy.LINEAR_SCAN;
+        }
+
+        @Override
+        int[] getScanOrder() {
+            return this.scan.order.clone();
+        }
+    }
+
+    /**
+     * The immutable snapshot of the scan order of the code values.
+     */
+    private static final class CodeScan {
+
+        /**
+         * The code values in the scan order
+         */
+        final int[] keys;
+
+        /**
+         * The dense indexes in the scan order
+         */
+        final int[] order;
+
+        /**
+         * The slots of the statistics in the scan order
+         */
+        final int[] slots;
+
+        /**
+         * {@code true} if the hits are still sampled
+         */
+        final boolean adaptive;
+
+        /**
+         * Constructor
+         *
+         * @param keys     The code values in the scan order
+         * @param order    The dense indexes in the scan order
+         * @param slots    The slots of the statistics in the scan order
+         * @param adaptive {@code true} if the hits are still sampled
+         */
+        CodeScan(int[] keys, int[] order, int[] slots, boolean adaptive) {
+            this.keys = keys;
+            this.order = order;
+            this.slots = slots;
+            this.adaptive = adaptive;
+        }
+    }
+
+    /**
+     * The statistics of the hits of a linear scan shared by all of its snapshots.
+     *
+     * <p>
+     * Each distinct value has a fixed slot, and one hit in {@value #SAMPLE_RATE}
+     * is counted in the atomic counter of the slot. Each interval is claimed by
+     * exactly one thread with a compare-and-set, which rebuilds the scan order
+     * while the other threads keep scanning the previous snapshot.
+     */
+    private static final class ScanStatistics {
+
+        /**
+         * The sampled hits of each slot
+         */
+        private final AtomicIntegerArray hits;
+
+        /**
+         * The number of the sampled hits since the lookup was built
+         */
+        private final AtomicInteger samples = new AtomicInteger();
+
+        /**
+         * The number of the sampled hits at which the scan order is rebuilt next
+         */
+        private final AtomicInteger nextReorder = new AtomicInteger(REORDER_INTERVAL);
+
+        /**
+         * Constructor
+         *
+         * @param slots The number of the slots
+         */
+        ScanStatistics(int slots) {
+            this.hits = new AtomicIntegerArray(slots);
+        }
+
+        /**
+         * Returns the slots in their initial order.
+         *
+         * @param slots The number of the slots
+         * @return The slots in their initial order
+         */
+        static int[] identity(int slots) {
+
+            final int[] identity = new int[slots];
+
+            for (int i = 0; i < slots; i++) {
+                identity[i] = i;
+            }
+
+            return identity;
+        }
+
+        /**
+         * Records the hit of the slot given as an argument if it is sampled.
+         *
+         * @param slot The slot of the hit value
+         * @return {@code true} if the caller claimed the interval and must rebuild
+         *         the scan order, otherwise {@code false}
+         */
+        boolean record(int slot) {
+
+            if ((ThreadLocalRandom.current().nextInt() & (SAMPLE_RATE - 1)) != 0) {
+                return false;
+            }
+
+            this.hits.incrementAndGet(slot);
+
+            final int samples = this.samples.incrementAndGet();
+            final int next = this.nextReorder.get();
+
+            return samples >= next && next <= MAX_REORDER_SAMPLES && this.nextReorder.compareAndSet(next, next << 1);
+        }
+
+        /**
+         * Ranks the slots so that the slots with more sampled hits come first. The
+         * slots with the same number of hits keep their current order.
+         *
+         * @param slots The slots in the current scan order
+         * @return The new positions in the order of the scan, or {@code null} if the
+         *         scan order does not change
+         */
+        int[] rank(int[] slots) {
+
+            final int[] counts = new int[slots.length];
+
+            for (int i = 0; i < slots.length; i++) {
+                counts[i] = this.hits.get(slots[i]);
+            }
+
+            final int[] positions = new int[slots.length];
+            boolean changed = false;
+
+            for (int i = 0; i < positions.length; i++) {
+                int j = i;
+
+                while (j > 0 && counts[positions[j - 1]] < counts[i]) {
+                    positions[j] = positions[j - 1];
+                    j--;
+                }
+
+                positions[j] = i;
+                changed |= j != i;
+            }
+
+            return changed ? positions : null;
+        }
+
+        /**
+         * Checks if the scan order is rebuilt again.
+         *
+         * @return {@code true} if the scan order is rebuilt again, otherwise
+         *         {@code false}
+         */
+        boolean isAdaptive() {
+            return this.nextReorder.get() <= MAX_REORDER_SAMPLES;
+        }
+    }
+
+    /**
+     * The lookup by the code value that looks up the array indexed by the code
+     * value minus the smallest code value.
+     */
+    private static final class DenseCodeLookup extends CodeLookup {
+
+        /**
+         * The smallest code value
+         */
+        private final int offset;
+
+        /**
+         * The dense index of each code value, or {@code -1} for the undefined code
+         * value
+         */
+        private final int[] table;
+
+        /**
+         * Constructor
+         *
+         * @param codes The code values sorted in ascending order
+         * @param order The dense indexes of the distinct code values
+         * @param range The range of the code values
+         */
+        DenseCodeLookup(int[] codes, int[] order, int range) {
+            this.offset = codes[0];
+            this.table = new int[range];
+            Arrays.fill(this.table, -1);
+
+            for (final int index : order) {
+                this.table[codes[index] - this.offset] = index;
+            }
+        }
+
+        @Override
+        int indexOf(int code) {
+            final long slot = (long) code - this.offset;
+            return slot >= 0 && slot < this.table.length ? this.table[(int) slot] : -1;
+        }
+
+        @Override
+        CatalogLookupStrategy getStrategy() {
+            return CatalogLookupStrategy.DENSE_ARRAY;
+        }
+    }
+
+    /**
+     * The lookup by the code value that looks up the open addressing hash table.
+     */
+    private static final class HashCodeLookup extends CodeLookup {
+
+        /**
+         * The shift applied to the hash of the code value
+         */
+        private final int shift;
+
+        /**
+         * The code value of each slot
+         */
+        private final int[] keys;
+
+        /**
+         * The dense index of each slot, or {@code -1} for the empty slot
+         */
+        private final int[] values;
+
+        /**
+         * Constructor
+         *
+         * @param codes The code values sorted in ascending order
+         * @param order The dense indexes of the distinct code values
+         */
+        HashCodeLookup(int[] codes, int[] order) {
+            final int bits = 33 - Integer.numberOfLeadingZeros(order.length);
+            this.shift = 32 - bits;
+            this.keys = new int[1 << bits];
+            this.values = new int[1 << bits];
+            Arrays.fill(this.values, -1);
+
+            final int mask = this.values.length - 1;
+
+            for (final int index : order) {
+                int slot = this.slot(codes[index]);
+
+                while (this.values[slot] >= 0) {
+                    slot = (slot + 1) & mask;
+                }
+
+                this.keys[slot] = codes[index];
+                this.values[slot] = index;
+            }
+        }
+
+        /**
+         * Returns the home slot of the code value.
+         *
+         * @param code The code value
+         * @return The home slot of the code value
+         */
+        private int slot(int code) {
+            return (code * 0x9E3779B9) >>> this.shift;
+        }
+
+        @Override
+        int indexOf(int code) {
+
+            final int mask = this.values.length - 1;
+            int slot = this.slot(code);
+
+            while (this.values[slot] >= 0) {
+                if (this.keys[slot] == code) {
+                    return this.values[slot];
+                }
+
+                slot = (slot + 1) & mask;
+            }
+
+            return -1;
+        }
+
+        @Override
+        CatalogLookupStrategy getStrategy() {
+            return CatalogLookupStrategy.HASH_TABLE;
+        }
+    }
+
+    /**
+     * The lookup by the tag value that scans the distinct tag values one by one.
+     */
+    private static final class LinearTagLookup extends TagLookup {
+
+        /**
+         * The statistics of the hits
+         */
+        private final ScanStatistics statistics;
+
+        /**
+         * The current scan
+         */
+        private volatile TagScan scan;
+
+        /**
+         * Constructor
+         *
+         * @param tags  The distinct tag values in the order of declaration
+         * @param order The dense indexes of the first declared elements of the tag
+         *              values
+         */
+        LinearTagLookup(Object[] tags, int[] order) {
+            this.statistics = new ScanStatistics(order.length);
+            this.scan = new TagScan(tags, order, ScanStatistics.identity(order.length), true);
+        }
+
+        @Override
+        int indexOf(Object tag) {
+
+            final TagScan scan = this.scan;
+            final Object[] keys = scan.keys;
+
+            for (int i = 0; i < keys.length; i++) {
+                if (Objects.equals(keys[i], tag)) {
+                    if (scan.adaptive && this.statistics.record(scan.slots[i])) {
+                        this.reorder(scan);
+                    }
+
+                    return scan.order[i];
+                }
+            }
+
+            return -1;
+        }
+
+        /**
+         * Publishes the scan rebuilt from the statistics of the hits. This method is
+         * called only by the thread that claimed the interval, and every scan it
+         * publishes is a complete permutation of the values.
+         *
+         * @param scan The current scan
+         */
+        private void reorder(TagScan scan) {
+
+            final int[] positions = this.statistics.rank(scan.slots);
+            final boolean adaptive = this.statistics.isAdaptive();
+
+            if (positions == null) {
+                if (!adaptive) {
+                    this.scan = new TagScan(scan.keys, scan.order, scan.slots, false);
+                }
+
+                return;
+            }
+
+            final Object[] keys = new Object[positions.length];
+            final int[] order = new int[positions.length];
+            final int[] slots = new int[positions.length];
+
+            for (int i = 0; i < positions.length; i++) {
+                keys[i] = scan.keys[positions[i]];
+                order[i] = scan.order[positions[i]];
+                slots[i] = scan.slots[positions[i]];
+            }
+
+            this.scan = new TagScan(keys, order, slots, adaptive);
+        }
+
+        @Override
+        CatalogLookupStrategy getStrategy() {
+            return CatalogLookupStrategy.LINEAR_SCAN;
+        }
+
+        @Override
+        int[] getScanOrder() {
+            return this.scan.order.clone();
+        }
+    }
+
+    /**
+     * The immutable snapshot of the scan order of the tag values.
+     */
+    private static final class TagScan {
+
+        /**
+         * The tag values in the scan order
+         */
+        final Object[] keys;
+
+        /**
+         * The dense indexes in the scan order
+         */
+        final int[] order;
+
+        /**
+         * The slots of the statistics in the scan order
+         */
+        final int[] slots;
+
+        /**
+         * {@code true} if the hits are still sampled
+         */
+        final boolean adaptive;
+
+        /**
+         * Constructor
+         *
+         * @param keys     The tag values in the scan order
+         * @param order    The dense indexes in the scan order
+         * @param slots    The slots of the statistics in the scan order
+         * @param adaptive {@code true} if the hits are still sampled
+         */
+        TagScan(Object[] keys, int[] order, int[] slots, boolean adaptive) {
+            this.keys = keys;
+            this.order = order;
+            this.slots = slots;
+            this.adaptive = adaptive;
+        }
+    }
+
+    /**
+     * The lookup by the tag value that looks up the array indexed by the ordinal of
+     * the tag value.
+     */
+    private static final class OrdinalTagLookup extends TagLookup {
+
+        /**
+         * The Enum class of the tag values
+         */
+        private final Class<?> enumClass;
+
+        /**
+         * The dense index of each ordinal, or {@code -1} for the undefined tag value
+         */
+        private final int[] table;
+
+        /**
+         * Constructor
+         *
+         * @param enumClass The Enum class of the tag values
+         * @param first     The dense index of the first declared element of each tag
+         *                  value
+         */
+        OrdinalTagLookup(Class<?> enumClass, Map<Object, Integer> first) {
+            this.enumClass = enumClass;
+            this.table = new int[enumClass.getEnumConstants().length];
+            Arrays.fill(this.table, -1);
+
+            for (final Map.Entry<Object, Integer> entry : first.entrySet()) {
+                this.table[((Enum<?>) entry.getKey()).ordinal()] = entry.getValue();
+            }
+        }
+
+        @Override
+        int indexOf(Object tag) {
+            if (!(tag instanceof Enum) || ((Enum<?>) tag).getDeclaringClass() != this.enumClass) {
+                return -1;
+            }
+
+            return this.table[((Enum<?>) tag).ordinal()];
+        }
+
+        @Override
+        CatalogLookupStrategy getStrategy() {
+            return CatalogLookupStrategy.ORDINAL_ARRAY;
+        }
+    }
+
+    /**
+     * The lookup by the tag value that looks up the {@link HashMap}.
+     */
+    private static final class HashTagLookup extends TagLookup {
+
+        /**
+         * The dense index of the first declared element of each tag value
+         */
+        private final Map<Object, Integer> table;
+
+        /**
+         * Constructor
+         *
+         * @param first The dense index of the first declared element of each tag
+         *              value
+         */
+        HashTagLookup(Map<Object, Integer> first) {
+            this.table = new HashMap<>(first);
+        }
+
+        @Override
+        int indexOf(Object tag) {
+            final Integer index = this.table.get(tag);
+            return index == null ? -1 : index;
+        }
+
+        @Override
+        CatalogLookupStrategy getStrategy() {
+            return CatalogLookupStrategy.HASH_TABLE;
+        }
+    }
+}
@@ -0,0 +1,472 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * The class that holds the localized labels of the Enum elements of a catalog
+ * class for each locale.
+ *
+ * <p>
+ * All of the labels are read from the {@link ResourceBundle} when this class is
+ * created, and are held in an array for each locale indexed by the position of
+ * the Enum element in the order of the code value. The fallback of the
+ * {@link ResourceBundle} from a specific locale to a more general one is
+ * therefore resolved only once, and the Enum element whose label is defined in
+ * no bundle of the chain falls back to the string of its tag value.
+ *
+ * <p>
+ * {@link #getLabel(CodeSupport, Locale)} looks up the table of the locale in a
+ * {@link Map} on each call. The code that renders many labels for the same
+ * locale should resolve the locale once by {@link #forLocale(Locale)} and keep
+ * the returned {@link Localized}, whose {@link Localized#getLabel(CodeSupport)}
+ * is two array loads.
+ *
+ * <p>
+ * The labels are also requested for the locales that are not given when this
+ * class is created. Such a locale is resolved to the table of the nearest given
+ * locale by removing its script, variant and extensions and then its country,
+ * or to the table of {@link Locale#ROOT}. Up to {@value #MAX_RESOLVED_LOCALES}
+ * resolved locales are cached, and the locales beyond that are resolved on each
+ * call, so that the cache does not grow with the locales taken from the user
+ * input. The JVM default locale is never used as a fallback, so that the labels
+ * do not depend on the environment.
+ *
+ * <p>
+ * The reverse index from the label to the Enum element, which is used to parse
+ * the user input, is built for each locale on first use of
+ * {@link #getEnumByLabel(String, Locale)}.
+ *
+ * <pre>
+ * <code>
+ * final CatalogLabels&lt;Status&gt; labels = CatalogLabels.of(Status.class, "messages.status", Locale.JAPANESE,
+ *         Locale.FRENCH);
+ *
+ * labels.getLabel(Status.ACTIVE, Locale.JAPAN); // Returns the label of Locale#JAPANESE
+ * labels.getEnumByLabel("Actif", Locale.FRENCH); // Returns Status#ACTIVE
+ *
+ * final CatalogLabels.Localized&lt;Status&gt; japanese = labels.forLocale(Locale.JAPAN);
+ * japanese.getLabel(Status.ACTIVE); // Returns the label of Locale#JAPANESE
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogLabels<E extends CodeSupport & TagSupport<?>> {
+
+    /**
+     * The maximum number of the cached locales that were not given when the
+     * instance was created
+     */
+    private static final int MAX_RESOLVED_LOCALES = 64;
+
+    /**
+     * The index of the catalog class
+     */
+    private final CatalogIndex<E> index;
+
+    /**
+     * The locales given when this instance was created
+     */
+    private final List<Locale> locales;
+
+    /**
+     * The table of the labels for each given locale and {@link Locale#ROOT}
+     */
+    private final Map<Locale, Table<E>> tables;
+
+    /**
+     * The tables of the nearest given locales for the locales that were not given
+     * when this instance was created
+     */
+    private final ConcurrentMap<Locale, Table<E>> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * The table of the labels of {@link Locale#ROOT}
+     */
+    private final Table<E> rootTable;
+
+    /**
+     * Constructor
+     *
+     * @param index     The index of the catalog class
+     * @param locales   The locales given when this instance was created
+     * @param tables    The tables of the labels for each given locale
+     * @param rootTable The table of the labels of {@link Locale#ROOT}
+     */
+    private CatalogLabels(CatalogIndex<E> index, List<Locale> locales, Map<Locale, Table<E>> tables,
+            Table<E> rootTable) {
+        this.index = index;
+        this.locales = locales;
+        this.tables = Map.copyOf(tables);
+        this.rootTable = rootTable;
+    }
+
+    /**
+     * Returns the new instance of {@link CatalogLabels} that reads the label of
+     * each Enum element from the {@link ResourceBundle} given as an argument with
+     * the name of the Enum element as the key.
+     *
+     * @param <E>      The type of Enum class
+     * @param clazz    The catalog class
+     * @param baseName The base name of the {@link ResourceBundle}
+     * @param locales  The locales whose labels are read
+     * @return The new instance of {@link CatalogLabels}
+     *
+     * @exception NullPointerException If any argument is {@code null}
+     */
+    public static <E extends CodeSupport & TagSupport<?>> CatalogLabels<E> of(Class<E> clazz, String baseName,
+            Locale... locales) {
+        return of(clazz, baseName, element -> ((Enum<?>) element).name(), locales);
+    }
+
+    /**
+     * Returns the new instance of {@link CatalogLabels} that reads the label of
+     * each Enum element from the {@link ResourceBundle} given as an argument with
+     * the key that the function given as an argument returns.
+     *
+     * @param <E>       The type of Enum class
+     * @param clazz     The catalog class
+     * @param baseName  The base name of the {@link ResourceBundle}
+     * @param keyMapper The function that returns the key of the label of each Enum
+     *                  element
+     * @param locales   The locales whose labels are read
+     * @return The new instance of {@link CatalogLabels}
+     *
+     * @exception NullPointerException If any argument is {@code null} or the key
+     *                                 mapper returns {@code null}
+     */
+    public static <E extends CodeSupport & TagSupport<?>> CatalogLabels<E> of(Class<E> clazz, String baseName,
+            Function<? super E, String> keyMapper, Locale... locales) {
+        Objects.requireNonNull(clazz, "clazz must not be null");
+        Objects.requireNonNull(baseName, "baseName must not be null");
+        Objects.requireNonNull(keyMapper, "keyMapper must not be null");
+        Objects.requireNonNull(locales, "locales must not be null");
+
+        final CatalogIndex<E> index = CatalogIndex.of(clazz);
+        final String[] keys = new String[index.size()];
+
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = Objects.requireNonNull(keyMapper.apply(index.get(i)), "key must not be null");
+        }
+
+        final ClassLoader loader = clazz.getClassLoader();
+        final Table<E> rootTable = load(index, keys, baseName, Locale.ROOT, loader);
+        final Map<Locale, Table<E>> tables = new LinkedHashMap<>();
+        tables.put(Locale.ROOT, rootTable);
+
+        for (final Locale locale : locales) {
+            Objects.requireNonNull(locale, "locale must not be null");
+            tables.computeIfAbsent(locale, key -> load(index, keys, baseName, key, loader));
+        }
+
+        final List<Locale> given = new ArrayList<>(tables.keySet());
+        given.remove(Locale.ROOT);
+
+        return new CatalogLabels<>(index, Collections.unmodifiableList(given), tables, rootTable);
+    }
+
+    /**
+     * Returns the locales given when this instance was created.
+     *
+     * @return The unmodifiable {@link List} of the locales
+     */
+    public List<Locale> getLocales() {
+        return this.locales;
+    }
+
+    /**
+     * Returns the labels of the locale given as an argument. The locale is
+     * resolved to the table of the nearest given locale only once, so the
+     * returned {@link Localized} should be kept by the caller that looks up many
+     * labels of the same locale.
+     *
+     * @param locale The locale
+     * @return The labels of the locale
+     *
+     * @exception NullPointerException If {@code locale} is {@code null}
+     */
+    public Localized<E> forLocale(Locale locale) {
+        return new Localized<>(locale, this.index, this.getTable(locale));
+    }
+
+    /**
+     * Returns the label of the Enum element given as an argument for the locale
+     * given as an argument.
+     *
+     * @param element The Enum element
+     * @param locale  The locale
+     * @return The label of the Enum element
+     *
+     * @exception NullPointerException If any argument is {@code null}
+     */
+    public String getLabel(E element, Locale locale) {
+        Objects.requireNonNull(element, "element must not be null");
+        return this.getTable(locale).labels[this.index.indexOf(element)];
+    }
+
+    /**
+     * Returns the Enum element whose label for the locale given as an argument is
+     * equal to the label given as an argument. If several Enum elements have the
+     * same label, the Enum element whose code value is the smallest is returned.
+     *
+     * @param label  The label
+     * @param locale The locale
+     * @return The Enum element linked to the label, or {@code null} if no Enum
+     *         element has the label
+     *
+     * @exception NullPointerException If {@code locale} is {@code null}
+     */
+    public E getEnumByLabel(String label, Locale locale) {
+        return this.getTable(locale).getReverseIndex().get(label);
+    }
+
+    /**
+     * Returns the table of the labels for the locale given as an argument.
+     *
+     * @param locale The locale
+     * @return The table of the labels
+     */
+    private Table<E> getTable(Locale locale) {
+        Objects.requireNonNull(locale, "locale must not be null");
+
+        Table<E> table = this.tables.get(locale);
+
+        if (table != null) {
+            return table;
+        }
+
+        table = this.resolved.get(locale);
+
+        if (table != null) {
+            return table;
+        }
+
+        table = this.resolve(locale);
+
+        if (this.resolved.size() < MAX_RESOLVED_LOCALES) {
+            this.resolved.putIfAbsent(locale, table);
+        }
+
+        return table;
+    }
+
+    /**
+     * Resolves the locale that was not given when this instance was created to the
+     * table of the nearest given locale.
+     *
+     * @param locale The locale
+     * @return The table of the nearest given locale
+     */
+    private Table<E> resolve(Locale locale) {
+
+        final String language = locale.getLanguage();
+        final String country = locale.getCountry();
+        final boolean qualified = !locale.getScript().isEmpty() || !locale.getVariant().isEmpty()
+                || locale.hasExtensions();
+        Table<E> table = null;
+
+        if (qualified && !country.isEmpty()) {
+            table = this.tables.get(new Locale(language, country));
+        }
+
+        if (table == null && (qualified || !country.isEmpty())) {
+            table = this.tables.get(new Locale(language));
+        }
+
+        return table != null ? table : this.rootTable;
+    }
+
+    /**
+     * Reads the labels of the locale given as an argument.
+     *
+     * @param <E>      The type of Enum class
+     * @param index    The index of the catalog class
+     * @param keys     The keys of the labels indexed by the dense index
+     * @param baseName The base name of the {@link ResourceBundle}
+     * @param locale   The locale
+     * @param loader   The class loader of the catalog class
+     * @return The table of the labels
+     */
+    private static <E extends CodeSupport & TagSupport<?>> Table<E> load(CatalogIndex<E> index, String[] keys,
+            String baseName, Locale locale, ClassLoader loader) {
+
+        ResourceBundle bundle;
+
+        try {
+            bundle = ResourceBundle.getBundle(baseName, locale, loader,
+                    ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT));
+        } catch (MissingResourceException e) {
+            bundle = null;
+        }
+
+        final String[] labels = new String[keys.length];
+
+        for (int i = 0; i < keys.length; i++) {
+            labels[i] = bundle != null && bundle.containsKey(keys[i]) ? bundle.getString(keys[i])
+                    : String.valueOf(index.get(i).getTag());
+        }
+
+        return new Table<>(index, labels);
+    }
+
+    /**
+     * The labels of the Enum elements of a catalog class for a locale resolved
+     * once by {@link CatalogLabels#forLocale(Locale)}.
+     *
+     * @param <E> The type of Enum class
+     */
+    public static final class Localized<E extends CodeSupport & TagSupport<?>> {
+
+        /**
+         * The locale requested by the caller
+         */
+        private final Locale locale;
+
+        /**
+         * The index of the catalog class
+         */
+        private final CatalogIndex<E> index;
+
+        /**
+         * The table of the labels of the resolved locale
+         */
+        private final Table<E> table;
+
+        /**
+         * Constructor
+         *
+         * @param locale The locale requested by the caller
+         * @param index  The index of the catalog class
+         * @param table  The table of the labels of the resolved locale
+         */
+        private Localized(Locale locale, CatalogIndex<E> index, Table<E> table) {
+            this.locale = locale;
+            this.index = index;
+            this.table = table;
+        }
+
+        /**
+         * Returns the locale requested by the caller.
+         *
+         * @return The locale
+         */
+        public Locale getLocale() {
+            return this.locale;
+        }
+
+        /**
+         * Returns the label of the Enum element given as an argument.
+         *
+         * @param element The Enum element
+         * @return The label of the Enum element
+         *
+         * @exception NullPointerException If {@code element} is {@code null}
+         */
+        public String getLabel(E element) {
+            Objects.requireNonNull(element, "element must not be null");
+            return this.table.labels[this.index.indexOf(element)];
+        }
+
+        /**
+         * Returns the Enum element whose label is equal to the label given as an
+         * argument. If several Enum elements have the same label, the Enum element
+         * whose code value is the smallest is returned.
+         *
+         * @param label The label
+         * @return The Enum element linked to the label, or {@code null} if no Enum
+         *         element has the label
+         */
+        public E getEnumByLabel(String label) {
+            return this.table.getReverseIndex().get(label);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("CatalogLabels.Localized[locale=%s]", this.locale);
+        }
+    }
+
+    /**
+     * The table of the labels of a locale.
+     *
+     * @param <E> The type of Enum class
+     */
+    private static final class Table<E extends CodeSupport> {
+
+        /**
+         * The index of the catalog class
+         */
+        private final CatalogIndex<E> index;
+
+        /**
+         * The labels indexed by the dense index
+         */
+        final String[] labels;
+
+        /**
+         * The reverse index from the label to the Enum element, which is built on
+         * first use
+         */
+        private volatile Map<String, E> reverseIndex;
+
+        /**
+         * Constructor
+         *
+         * @param index  The index of the catalog class
+         * @param labels The labels indexed by the dense index
+         */
+        Table(CatalogIndex<E> index, String[] labels) {
+            this.index = index;
+            this.labels = labels;
+        }
+
+        /**
+         * Returns the reverse index from the label to the Enum element.
+         *
+         * @return The reverse index
+         */
+        Map<String, E> getReverseIndex() {
+
+            Map<String, E> reverseIndex = this.reverseIndex;
+
+            if (reverseIndex == null) {
+                reverseIndex = new HashMap<>(this.labels.length * 2);
+
+                for (int i = 0; i < this.labels.length; i++) {
+                    reverseIndex.putIfAbsent(this.labels[i], this.index.get(i));
+                }
+
+                this.reverseIndex = reverseIndex;
+            }
+
+            return reverseIndex;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.Objects;
+
+/**
+ * The strategy used to find the Enum element linked to a code value or a tag
+ * value of a catalog class.
+ *
+ * <p>
+ * The strategy is chosen for each catalog class when its index is built, based
+ * on the number of the distinct values, the density of the code values and the
+ * type of the tag values. The strategies of a catalog class are returned by
+ * {@link #ofCode(Class)} and {@link #ofTag(Class)} for diagnostics.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public enum CatalogLookupStrategy {
+
+    /**
+     * The strategy that scans the values one by one. It is chosen when there are
+     * only a few distinct values. The values are reordered by the number of the
+     * sampled lookups that hit each value, so the values looked up most often are
+     * found first.
+     */
+    LINEAR_SCAN,
+
+    /**
+     * The strategy that looks up the array indexed by the code value minus the
+     * smallest code value. It is chosen when the code values are compact.
+     */
+    DENSE_ARRAY,
+
+    /**
+     * The strategy that looks up the array indexed by the ordinal of the tag
+     * value. It is chosen when all of the tag values are Enum elements of the same
+     * Enum class.
+     */
+    ORDINAL_ARRAY,
+
+    /**
+     * The strategy that looks up the hash table. It is chosen when the code values
+     * are sparse or there are many tag values.
+     */
+    HASH_TABLE;
+
+    /**
+     * Returns the strategy used to find the Enum element linked to a code value of
+     * the catalog class given as an argument.
+     *
+     * @param clazz The catalog class that implements the {@link Catalog} or
+     *              {@link BiCatalog} interface
+     * @return The strategy used for the code values
+     *
+     * @exception NullPointerException If {@code clazz} is {@code null}
+     */
+    public static CatalogLookupStrategy ofCode(Class<? extends CodeSupport> clazz) {
+        Objects.requireNonNull(clazz, "clazz must not be null");
+        return CatalogIndex.of(clazz).getCodeLookupStrategy();
+    }
+
+    /**
+     * Returns the strategy used to find the Enum element linked to a tag value of
+     * the catalog class given as an argument.
+     *
+     * @param clazz The catalog class that implements the {@link BiCatalog}
+     *              interface
+     * @return The strategy used for the tag values
+     *
+     * @exception NullPointerException If {@code clazz} is {@code null}
+     */
+    public static CatalogLookupStrategy ofTag(Class<? extends TagSupport<?>> clazz) {
+        Objects.requireNonNull(clazz, "clazz must not be null");
+        return CatalogIndex.of(clazz).getTagLookupStrategy();
+    }
+}
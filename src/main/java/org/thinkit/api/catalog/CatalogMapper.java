@@ -0,0 +1,285 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The class that translates the Enum elements of a source catalog class into
+ * the Enum elements of a target catalog class.
+ *
+ * <p>
+ * The translation is compiled when this mapper is created into flat arrays
+ * indexed by the dense index of the source catalog class, which is the position
+ * of the Enum element in the order of the code value. Translating an Enum
+ * element is therefore a single array access, and a column of code values is
+ * translated in a single loop without any boxing. The Enum elements of the
+ * source catalog class that have no counterpart are reported by
+ * {@link #getUnmappedElements()} so that an incomplete translation can be
+ * detected when this mapper is created.
+ *
+ * <pre>
+ * <code>
+ * final CatalogMapper&lt;PartnerStatus, Status&gt; mapper = CatalogMapper.of(PartnerStatus.class, Status.class,
+ *         partnerStatus -&gt; partnerStatus == PartnerStatus.OK ? Status.ACTIVE : Status.INACTIVE);
+ *
+ * mapper.map(PartnerStatus.OK); // Returns Status#ACTIVE
+ * mapper.mapCodes(partnerStatusCodes, -1); // Returns the code values of Status
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogMapper<S extends CodeSupport, T extends CodeSupport> {
+
+    /**
+     * The index of the source catalog class
+     */
+    private final CatalogIndex<S> sourceIndex;
+
+    /**
+     * The target Enum elements indexed by the dense index of the source
+     */
+    private final T[] targets;
+
+    /**
+     * The target code values indexed by the dense index of the source
+     */
+    private final int[] targetCodes;
+
+    /**
+     * The source Enum elements that have no counterpart
+     */
+    private final List<S> unmappedElements;
+
+    /**
+     * Constructor
+     *
+     * @param sourceIndex The index of the source catalog class
+     * @param targets     The target Enum elements indexed by the dense index of the
+     *                    source
+     */
+    private CatalogMapper(CatalogIndex<S> sourceIndex, T[] targets) {
+
+        this.sourceIndex = sourceIndex;
+        this.targets = targets;
+        this.targetCodes = new int[targets.length];
+
+        final List<S> unmappedElements = new ArrayList<>();
+
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] == null) {
+                unmappedElements.add(sourceIndex.get(i));
+            } else {
+                this.targetCodes[i] = targets[i].getCode();
+            }
+        }
+
+        this.unmappedElements = Collections.unmodifiableList(unmappedElements);
+    }
+
+    /**
+     * Returns the new instance of {@link CatalogMapper} compiled from the mapping
+     * function given as an argument. The mapping function is called once for each
+     * Enum element of the source catalog class, and the Enum element for which it
+     * returns {@code null} is reported as unmapped.
+     *
+     * @param <S>     The type of source Enum class
+     * @param <T>     The type of target Enum class
+     * @param source  The source catalog class
+     * @param target  The target catalog class
+     * @param mapping The mapping function
+     * @return The new instance of {@link CatalogMapper}
+     *
+     * @exception NullPointerException If any argument is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <S extends CodeSupport, T extends CodeSupport> CatalogMapper<S, T> of(Class<S> source,
+            Class<T> target, Function<? super S, ? extends T> mapping) {
+        Objects.requireNonNull(source, "source must not be null");
+        Objects.requireNonNull(target, "target must not be null");
+        Objects.requireNonNull(mapping, "mapping must not be null");
+
+        final CatalogIndex<S> sourceIndex = CatalogIndex.of(source);
+        final T[] targets = (T[]) Array.newInstance(target, sourceIndex.size());
+
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = mapping.apply(sourceIndex.get(i));
+        }
+
+        return new CatalogMapper<>(sourceIndex, targets);
+    }
+
+    /**
+     * Returns the new instance of {@link CatalogMapper} compiled from the pairs of
+     * code values given as an argument. Each pair is an array of two elements
+     * whose first element is the code value of the source and whose second element
+     * is the code value of the target. The Enum element of the source catalog
+     * class that does not appear in any pair is reported as unmapped.
+     *
+     * @param <S>       The type of source Enum class
+     * @param <T>       The type of target Enum class
+     * @param source    The source catalog class
+     * @param target    The target catalog class
+     * @param codePairs The pairs of the source code value and the target code value
+     * @return The new instance of {@link CatalogMapper}
+     *
+     * @exception NullPointerException     If any argument is {@code null}
+     * @exception IllegalArgumentException If any pair does not have two elements,
+     *                                     refers to an undefined code value or maps
+     *                                     the same source code value twice
+     */
+    @SuppressWarnings("unchecked")
+    public static <S extends CodeSupport, T extends CodeSupport> CatalogMapper<S, T> of(Class<S> source,
+            Class<T> target, int[]... codePairs) {
+        Objects.requireNonNull(source, "source must not be null");
+        Objects.requireNonNull(target, "target must not be null");
+        Objects.requireNonNull(codePairs, "codePairs must not be null");
+
+        final CatalogIndex<S> sourceIndex = CatalogIndex.of(source);
+        final CatalogIndex<T> targetIndex = CatalogIndex.of(target);
+        final T[] targets = (T[]) Array.newInstance(target, sourceIndex.size());
+
+        for (final int[] codePair : codePairs) {
+            if (codePair.length != 2) {
+                throw new IllegalArgumentException("Each code pair must have exactly two elements");
+            }
+
+            final int from = sourceIndex.indexOfCode(codePair[0]);
+            final int to = targetIndex.indexOfCode(codePair[1]);
+
+            if (from < 0) {
+                throw new IllegalArgumentException(
+                        String.format("The code value %d is not defined in %s", codePair[0], source.getName()));
+            } else if (to < 0) {
+                throw new IllegalArgumentException(
+                        String.format("The code value %d is not defined in %s", codePair[1], target.getName()));
+            } else if (targets[from] != null) {
+                throw new IllegalArgumentException(
+                        String.format("The code value %d of %s is mapped twice", codePair[0], source.getName()));
+            }
+
+            targets[from] = targetIndex.get(to);
+        }
+
+        return new CatalogMapper<>(sourceIndex, targets);
+    }
+
+    /**
+     * Returns the unmodifiable {@link List} of the Enum elements of the source
+     * catalog class that have no counterpart in the order of the code value.
+     *
+     * @return The source Enum elements that have no counterpart
+     */
+    public List<S> getUnmappedElements() {
+        return this.unmappedElements;
+    }
+
+    /**
+     * Checks if every Enum element of the source catalog class has a counterpart.
+     *
+     * @return {@code true} if every Enum element of the source catalog class has a
+     *         counterpart, otherwise {@code false}
+     */
+    public boolean isComplete() {
+        return this.unmappedElements.isEmpty();
+    }
+
+    /**
+     * Translates the source Enum element given as an argument.
+     *
+     * @param source The source Enum element
+     * @return The target Enum element, or {@code null} if the source Enum element
+     *         has no counterpart
+     *
+     * @exception NullPointerException If {@code source} is {@code null}
+     */
+    public T map(S source) {
+        return this.targets[this.sourceIndex.indexOf(source)];
+    }
+
+    /**
+     * Translates the source code value given as an argument.
+     *
+     * @param sourceCode The source code value
+     * @return The target Enum element, or {@code null} if the source code value is
+     *         not defined or has no counterpart
+     */
+    public T mapCode(int sourceCode) {
+        final int index = this.sourceIndex.indexOfCode(sourceCode);
+        return index < 0 ? null : this.targets[index];
+    }
+
+    /**
+     * Translates the column of the source code values given as an argument into a
+     * new column of the target code values.
+     *
+     * @param sourceCodes  The source code values
+     * @param unmappedCode The code value written for the source code value that is
+     *                     not defined or has no counterpart
+     * @return The target code values
+     *
+     * @exception NullPointerException If {@code sourceCodes} is {@code null}
+     */
+    public int[] mapCodes(int[] sourceCodes, int unmappedCode) {
+        final int[] targetCodes = new int[sourceCodes.length];
+        this.mapCodes(sourceCodes, targetCodes, unmappedCode);
+        return targetCodes;
+    }
+
+    /**
+     * Translates the column of the source code values given as an argument into the
+     * column of the target code values given as an argument. The source and the
+     * target may be the same array.
+     *
+     * @param sourceCodes  The source code values
+     * @param targetCodes  The array to which the target code values are written
+     * @param unmappedCode The code value written for the source code value that is
+     *                     not defined or has no counterpart
+     * @return The number of the source code values that were not translated
+     *
+     * @exception NullPointerException     If {@code sourceCodes} or
+     *                                     {@code targetCodes} is {@code null}
+     * @exception IllegalArgumentException If {@code targetCodes} is shorter than
+     *                                     {@code sourceCodes}
+     */
+    public int mapCodes(int[] sourceCodes, int[] targetCodes, int unmappedCode) {
+
+        if (targetCodes.length < sourceCodes.length) {
+            throw new IllegalArgumentException("targetCodes must not be shorter than sourceCodes");
+        }
+
+        int unmapped = 0;
+
+        for (int i = 0; i < sourceCodes.length; i++) {
+            final int index = this.sourceIndex.indexOfCode(sourceCodes[i]);
+
+            if (index < 0 || this.targets[index] == null) {
+                targetCodes[i] = unmappedCode;
+                unmapped++;
+            } else {
+                targetCodes[i] = this.targetCodes[index];
+            }
+        }
+
+        return unmapped;
+    }
+}
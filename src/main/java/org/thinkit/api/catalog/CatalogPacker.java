@@ -0,0 +1,575 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongPredicate;
+
+/**
+ * The class that packs the Enum elements of several catalog classes into a
+ * single {@code long} key.
+ *
+ * <p>
+ * Each catalog class given when this packer is created is assigned a field of
+ * the key, whose bit width is the number of the bits needed to hold the
+ * position of any Enum element in the order of the code value. The first
+ * catalog class occupies the most significant bits, and the sign bit is always
+ * {@code 0}, so comparing the keys as {@code long} values compares the Enum
+ * elements field by field in the order of the code value. Packing, unpacking
+ * and matching the keys only shift and mask the bits and never allocate any
+ * object.
+ *
+ * <p>
+ * The partial match of the keys is expressed by {@link KeyPattern}, which holds
+ * the mask of the fields to be matched and the expected bits of these fields.
+ *
+ * <pre>
+ * <code>
+ * final CatalogPacker packer = CatalogPacker.of(Region.class, Channel.class, Status.class);
+ * final long key = packer.pack(Region.ASIA, Channel.WEB, Status.ACTIVE);
+ *
+ * packer.get(key, 1, Channel.class); // Returns Channel#WEB
+ * packer.matching(2, Status.ACTIVE).test(key); // Returns true
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogPacker {
+
+    /**
+     * The maximum number of the bits of a key, which excludes the sign bit
+     */
+    private static final int MAX_BITS = Long.SIZE - 1;
+
+    /**
+     * The catalog class of each field
+     */
+    private final Class<?>[] classes;
+
+    /**
+     * The index of the catalog class of each field
+     */
+    private final CatalogIndex<?>[] indexes;
+
+    /**
+     * The bit width of each field
+     */
+    private final int[] widths;
+
+    /**
+     * The position of the least significant bit of each field
+     */
+    private final int[] shifts;
+
+    /**
+     * The mask of each field in place
+     */
+    private final long[] masks;
+
+    /**
+     * The number of the bits of a key
+     */
+    private final int bitWidth;
+
+    /**
+     * Constructor
+     *
+     * @param classes The catalog class of each field
+     *
+     * @exception IllegalArgumentException If the fields do not fit in a key
+     */
+    private CatalogPacker(Class<?>[] classes) {
+
+        final int fields = classes.length;
+        this.classes = classes;
+        this.indexes = new CatalogIndex<?>[fields];
+        this.widths = new int[fields];
+        this.shifts = new int[fields];
+        this.masks = new long[fields];
+
+        int bitWidth = 0;
+
+        for (int i = 0; i < fields; i++) {
+            this.indexes[i] = CatalogIndex.of(classes[i]);
+
+            final int size = this.indexes[i].size();
+            this.widths[i] = size <= 2 ? 1 : Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
+            bitWidth += this.widths[i];
+        }
+
+        if (bitWidth > MAX_BITS) {
+            throw new IllegalArgumentException(
+                    String.format("The fields need %d bits, which exceed %d bits", bitWidth, MAX_BITS));
+        }
+
+        this.bitWidth = bitWidth;
+
+        int shift = bitWidth;
+
+        for (int i = 0; i < fields; i++) {
+            shift -= this.widths[i];
+            this.shifts[i] = shift;
+            this.masks[i] = ((1L << this.widths[i]) - 1) << shift;
+        }
+    }
+
+    /**
+     * Returns the new instance of {@link CatalogPacker} whose fields are the
+     * catalog classes given as arguments in this order.
+     *
+     * @param classes The catalog class of each field
+     * @return The new instance of {@link CatalogPacker}
+     *
+     * @exception NullPointerException     If any catalog class is {@code null}
+     * @exception IllegalArgumentException If no catalog class is given or the
+     *                                     fields need more than 63 bits
+     */
+    @SafeVarargs
+    public static CatalogPacker of(Class<? extends CodeSupport>... classes) {
+        Objects.requireNonNull(classes, "classes must not be null");
+
+        if (classes.length == 0) {
+            throw new IllegalArgumentException("At least one catalog class must be given");
+        }
+
+        final Class<?>[] fields = new Class<?>[classes.length];
+
+        for (int i = 0; i < classes.length; i++) {
+            fields[i] = Objects.requireNonNull(classes[i], "clazz must not be null");
+        }
+
+        return new CatalogPacker(fields);
+    }
+
+    /**
+     * Returns the number of the fields.
+     *
+     * @return The number of the fields
+     */
+    public int getFieldCount() {
+        return this.classes.length;
+    }
+
+    /**
+     * Returns the bit width of the field given as an argument.
+     *
+     * @param field The field
+     * @return The bit width of the field
+     *
+     * @exception IndexOutOfBoundsException If the field does not exist
+     */
+    public int getBitWidth(int field) {
+        return this.widths[Objects.checkIndex(field, this.widths.length)];
+    }
+
+    /**
+     * Returns the number of the bits used by a key.
+     *
+     * @return The number of the bits used by a key
+     */
+    public int getBitWidth() {
+        return this.bitWidth;
+    }
+
+    /**
+     * Packs the Enum elements given as arguments into a key. The Enum element at
+     * position {@code i} must belong to the catalog class of the field {@code i}.
+     *
+     * @param elements The Enum element of each field
+     * @return The key
+     *
+     * @exception NullPointerException     If any Enum element is {@code null}
+     * @exception IllegalArgumentException If the number of the Enum elements is not
+     *                                     the number of the fields or any Enum
+     *                                     element does not belong to the catalog
+     *                                     class of its field
+     */
+    public long pack(CodeSupport... elements) {
+        this.checkLength(elements.length);
+
+        long key = 0L;
+
+        for (int i = 0; i < elements.length; i++) {
+            key = this.with(key, i, elements[i]);
+        }
+
+        return key;
+    }
+
+    /**
+     * Packs the Enum elements linked to the code values given as arguments into a
+     * key. The code value at position {@code i} must be defined in the catalog
+     * class of the field {@code i}.
+     *
+     * @param codes The code value of each field
+     * @return The key
+     *
+     * @exception IllegalArgumentException If the number of the code values is not
+     *                                     the number of the fields or any code
+     *                                     value is not defined in the catalog class
+     *                                     of its field
+     */
+    public long packCodes(int... codes) {
+        this.checkLength(codes.length);
+
+        long key = 0L;
+
+        for (int i = 0; i < codes.length; i++) {
+            key = this.withCode(key, i, codes[i]);
+        }
+
+        return key;
+    }
+
+    /**
+     * Returns the key whose field given as an argument is replaced with the Enum
+     * element given as an argument. A key can be built field by field from
+     * {@code 0L} with this method without creating any array.
+     *
+     * @param key     The key
+     * @param field   The field
+     * @param element The Enum element
+     * @return The key whose field is replaced
+     *
+     * @exception NullPointerException      If {@code element} is {@code null}
+     * @exception IndexOutOfBoundsException If the field does not exist
+     * @exception IllegalArgumentException  If the Enum element does not belong to
+     *                                      the catalog class of the field
+     */
+    public long with(long key, int field, CodeSupport element) {
+        return (key & ~this.masks[field]) | ((long) this.indexOf(field, element) << this.shifts[field]);
+    }
+
+    /**
+     * Returns the key whose field given as an argument is replaced with the Enum
+     * element linked to the code value given as an argument.
+     *
+     * @param key   The key
+     * @param field The field
+     * @param code  The code value
+     * @return The key whose field is replaced
+     *
+     * @exception IndexOutOfBoundsException If the field does not exist
+     * @exception IllegalArgumentException  If the code value is not defined in the
+     *                                      catalog class of the field
+     */
+    public long withCode(long key, int field, int code) {
+        final int position = this.indexes[field].indexOfCode(code);
+
+        if (position < 0) {
+            throw new IllegalArgumentException(String.format("The code value %d is not defined in %s", code,
+                    this.classes[field].getName()));
+        }
+
+        return (key & ~this.masks[field]) | ((long) position << this.shifts[field]);
+    }
+
+    /**
+     * Returns the Enum element of the field given as an argument in the key.
+     *
+     * @param key   The key
+     * @param field The field
+     * @return The Enum element of the field
+     *
+     * @exception IndexOutOfBoundsException If the field does not exist
+     * @exception IllegalArgumentException  If the field of the key holds no Enum
+     *                                      element
+     */
+    public CodeSupport get(long key, int field) {
+        return this.indexes[field].get(this.positionOf(key, field));
+    }
+
+    /**
+     * Returns the Enum element of the field given as an argument in the key as the
+     * type of the catalog class given as an argument.
+     *
+     * @param <E>   The type of Enum class
+     * @param key   The key
+     * @param field The field
+     * @param clazz The catalog class of the field
+     * @return The Enum element of the field
+     *
+     * @exception IndexOutOfBoundsException If the field does not exist
+     * @exception IllegalArgumentException  If the catalog class is not the catalog
+     *                                      class of the field or the field of the
+     *                                      key holds no Enum element
+     */
+    public <E extends CodeSupport> E get(long key, int field, Class<E> clazz) {
+
+        if (this.classes[field] != clazz) {
+            throw new IllegalArgumentException(
+                    String.format("The field %d is not %s but %s", field, clazz, this.classes[field].getName()));
+        }
+
+        return clazz.cast(this.get(key, field));
+    }
+
+    /**
+     * Returns the code value of the field given as an argument in the key.
+     *
+     * @param key   The key
+     * @param field The field
+     * @return The code value of the field
+     *
+     * @exception IndexOutOfBoundsException If the field does not exist
+     * @exception IllegalArgumentException  If the field of the key holds no Enum
+     *                                      element
+     */
+    public int getCode(long key, int field) {
+        return this.indexes[field].codeAt(this.positionOf(key, field));
+    }
+
+    /**
+     * Returns the pattern that matches the keys whose field given as an argument
+     * is the Enum element given as an argument. The pattern is narrowed to more
+     * fields by {@link KeyPattern#and(int, CodeSupport)}.
+     *
+     * @param field   The field
+     * @param element The Enum element
+     * @return The pattern that matches the keys
+     *
+     * @exception NullPointerException      If {@code element} is {@code null}
+     * @exception IndexOutOfBoundsException If the field does not exist
+     * @exception IllegalArgumentException  If the Enum element does not belong to
+     *                                      the catalog class of the field
+     */
+    public KeyPattern matching(int field, CodeSupport element) {
+        return new KeyPattern(0L, 0L).and(field, element);
+    }
+
+    /**
+     * Returns the pattern that matches the keys whose field given as an argument
+     * is the Enum element linked to the code value given as an argument.
+     *
+     * @param field The field
+     * @param code  The code value
+     * @return The pattern that matches the keys
+     *
+     * @exception IndexOutOfBoundsException If the field does not exist
+     * @exception IllegalArgumentException  If the code value is not defined in the
+     *                                      catalog class of the field
+     */
+    public KeyPattern matchingCode(int field, int code) {
+        return new KeyPattern(0L, 0L).andCode(field, code);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("CatalogPacker[");
+
+        for (int i = 0; i < this.classes.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+
+            builder.append(this.classes[i].getSimpleName()).append(':').append(this.widths[i]);
+        }
+
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Checks if the number of the values is the number of the fields.
+     *
+     * @param length The number of the values
+     *
+     * @exception IllegalArgumentException If the number of the values is not the
+     *                                     number of the fields
+     */
+    private void checkLength(int length) {
+        if (length != this.classes.length) {
+            throw new IllegalArgumentException(
+                    String.format("%d values are given for %d fields", length, this.classes.length));
+        }
+    }
+
+    /**
+     * Returns the dense index of the Enum element in the catalog class of the
+     * field.
+     *
+     * @param field   The field
+     * @param element The Enum element
+     * @return The dense index of the Enum element
+     *
+     * @exception IllegalArgumentException If the Enum element does not belong to
+     *                                     the catalog class of the field
+     */
+    @SuppressWarnings("unchecked")
+    private int indexOf(int field, CodeSupport element) {
+        Objects.requireNonNull(element, "element must not be null");
+
+        if (!this.classes[field].isInstance(element)) {
+            throw new IllegalArgumentException(
+                    String.format("%s does not belong to %s", element, this.classes[field].getName()));
+        }
+
+        return ((CatalogIndex<CodeSupport>) this.indexes[field]).indexOf(element);
+    }
+
+    /**
+     * Returns the dense index held by the field of the key.
+     *
+     * @param key   The key
+     * @param field The field
+     * @return The dense index held by the field
+     *
+     * @exception IllegalArgumentException If the field of the key holds no Enum
+     *                                     element
+     */
+    private int positionOf(long key, int field) {
+        final int position = (int) ((key & this.masks[field]) >>> this.shifts[field]);
+
+        if (position >= this.indexes[field].size()) {
+            throw new IllegalArgumentException(String.format("The field %d of the key %d holds no element of %s",
+                    field, key, this.classes[field].getName()));
+        }
+
+        return position;
+    }
+
+    /**
+     * The pattern that matches the keys whose some fields are the given Enum
+     * elements. The pattern is immutable, and testing a key is a single mask and
+     * comparison.
+     */
+    public final class KeyPattern implements LongPredicate {
+
+        /**
+         * The mask of the fields to be matched
+         */
+        private final long mask;
+
+        /**
+         * The expected bits of the fields to be matched
+         */
+        private final long value;
+
+        /**
+         * Constructor
+         *
+         * @param mask  The mask of the fields to be matched
+         * @param value The expected bits of the fields to be matched
+         */
+        private KeyPattern(long mask, long value) {
+            this.mask = mask;
+            this.value = value;
+        }
+
+        /**
+         * Returns the pattern that also requires the field given as an argument to
+         * be the Enum element given as an argument.
+         *
+         * @param field   The field
+         * @param element The Enum element
+         * @return The narrowed pattern
+         *
+         * @exception NullPointerException      If {@code element} is {@code null}
+         * @exception IndexOutOfBoundsException If the field does not exist
+         * @exception IllegalArgumentException  If the Enum element does not belong
+         *                                      to the catalog class of the field
+         */
+        public KeyPattern and(int field, CodeSupport element) {
+            return new KeyPattern(this.mask | masks[field], with(this.value, field, element));
+        }
+
+        /**
+         * Returns the pattern that also requires the field given as an argument to
+         * be the Enum element linked to the code value given as an argument.
+         *
+         * @param field The field
+         * @param code  The code value
+         * @return The narrowed pattern
+         *
+         * @exception IndexOutOfBoundsException If the field does not exist
+         * @exception IllegalArgumentException  If the code value is not defined in
+         *                                      the catalog class of the field
+         */
+        public KeyPattern andCode(int field, int code) {
+            return new KeyPattern(this.mask | masks[field], withCode(this.value, field, code));
+        }
+
+        /**
+         * Returns the mask of the fields to be matched.
+         *
+         * @return The mask of the fields to be matched
+         */
+        public long getMask() {
+            return this.mask;
+        }
+
+        /**
+         * Returns the expected bits of the fields to be matched.
+         *
+         * @return The expected bits of the fields to be matched
+         */
+        public long getValue() {
+            return this.value;
+        }
+
+        /**
+         * Checks if the key given as an argument matches this pattern.
+         *
+         * @param key The key
+         * @return {@code true} if the key matches this pattern, otherwise
+         *         {@code false}
+         */
+        @Override
+        public boolean test(long key) {
+            return (key & this.mask) == this.value;
+        }
+
+        /**
+         * Returns the number of the keys in the array given as an argument that
+         * match this pattern.
+         *
+         * @param keys The keys
+         * @return The number of the matching keys
+         */
+        public int count(long[] keys) {
+            int count = 0;
+
+            for (final long key : keys) {
+                if ((key & this.mask) == this.value) {
+                    count++;
+                }
+            }
+
+            return count;
+        }
+
+        /**
+         * Returns the keys in the array given as an argument that match this
+         * pattern in the original order.
+         *
+         * @param keys The keys
+         * @return The matching keys
+         */
+        public long[] filter(long[] keys) {
+            final long[] matches = new long[keys.length];
+            int count = 0;
+
+            for (final long key : keys) {
+                if ((key & this.mask) == this.value) {
+                    matches[count++] = key;
+                }
+            }
+
+            return Arrays.copyOf(matches, count);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The class that represents the partition of the Enum elements of a catalog
+ * class by a predicate.
+ *
+ * <p>
+ * The result of the predicate for each Enum element is held as a bitset over the
+ * dense index of the element, which is the position of the element in the order
+ * of the code value. The partition is immutable and is shared by every call that
+ * passes the same predicate to {@link Catalog#partitioningBy(Class, Predicate)}
+ * or {@link BiCatalog#partitioningBy(Class, Predicate)}, so {@link #test(CodeSupport)}
+ * is a single bit test without evaluating the predicate again.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogPartition<E extends CodeSupport> {
+
+    /**
+     * The index of the catalog class
+     */
+    private final CatalogIndex<E> index;
+
+    /**
+     * The bits of the Enum elements that satisfy the predicate
+     */
+    private final long[] words;
+
+    /**
+     * The Enum elements that satisfy the predicate
+     */
+    private final List<E> matching;
+
+    /**
+     * The Enum elements that do not satisfy the predicate
+     */
+    private final List<E> nonMatching;
+
+    /**
+     * Constructor
+     *
+     * @param index     The index of the catalog class
+     * @param predicate The predicate
+     */
+    CatalogPartition(CatalogIndex<E> index, Predicate<? super E> predicate) {
+        this.index = index;
+        this.words = CatalogBits.create(index.size());
+
+        final List<E> matching = new ArrayList<>();
+        final List<E> nonMatching = new ArrayList<>();
+
+        for (int i = 0; i < index.size(); i++) {
+            final E element = index.get(i);
+
+            if (predicate.test(element)) {
+                CatalogBits.set(this.words, i);
+                matching.add(element);
+            } else {
+                nonMatching.add(element);
+            }
+        }
+
+        this.matching = Collections.unmodifiableList(matching);
+        this.nonMatching = Collections.unmodifiableList(nonMatching);
+    }
+
+    /**
+     * Checks if the Enum element given as an argument satisfies the predicate.
+     *
+     * @param element The Enum element
+     * @return {@code true} if the Enum element satisfies the predicate, otherwise
+     *         {@code false}
+     */
+    public boolean test(E element) {
+        return this.get(this.index.indexOf(element));
+    }
+
+    /**
+     * Checks if the Enum element at the dense index given as an argument satisfies
+     * the predicate.
+     *
+     * @param index The dense index of the Enum element
+     * @return {@code true} if the Enum element satisfies the predicate, otherwise
+     *         {@code false}
+     *
+     * @exception IndexOutOfBoundsException If {@code index} is out of range
+     */
+    public boolean get(int index) {
+        if (index < 0 || index >= this.index.size()) {
+            throw new IndexOutOfBoundsException(String.format("Index %d out of bounds for length %d", index,
+                    this.index.size()));
+        }
+
+        return CatalogBits.get(this.words, index);
+    }
+
+    /**
+     * Returns the number of the Enum elements that satisfy the predicate.
+     *
+     * @return The number of the Enum elements that satisfy the predicate
+     */
+    public int cardinality() {
+        return this.matching.size();
+    }
+
+    /**
+     * Returns the unmodifiable {@link List} of the Enum elements that satisfy the
+     * predicate in the order of the code value.
+     *
+     * @return The Enum elements that satisfy the predicate
+     */
+    public List<E> getMatching() {
+        return this.matching;
+    }
+
+    /**
+     * Returns the unmodifiable {@link List} of the Enum elements that do not
+     * satisfy the predicate in the order of the code value.
+     *
+     * @return The Enum elements that do not satisfy the predicate
+     */
+    public List<E> getNonMatching() {
+        return this.nonMatching;
+    }
+
+    /**
+     * Returns the copy of the bits of the Enum elements that satisfy the predicate
+     * as a {@link BitSet} over the dense index.
+     *
+     * @return The copy of the bits
+     */
+    public BitSet toBitSet() {
+        return BitSet.valueOf(this.words);
+    }
+
+    /**
+     * Returns the copy of the bits of the Enum elements that satisfy the predicate
+     * as the words of a bitset over the dense index. The words are in the same
+     * layout as the argument of {@link BitSet#valueOf(long[])}.
+     *
+     * @return The copy of the bits
+     */
+    public long[] toLongArray() {
+        return this.words.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CatalogPartition[matching=%s, nonMatching=%s]", this.matching, this.nonMatching);
+    }
+}
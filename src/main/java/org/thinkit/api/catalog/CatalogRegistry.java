@@ -0,0 +1,334 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The class that assigns a namespace to each catalog class and resolves a
+ * global key made of a namespace and a code value to an Enum element.
+ *
+ * <p>
+ * A catalog class is registered with a namespace chosen by the caller so that
+ * the namespace stays stable across processes. The pair of the namespace and a
+ * code value is packed into a single {@code long} key by
+ * {@link #pack(int, int)}, and {@link #resolve(long)} resolves the key to the
+ * Enum element with a single lookup in a flat open addressing table that covers
+ * all registered catalog classes. The key is therefore a compact and uniform
+ * identifier of an Enum element for the caches and the indexes that mix several
+ * catalog classes.
+ *
+ * <p>
+ * The registration rebuilds the table and is synchronized, while the lookups
+ * read the latest table without any lock. If the same code value is defined
+ * twice in a catalog class, the Enum element declared first is resolved, which
+ * is the same as {@link Catalog#getEnum(Class, int)}.
+ *
+ * <pre>
+ * <code>
+ * CatalogRegistry.register(EnumClass.class, 1);
+ *
+ * final long key = CatalogRegistry.toKey(EnumClass.ELEMENT_2); // Same as CatalogRegistry.pack(1, 1)
+ * final EnumClass element = CatalogRegistry.resolve(key); // Returns EnumClass#ELEMENT_2
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogRegistry {
+
+    /**
+     * The multiplier used to spread the keys over the table
+     */
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The lock of the registration
+     */
+    private static final Object LOCK = new Object();
+
+    /**
+     * The latest table
+     */
+    private static volatile Table table = new Table(new HashMap<>());
+
+    /**
+     * Constructor
+     */
+    private CatalogRegistry() {
+    }
+
+    /**
+     * Registers the catalog class given as an argument with the namespace given as
+     * an argument. Registering the same catalog class with the same namespace again
+     * has no effect.
+     *
+     * @param clazz     The catalog class that implements the {@link Catalog} or
+     *                  {@link BiCatalog} interface
+     * @param namespace The namespace of the catalog class
+     *
+     * @exception NullPointerException     If {@code clazz} is {@code null}
+     * @exception IllegalArgumentException If {@code clazz} is not an Enum class,
+     *                                     the catalog class is already registered
+     *                                     with another namespace or the namespace
+     *                                     is already assigned to another catalog
+     *                                     class
+     */
+    public static void register(Class<? extends CodeSupport> clazz, int namespace) {
+        Objects.requireNonNull(clazz, "clazz must not be null");
+
+        synchronized (LOCK) {
+            final Map<Integer, Class<?>> classes = new HashMap<>(table.classes);
+            final Class<?> registered = classes.get(namespace);
+
+            if (registered == clazz) {
+                return;
+            } else if (registered != null) {
+                throw new IllegalArgumentException(String.format("The namespace %d is already assigned to %s",
+                        namespace, registered.getName()));
+            } else if (table.namespaces.containsKey(clazz)) {
+                throw new IllegalArgumentException(String.format("%s is already registered with the namespace %d",
+                        clazz.getName(), table.namespaces.get(clazz)));
+            }
+
+            CatalogIndex.of(clazz);
+            classes.put(namespace, clazz);
+            table = new Table(classes);
+        }
+    }
+
+    /**
+     * Returns the namespace of the catalog class given as an argument.
+     *
+     * @param clazz The catalog class
+     * @return The namespace of the catalog class
+     *
+     * @exception IllegalArgumentException If the catalog class is not registered
+     */
+    public static int getNamespace(Class<? extends CodeSupport> clazz) {
+
+        final Integer namespace = table.namespaces.get(clazz);
+
+        if (namespace == null) {
+            throw new IllegalArgumentException(String.format("%s is not registered", clazz.getName()));
+        }
+
+        return namespace;
+    }
+
+    /**
+     * Checks if the catalog class given as an argument is registered.
+     *
+     * @param clazz The catalog class
+     * @return {@code true} if the catalog class is registered, otherwise
+     *         {@code false}
+     */
+    public static boolean isRegistered(Class<? extends CodeSupport> clazz) {
+        return table.namespaces.containsKey(clazz);
+    }
+
+    /**
+     * Packs the namespace and the code value given as arguments into a single
+     * {@code long} key. The namespace occupies the upper 32 bits and the code value
+     * occupies the lower 32 bits.
+     *
+     * @param namespace The namespace
+     * @param code      The code value
+     * @return The packed key
+     */
+    public static long pack(int namespace, int code) {
+        return ((long) namespace << 32) | (code & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the namespace of the key given as an argument.
+     *
+     * @param key The packed key
+     * @return The namespace of the key
+     */
+    public static int getNamespace(long key) {
+        return (int) (key >>> 32);
+    }
+
+    /**
+     * Returns the code value of the key given as an argument.
+     *
+     * @param key The packed key
+     * @return The code value of the key
+     */
+    public static int getCode(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Returns the key of the Enum element given as an argument.
+     *
+     * @param element The Enum element of a registered catalog class
+     * @return The key of the Enum element
+     *
+     * @exception IllegalArgumentException If the catalog class of the Enum element
+     *                                     is not registered
+     */
+    public static long toKey(CodeSupport element) {
+        @SuppressWarnings("unchecked")
+        final Class<? extends CodeSupport> clazz = (Class<? extends CodeSupport>) ((Enum<?>) element)
+                .getDeclaringClass();
+        return pack(getNamespace(clazz), element.getCode());
+    }
+
+    /**
+     * Returns the Enum element linked to the key given as an argument.
+     *
+     * @param <E> The type of Enum class
+     * @param key The packed key
+     * @return The Enum element linked to the key, or {@code null} if no Enum
+     *         element is linked to the key
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends CodeSupport> E resolve(long key) {
+        return (E) table.find(key);
+    }
+
+    /**
+     * Returns the Enum element linked to the namespace and the code value given as
+     * arguments.
+     *
+     * @param <E>       The type of Enum class
+     * @param namespace The namespace
+     * @param code      The code value
+     * @return The Enum element linked to the namespace and the code value, or
+     *         {@code null} if no Enum element is linked to them
+     */
+    public static <E extends CodeSupport> E resolve(int namespace, int code) {
+        return resolve(pack(namespace, code));
+    }
+
+    /**
+     * The immutable snapshot of the registry.
+     */
+    private static final class Table {
+
+        /**
+         * The catalog classes indexed by the namespace
+         */
+        private final Map<Integer, Class<?>> classes;
+
+        /**
+         * The namespaces indexed by the catalog class
+         */
+        private final Map<Class<?>, Integer> namespaces;
+
+        /**
+         * The keys of the slots
+         */
+        private final long[] keys;
+
+        /**
+         * The Enum elements of the slots, {@code null} for the empty slot
+         */
+        private final Object[] elements;
+
+        /**
+         * The shift applied to the hash to compute the slot
+         */
+        private final int shift;
+
+        /**
+         * Constructor
+         *
+         * @param classes The catalog classes indexed by the namespace
+         */
+        Table(Map<Integer, Class<?>> classes) {
+
+            this.classes = classes;
+            this.namespaces = new HashMap<>(classes.size() * 2);
+
+            int size = 0;
+
+            for (final Map.Entry<Integer, Class<?>> entry : classes.entrySet()) {
+                this.namespaces.put(entry.getValue(), entry.getKey());
+                size += CatalogIndex.of(entry.getValue()).size();
+            }
+
+            final int capacity = Math.max(16, Integer.highestOneBit(Math.max(1, size * 2 - 1)) << 1);
+            this.keys = new long[capacity];
+            this.elements = new Object[capacity];
+            this.shift = Long.numberOfLeadingZeros(capacity - 1);
+
+            for (final Map.Entry<Integer, Class<?>> entry : classes.entrySet()) {
+                final CatalogIndex<?> index = CatalogIndex.of(entry.getValue());
+
+                for (int i = 0; i < index.size(); i++) {
+                    this.put(pack(entry.getKey(), index.codeAt(i)), index.get(i));
+                }
+            }
+        }
+
+        /**
+         * Puts the Enum element in the slot of the key unless the key is already
+         * present.
+         *
+         * @param key     The key
+         * @param element The Enum element
+         */
+        private void put(long key, Object element) {
+
+            final int mask = this.keys.length - 1;
+
+            for (int slot = this.slotOf(key);; slot = (slot + 1) & mask) {
+                if (this.elements[slot] == null) {
+                    this.keys[slot] = key;
+                    this.elements[slot] = element;
+                    return;
+                } else if (this.keys[slot] == key) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Returns the Enum element linked to the key given as an argument.
+         *
+         * @param key The key
+         * @return The Enum element, or {@code null} if no Enum element is linked to
+         *         the key
+         */
+        Object find(long key) {
+
+            final int mask = this.keys.length - 1;
+
+            for (int slot = this.slotOf(key);; slot = (slot + 1) & mask) {
+                final Object element = this.elements[slot];
+
+                if (element == null || this.keys[slot] == key) {
+                    return element;
+                }
+            }
+        }
+
+        /**
+         * Returns the first slot probed for the key given as an argument.
+         *
+         * @param key The key
+         * @return The first slot
+         */
+        private int slotOf(long key) {
+            return (int) ((key * HASH_MULTIPLIER) >>> this.shift);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The unmodifiable {@link java.util.Set} of the Enum elements of a catalog class
+ * held as a bitset over the position of each Enum element in the order of the
+ * code value.
+ *
+ * <p>
+ * The instance of this class is the result of
+ * {@link CatalogCollectors#toCatalogSet(Class)}. The Enum elements are iterated
+ * in the order of the code value, and the membership can be tested either by the
+ * Enum element or by the code value.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogSet<E extends CodeSupport> extends AbstractSet<E> {
+
+    /**
+     * The catalog class
+     */
+    private final Class<E> type;
+
+    /**
+     * The index of the catalog class
+     */
+    private final CatalogIndex<E> index;
+
+    /**
+     * The bits of the Enum elements in the set
+     */
+    private final long[] words;
+
+    /**
+     * The number of the Enum elements in the set
+     */
+    private final int size;
+
+    /**
+     * Constructor
+     *
+     * @param type  The catalog class
+     * @param index The index of the catalog class
+     * @param words The bits of the Enum elements in the set
+     */
+    CatalogSet(Class<E> type, CatalogIndex<E> index, long[] words) {
+        this.type = type;
+        this.index = index;
+        this.words = words;
+        this.size = CatalogBits.cardinality(words);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return this.type.isInstance(o) && CatalogBits.get(this.words, this.index.indexOf(this.type.cast(o)));
+    }
+
+    /**
+     * Checks if the Enum element linked to the code value given as an argument is
+     * in the set.
+     *
+     * @param code The code value
+     * @return {@code true} if the Enum element linked to the code value is in the
+     *         set, otherwise {@code false}
+     */
+    public boolean containsCode(int code) {
+        final int index = this.index.indexOfCode(code);
+        return index >= 0 && CatalogBits.get(this.words, index);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+
+            /**
+             * The dense index of the next Enum element, or {@code -1} if there is no
+             * more Enum element
+             */
+            private int next = CatalogBits.nextSetBit(words, 0);
+
+            @Override
+            public boolean hasNext() {
+                return this.next >= 0;
+            }
+
+            @Override
+            public E next() {
+                if (this.next < 0) {
+                    throw new NoSuchElementException();
+                }
+
+                final E element = index.get(this.next);
+                this.next = CatalogBits.nextSetBit(words, this.next + 1);
+                return element;
+            }
+        };
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * The class that sorts and partitions the records by the Enum element of a
+ * catalog class extracted from each record.
+ *
+ * <p>
+ * Since a catalog class has only a few Enum elements, the records are sorted by
+ * a counting sort over the position of each Enum element in the order of the
+ * code value instead of a comparison sort. The key extractor is called once for
+ * each record, the number of the records of each Enum element is counted, and
+ * each record is moved once to its final position. The sort is stable, and the
+ * order of the Enum elements is the same as
+ * {@link Catalog#getOrderedList(Class)}. The parallel variants count and move
+ * the records of each chunk on the common {@link ForkJoinPool}, and keep the
+ * result stable by giving each chunk its own range in each bucket.
+ *
+ * <p>
+ * The result is returned as {@link CatalogBuckets}, which holds the boundaries
+ * of the records of each Enum element, so that the records of each Enum element
+ * can be processed without another pass over the records.
+ *
+ * <pre>
+ * <code>
+ * final CatalogBuckets&lt;Status, Order&gt; buckets = CatalogSorter.sort(orders, Status.class, Order::getStatus);
+ *
+ * buckets.get(Status.ACTIVE); // Returns the orders whose status is ACTIVE
+ * buckets.forEach((status, slice) -&gt; process(status, slice));
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogSorter {
+
+    /**
+     * The minimum number of the records of a chunk of the parallel sort
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 13;
+
+    /**
+     * Constructor
+     */
+    private CatalogSorter() {
+    }
+
+    /**
+     * Sorts the list given as an argument in place by the Enum element that the
+     * key extractor given as an argument extracts from each record.
+     *
+     * @param <R>          The type of record
+     * @param <E>          The type of Enum class
+     * @param records      The list of the records
+     * @param clazz        The catalog class
+     * @param keyExtractor The function that extracts the Enum element from each
+     *                     record
+     * @return The boundaries of the records of each Enum element in the sorted list
+     *
+     * @exception NullPointerException          If any argument is {@code null} or
+     *                                          the key extractor returns
+     *                                          {@code null}
+     * @exception UnsupportedOperationException If the list does not support the
+     *                                          {@code set} operation
+     */
+    public static <R, E extends CodeSupport> CatalogBuckets<E, R> sort(List<R> records, Class<E> clazz,
+            Function<? super R, ? extends E> keyExtractor) {
+        return sort(records, clazz, keyExtractor, false);
+    }
+
+    /**
+     * Sorts the list given as an argument in place in parallel by the Enum element
+     * that the key extractor given as an argument extracts from each record.
+     *
+     * @param <R>          The type of record
+     * @param <E>          The type of Enum class
+     * @param records      The list of the records
+     * @param clazz        The catalog class
+     * @param keyExtractor The function that extracts the Enum element from each
+     *                     record, which must be safe to call from several threads
+     * @return The boundaries of the records of each Enum element in the sorted list
+     *
+     * @exception NullPointerException          If any argument is {@code null} or
+     *                                          the key extractor returns
+     *                                          {@code null}
+     * @exception UnsupportedOperationException If the list does not support the
+     *                                          {@code set} operation
+     */
+    public static <R, E extends CodeSupport> CatalogBuckets<E, R> parallelSort(List<R> records, Class<E> clazz,
+            Function<? super R, ? extends E> keyExtractor) {
+        return sort(records, clazz, keyExtractor, true);
+    }
+
+    /**
+     * Sorts the array given as an argument in place by the Enum element that the
+     * key extractor given as an argument extracts from each record.
+     *
+     * @param <R>          The type of record
+     * @param <E>          The type of Enum class
+     * @param records      The array of the records
+     * @param clazz        The catalog class
+     * @param keyExtractor The function that extracts the Enum element from each
+     *                     record
+     * @return The boundaries of the records of each Enum element in the sorted
+     *         array
+     *
+     * @exception NullPointerException If any argument is {@code null} or the key
+     *                                 extractor returns {@code null}
+     */
+    public static <R, E extends CodeSupport> CatalogBuckets<E, R> sort(R[] records, Class<E> clazz,
+            Function<? super R, ? extends E> keyExtractor) {
+        return sort(records, clazz, keyExtractor, false);
+    }
+
+    /**
+     * Sorts the array given as an argument in place in parallel by the Enum
+     * element that the key extractor given as an argument extracts from each
+     * record.
+     *
+     * @param <R>          The type of record
+     * @param <E>          The type of Enum class
+     * @param records      The array of the records
+     * @param clazz        The catalog class
+     * @param keyExtractor The function that extracts the Enum element from each
+     *                     record, which must be safe to call from several threads
+     * @return The boundaries of the records of each Enum element in the sorted
+     *         array
+     *
+     * @exception NullPointerException If any argument is {@code null} or the key
+     *                                 extractor returns {@code null}
+     */
+    public static <R, E extends CodeSupport> CatalogBuckets<E, R> parallelSort(R[] records, Class<E> clazz,
+            Function<? super R, ? extends E> keyExtractor) {
+        return sort(records, clazz, keyExtractor, true);
+    }
+
+    /**
+     * Partitions the records given as an argument by the Enum element that the key
+     * extractor given as an argument extracts from each record. Unlike
+     * {@link #sort(List, Class, Function)}, the records given as an argument are
+     * not modified, and the partitioned records are held by the result.
+     *
+     * @param <R>          The type of record
+     * @param <E>          The type of Enum class
+     * @param records      The records
+     * @param clazz        The catalog class
+     * @param keyExtractor The function that extracts the Enum element from each
+     *                     record
+     * @return The partitioned records
+     *
+     * @exception NullPointerException If any argument is {@code null} or the key
+     *                                 extractor returns {@code null}
+     */
+    public static <R, E extends CodeSupport> CatalogBuckets<E, R> partition(Collection<? extends R> records,
+            Class<E> clazz, Function<? super R, ? extends E> keyExtractor) {
+        return partition(records, clazz, keyExtractor, false);
+    }
+
+    /**
+     * Partitions the records given as an argument in parallel by the Enum element
+     * that the key extractor given as an argument extracts from each record.
+     * Unlike {@link #parallelSort(List, Class, Function)}, the records given as an
+     * argument are not modified, and the partitioned records are held by the
+     * result.
+     *
+     * @param <R>          The type of record
+     * @param <E>          The type of Enum class
+     * @param records      The records
+     * @param clazz        The catalog class
+     * @param keyExtractor The function that extracts the Enum element from each
+     *                     record, which must be safe to call from several threads
+     * @return The partitioned records
+     *
+     * @exception NullPointerException If any argument is {@code null} or the key
+     *                                 extractor returns {@code null}
+     */
+    public static <R, E extends CodeSupport> CatalogBuckets<E, R> parallelPartition(Collection<? extends R> records,
+            Class<E> clazz, Function<? super R, ? extends E> keyExtractor) {
+        return partition(records, clazz, keyExtractor, true);
+    }
+
+    /**
+     * Sorts the list in place.
+     *
+     * @param <R>          The type of record
+     * @param <E>          The type of Enum class
+     * @param records      The list of the records
+     * @param clazz        The catalog class
+     * @param keyExtractor The function that extracts the Enum element
+     * @param parallel     {@code true} if the records are sorted in parallel
+     * @return The boundaries of the records of each Enum element
+     */
+    @SuppressWarnings("unchecked")
+    private static <R, E extends CodeSupport> CatalogBuckets<E, R> sort(List<R> records, Class<E> clazz,
+            Function<? super R, ? extends E> keyExtractor, boolean parallel) {
+        Objects.requireNonNull(records, "records must not be null");
+        Objects.requireNonNull(clazz, "clazz must not be null");
+        Objects.requireNonNull(keyExtractor, "keyExtractor must not be null");
+
+        final CatalogIndex<E> index = CatalogIndex.of(clazz);
+        final Object[] sorted = new Object[records.size()];
+        final int[] offsets = sort(records.toArray(), sorted, index, keyExtractor, parallel);
+        final ListIterator<R> iterator = records.listIterator();
+
+        for (final Object record : sorted) {
+            iterator.next();
+            iterator.set((R) record);
+        }
+
+        return new CatalogBuckets<>(index, Collections.unmodifiableList(records), offsets);
+    }
+
+    /**
+     * Sorts the array in place.
+     *
+     * @param <R>          The type of record
+     * @param <E>          The type of Enum class
+     * @param records      The array of the records
+     * @param clazz        The catalog class
+     * @param keyExtractor The function that extracts the Enum element
+     * @param parallel     {@code true} if the records are sorted in parallel
+     * @return The boundaries of the records of each Enum element
+     */
+    private static <R, E extends CodeSupport> CatalogBuckets<E, R> sort(R[] records, Class<E> clazz,
+            Function<? super R, ? extends E> keyExtractor, boolean parallel) {
+        Objects.requireNonNull(records, "records must not be null");
+        Objects.requireNonNull(clazz, "clazz must not be null");
+        Objects.requireNonNull(keyExtractor, "keyExtractor must not be null");
+
+        final CatalogIndex<E> index = CatalogIndex.of(clazz);
+        final int[] offsets = sort(records.clone(), records, index, keyExtractor, parallel);
+
+        return new CatalogBuckets<>(index, Collections.unmodifiableList(Arrays.asList(records)), offsets);
+    }
+
+    /**
+     * Partitions the records into a new array.
+     *
+     * @param <R>          The type of record
+     * @param <E>          The type of Enum class
+     * @param records      The records
+     * @param clazz        The catalog class
+     * @param keyExtractor The function that extracts the Enum element
+     * @param parallel     {@code true} if the records are partitioned in parallel
+     * @return The partitioned records
+     */
+    @SuppressWarnings("unchecked")
+    private static <R, E extends CodeSupport> CatalogBuckets<E, R> partition(Collection<? extends R> records,
+            Class<E> clazz, Function<? super R, ? extends E> keyExtractor, boolean parallel) {
+        Objects.requireNonNull(records, "records must not be null");
+        Objects.requireNonNull(clazz, "clazz must not be null");
+        Objects.requireNonNull(keyExtractor, "keyExtractor must not be null");
+
+        final CatalogIndex<E> index = CatalogIndex.of(clazz);
+        final Object[] source = records.toArray();
+        final Object[] partitioned = new Object[source.length];
+        final int[] offsets = sort(source, partitioned, index, keyExtractor, parallel);
+
+        return new CatalogBuckets<>(index, Collections.unmodifiableList((List<R>) Arrays.asList(partitioned)),
+                offsets);
+    }
+
+    /**
+     * Moves the records of the source array into the target array in the order of
+     * the Enum element, keeping the order of the records of the same Enum element.
+     *
+     * @param <R>          The type of record
+     * @param <E>          The type of Enum class
+     * @param source       The records to be sorted
+     * @param target       The array that receives the sorted records
+     * @param index        The index of the catalog class
+     * @param keyExtractor The function that extracts the Enum element
+     * @param parallel     {@code true} if the records are sorted in parallel
+     * @return The start of the records of each Enum element in the order of the
+     *         code value, followed by the number of the records
+     */
+    private static <R, E extends CodeSupport> int[] sort(Object[] source, Object[] target, CatalogIndex<E> index,
+            Function<? super R, ? extends E> keyExtractor, boolean parallel) {
+
+        final int length = source.length;
+        final int buckets = index.size();
+        final int[] keys = new int[length];
+        final int chunks = parallel ? Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, length / MIN_CHUNK_SIZE)
+                : 1;
+
+        if (chunks <= 1) {
+            final int[] offsets = new int[buckets + 1];
+
+            for (int i = 0; i < length; i++) {
+                keys[i] = keyOf(source[i], index, keyExtractor);
+                offsets[keys[i] + 1]++;
+            }
+
+            for (int i = 0; i < buckets; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+
+            final int[] positions = Arrays.copyOf(offsets, buckets);
+
+            for (int i = 0; i < length; i++) {
+                target[positions[keys[i]]++] = source[i];
+            }
+
+            return offsets;
+        }
+
+        final int chunkSize = (length + chunks - 1) / chunks;
+        final int[][] positions = new int[chunks][buckets];
+
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final int[] counts = positions[chunk];
+
+            for (int i = chunk * chunkSize, end = Math.min(length, i + chunkSize); i < end; i++) {
+                keys[i] = keyOf(source[i], index, keyExtractor);
+                counts[keys[i]]++;
+            }
+        });
+
+        final int[] offsets = new int[buckets + 1];
+        int position = 0;
+
+        for (int i = 0; i < buckets; i++) {
+            offsets[i] = position;
+
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                final int count = positions[chunk][i];
+                positions[chunk][i] = position;
+                position += count;
+            }
+        }
+
+        offsets[buckets] = position;
+
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final int[] next = positions[chunk];
+
+            for (int i = chunk * chunkSize, end = Math.min(length, i + chunkSize); i < end; i++) {
+                target[next[keys[i]]++] = source[i];
+            }
+        });
+
+        return offsets;
+    }
+
+    /**
+     * Returns the dense index of the Enum element extracted from the record.
+     *
+     * @param <R>          The type of record
+     * @param <E>          The type of Enum class
+     * @param record       The record
+     * @param index        The index of the catalog class
+     * @param keyExtractor The function that extracts the Enum element
+     * @return The dense index of the Enum element
+     */
+    @SuppressWarnings("unchecked")
+    private static <R, E extends CodeSupport> int keyOf(Object record, CatalogIndex<E> index,
+            Function<? super R, ? extends E> keyExtractor) {
+        return index.indexOf(Objects.requireNonNull(keyExtractor.apply((R) record), "key must not be null"));
+    }
+}
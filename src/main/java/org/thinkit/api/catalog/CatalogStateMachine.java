@@ -0,0 +1,354 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The class that represents the state machine whose states are the Enum
+ * elements of a catalog class.
+ *
+ * <p>
+ * The state machine is compiled from the list of the allowed transitions into a
+ * bit matrix whose rows and columns are the index of each Enum element in the
+ * order of the code value, so {@link #canTransition(int, int)} is answered by
+ * looking up the two code values in the index of the catalog class and a single
+ * bit test. The next states of each state, the transitive closure of the
+ * transitions and the terminal states, which have no next state, are computed
+ * when the state machine is compiled, so every query afterwards returns the
+ * precomputed result without any allocation.
+ *
+ * <p>
+ * The state machine is keyed by the code value, so the catalog class must not
+ * have several Enum elements with the same code value.
+ *
+ * <pre>
+ * <code>
+ * final CatalogStateMachine&lt;OrderState&gt; machine = CatalogStateMachine.of(OrderState.class,
+ *         new int[] { 0, 1 }, new int[] { 1, 2 }, new int[] { 1, 3 });
+ *
+ * machine.canTransition(0, 1); // Returns true
+ * machine.isReachable(0, 3); // Returns true
+ * machine.getTerminalStates(); // Returns [SHIPPED, CANCELLED]
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogStateMachine<E extends Catalog<E>> {
+
+    /**
+     * The index of the catalog class
+     */
+    private final CatalogIndex<E> index;
+
+    /**
+     * The number of the {@code long} words of each row
+     */
+    private final int words;
+
+    /**
+     * The bits of the allowed transitions laid out row by row
+     */
+    private final long[] transitions;
+
+    /**
+     * The bits of the reachable states laid out row by row
+     */
+    private final long[] reachability;
+
+    /**
+     * The next states of each state indexed by the dense index
+     */
+    private final List<List<E>> nextStates;
+
+    /**
+     * The reachable states of each state indexed by the dense index
+     */
+    private final List<List<E>> reachableStates;
+
+    /**
+     * The terminal states
+     */
+    private final List<E> terminalStates;
+
+    /**
+     * Constructor
+     *
+     * @param index       The index of the catalog class
+     * @param words       The number of the {@code long} words of each row
+     * @param transitions The bits of the allowed transitions laid out row by row
+     */
+    private CatalogStateMachine(CatalogIndex<E> index, int words, long[] transitions) {
+        this.index = index;
+        this.words = words;
+        this.transitions = transitions;
+        this.reachability = transitions.clone();
+
+        final int size = index.size();
+
+        for (int k = 0; k < size; k++) {
+            final int via = k * words;
+
+            for (int i = 0; i < size; i++) {
+                final int row = i * words;
+
+                if (CatalogBits.get(this.reachability, row, k)) {
+                    CatalogBits.or(this.reachability, row, this.reachability, via, words);
+                }
+            }
+        }
+
+        final List<List<E>> nextStates = new ArrayList<>(size);
+        final List<List<E>> reachableStates = new ArrayList<>(size);
+        final List<E> terminalStates = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            final List<E> next = this.toList(this.transitions, i);
+
+            if (next.isEmpty()) {
+                terminalStates.add(index.get(i));
+            }
+
+            nextStates.add(next);
+            reachableStates.add(this.toList(this.reachability, i));
+        }
+
+        this.nextStates = nextStates;
+        this.reachableStates = reachableStates;
+        this.terminalStates = Collections.unmodifiableList(terminalStates);
+    }
+
+    /**
+     * Returns the new instance of {@link CatalogStateMachine} compiled from the
+     * transitions given as an argument. Each transition is an array of two
+     * elements whose first element is the code value of the state before the
+     * transition and whose second element is the code value of the state after
+     * the transition. The same transition may be given more than once.
+     *
+     * @param <E>         The type of Enum class
+     * @param clazz       The catalog class
+     * @param transitions The pairs of the code values of the allowed transitions
+     * @return The new instance of {@link CatalogStateMachine}
+     *
+     * @exception NullPointerException     If any argument is {@code null}
+     * @exception IllegalArgumentException If the catalog class has several Enum
+     *                                     elements with the same code value, or
+     *                                     any transition does not have two
+     *                                     elements or refers to an undefined code
+     *                                     value
+     */
+    public static <E extends Catalog<E>> CatalogStateMachine<E> of(Class<? extends Catalog<E>> clazz,
+            int[]... transitions) {
+        Objects.requireNonNull(clazz, "clazz must not be null");
+        Objects.requireNonNull(transitions, "transitions must not be null");
+
+        final CatalogIndex<E> index = CatalogIndex.of(clazz);
+
+        for (int i = 1; i < index.size(); i++) {
+            if (index.codeAt(i) == index.codeAt(i - 1)) {
+                throw new IllegalArgumentException(String.format("The code value %d is duplicated in %s",
+                        index.codeAt(i), clazz.getName()));
+            }
+        }
+
+        final int words = CatalogBits.wordCount(index.size());
+        final long[] matrix = new long[index.size() * words];
+
+        for (final int[] transition : transitions) {
+            if (transition.length != 2) {
+                throw new IllegalArgumentException("Each transition must have exactly two elements");
+            }
+
+            final int from = index.indexOfCode(transition[0]);
+            final int to = index.indexOfCode(transition[1]);
+
+            if (from < 0 || to < 0) {
+                throw new IllegalArgumentException(String.format("The code value %d is not defined in %s",
+                        from < 0 ? transition[0] : transition[1], clazz.getName()));
+            }
+
+            CatalogBits.set(matrix, from * words, to);
+        }
+
+        return new CatalogStateMachine<>(index, words, matrix);
+    }
+
+    /**
+     * Checks if the transition between the states linked to the code values given
+     * as arguments is allowed.
+     *
+     * @param fromCode The code value of the state before the transition
+     * @param toCode   The code value of the state after the transition
+     * @return {@code true} if the transition is allowed, otherwise {@code false}.
+     *         {@code false} is also returned if either code value is not defined
+     */
+    public boolean canTransition(int fromCode, int toCode) {
+        return this.test(this.transitions, this.index.indexOfCode(fromCode), this.index.indexOfCode(toCode));
+    }
+
+    /**
+     * Checks if the transition between the states given as arguments is allowed.
+     *
+     * @param from The state before the transition
+     * @param to   The state after the transition
+     * @return {@code true} if the transition is allowed, otherwise {@code false}
+     */
+    public boolean canTransition(E from, E to) {
+        return this.test(this.transitions, this.index.indexOf(from), this.index.indexOf(to));
+    }
+
+    /**
+     * Checks if the state linked to the second code value is reachable from the
+     * state linked to the first code value by one or more transitions. A state is
+     * reachable from itself only if there is a cycle of transitions through it.
+     *
+     * @param fromCode The code value of the first state
+     * @param toCode   The code value of the second state
+     * @return {@code true} if the second state is reachable, otherwise
+     *         {@code false}. {@code false} is also returned if either code value
+     *         is not defined
+     */
+    public boolean isReachable(int fromCode, int toCode) {
+        return this.test(this.reachability, this.index.indexOfCode(fromCode), this.index.indexOfCode(toCode));
+    }
+
+    /**
+     * Checks if the second state is reachable from the first state by one or more
+     * transitions. A state is reachable from itself only if there is a cycle of
+     * transitions through it.
+     *
+     * @param from The first state
+     * @param to   The second state
+     * @return {@code true} if the second state is reachable, otherwise
+     *         {@code false}
+     */
+    public boolean isReachable(E from, E to) {
+        return this.test(this.reachability, this.index.indexOf(from), this.index.indexOf(to));
+    }
+
+    /**
+     * Returns the unmodifiable {@link List} of the states to which the state given
+     * as an argument can transition, in the order of the code value. The returned
+     * list is computed when the state machine is compiled.
+     *
+     * @param state The state
+     * @return The next states
+     */
+    public List<E> getNextStates(E state) {
+        return this.nextStates.get(this.index.indexOf(state));
+    }
+
+    /**
+     * Returns the unmodifiable {@link List} of the states to which the state linked
+     * to the code value given as an argument can transition, in the order of the
+     * code value. The returned list is computed when the state machine is
+     * compiled.
+     *
+     * @param code The code value of the state
+     * @return The next states, or the empty list if the code value is not defined
+     */
+    public List<E> getNextStates(int code) {
+        final int state = this.index.indexOfCode(code);
+        return state < 0 ? Collections.emptyList() : this.nextStates.get(state);
+    }
+
+    /**
+     * Returns the unmodifiable {@link List} of the states that are reachable from
+     * the state given as an argument by one or more transitions, in the order of
+     * the code value.
+     *
+     * @param state The state
+     * @return The reachable states
+     */
+    public List<E> getReachableStates(E state) {
+        return this.reachableStates.get(this.index.indexOf(state));
+    }
+
+    /**
+     * Checks if the state given as an argument is a terminal state, which has no
+     * next state.
+     *
+     * @param state The state
+     * @return {@code true} if the state is a terminal state, otherwise
+     *         {@code false}
+     */
+    public boolean isTerminal(E state) {
+        return this.getNextStates(state).isEmpty();
+    }
+
+    /**
+     * Checks if the state linked to the code value given as an argument is a
+     * terminal state, which has no next state.
+     *
+     * @param code The code value of the state
+     * @return {@code true} if the state is a terminal state, otherwise
+     *         {@code false}. {@code false} is also returned if the code value is
+     *         not defined
+     */
+    public boolean isTerminal(int code) {
+        final int state = this.index.indexOfCode(code);
+        return state >= 0 && this.nextStates.get(state).isEmpty();
+    }
+
+    /**
+     * Returns the unmodifiable {@link List} of the terminal states, which have no
+     * next state, in the order of the code value.
+     *
+     * @return The terminal states
+     */
+    public List<E> getTerminalStates() {
+        return this.terminalStates;
+    }
+
+    /**
+     * Tests the bit of the matrix at the row and the column given as arguments.
+     *
+     * @param matrix The bit matrix
+     * @param row    The row, or {@code -1} for an undefined state
+     * @param column The column, or {@code -1} for an undefined state
+     * @return {@code true} if the bit is set, otherwise {@code false}
+     */
+    private boolean test(long[] matrix, int row, int column) {
+        return row >= 0 && column >= 0 && CatalogBits.get(matrix, row * this.words, column);
+    }
+
+    /**
+     * Returns the unmodifiable {@link List} of the Enum elements whose bits are set
+     * in the row of the matrix.
+     *
+     * @param matrix The bit matrix
+     * @param row    The row
+     * @return The Enum elements whose bits are set in the row
+     */
+    private List<E> toList(long[] matrix, int row) {
+
+        final List<E> elements = new ArrayList<>();
+        final int offset = row * this.words;
+
+        int state = CatalogBits.nextSetBit(matrix, offset, this.words, 0);
+
+        while (state >= 0) {
+            elements.add(this.index.get(state));
+            state = CatalogBits.nextSetBit(matrix, offset, this.words, state + 1);
+        }
+
+        return elements.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(elements);
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The class that holds the interval index of a versioned catalog class.
+ *
+ * <p>
+ * The elements that share the same code value or the same tag value are
+ * grouped, and the validity intervals of each group are sorted by their start
+ * instant. An element valid at a given instant is therefore found by a binary
+ * search over the start instants of the group followed by a single check of the
+ * end instant.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+final class CatalogTimeline<E extends CodeSupport & ValiditySupport> {
+
+    /**
+     * The cache of the timeline for each catalog class
+     */
+    private static final ClassValue<CatalogTimeline<?>> TIMELINES = new ClassValue<>() {
+
+        @Override
+        protected CatalogTimeline<?> computeValue(Class<?> type) {
+            return new CatalogTimeline<>(type);
+        }
+    };
+
+    /**
+     * The index of the catalog class
+     */
+    private final CatalogIndex<E> index;
+
+    /**
+     * The versions of each code value indexed by the dense index of the first
+     * element that has the code value
+     */
+    private final List<Versions<E>> codeVersions;
+
+    /**
+     * The versions of each tag value, or {@code null} if the catalog class has no
+     * tag value
+     */
+    private final Map<Object, Versions<E>> tagVersions;
+
+    /**
+     * Constructor
+     *
+     * @param type The versioned catalog class
+     *
+     * @exception IllegalStateException If the validity intervals of the elements
+     *                                  that share the same code value or tag value
+     *                                  overlap
+     */
+    private CatalogTimeline(Class<?> type) {
+
+        this.index = CatalogIndex.of(type);
+
+        final int size = this.index.size();
+        this.codeVersions = new ArrayList<>(size);
+
+        for (int start = 0; start < size;) {
+            int end = start + 1;
+
+            while (end < size && this.index.codeAt(end) == this.index.codeAt(start)) {
+                end++;
+            }
+
+            final List<E> group = new ArrayList<>(end - start);
+
+            for (int i = start; i < end; i++) {
+                group.add(this.index.get(i));
+            }
+
+            final Versions<E> versions = new Versions<>(group, "code value " + this.index.codeAt(start));
+
+            for (int i = start; i < end; i++) {
+                this.codeVersions.add(versions);
+            }
+
+            start = end;
+        }
+
+        if (size > 0 && this.index.get(0) instanceof TagSupport) {
+            final Map<Object, List<E>> groups = new LinkedHashMap<>();
+
+            for (int i = 0; i < size; i++) {
+                final E element = this.index.get(i);
+                groups.computeIfAbsent(((TagSupport<?>) element).getTag(), tag -> new ArrayList<>()).add(element);
+            }
+
+            this.tagVersions = new HashMap<>(groups.size() * 2);
+
+            for (final Map.Entry<Object, List<E>> group : groups.entrySet()) {
+                this.tagVersions.put(group.getKey(), new Versions<>(group.getValue(), "tag value " + group.getKey()));
+            }
+        } else {
+            this.tagVersions = null;
+        }
+    }
+
+    /**
+     * Returns the timeline of the catalog class given as an argument.
+     *
+     * @param <E>   The type of Enum class
+     * @param clazz The versioned catalog class
+     * @return The timeline of the catalog class
+     *
+     * @exception IllegalStateException If the validity intervals of the elements
+     *                                  that share the same code value or tag value
+     *                                  overlap
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends CodeSupport & ValiditySupport> CatalogTimeline<E> of(Class<?> clazz) {
+        return (CatalogTimeline<E>) TIMELINES.get(clazz);
+    }
+
+    /**
+     * Returns the element that is linked to the code value and is valid at the
+     * instant given as arguments.
+     *
+     * @param code    The code value
+     * @param instant The instant
+     * @return The element, or {@code null} if no element is linked to the code
+     *         value at the instant
+     */
+    E findByCode(int code, Instant instant) {
+        Objects.requireNonNull(instant, "instant must not be null");
+        final int start = this.index.indexOfCode(code);
+        return start < 0 ? null : this.codeVersions.get(start).find(instant);
+    }
+
+    /**
+     * Returns the element that is linked to the tag value and is valid at the
+     * instant given as arguments.
+     *
+     * @param tag     The tag value
+     * @param instant The instant
+     * @return The element, or {@code null} if no element is linked to the tag value
+     *         at the instant
+     */
+    E findByTag(Object tag, Instant instant) {
+        Objects.requireNonNull(instant, "instant must not be null");
+
+        if (this.tagVersions == null) {
+            return null;
+        }
+
+        final Versions<E> versions = this.tagVersions.get(tag);
+        return versions == null ? null : versions.find(instant);
+    }
+
+    /**
+     * The class that holds the elements sharing a key sorted by the start of the
+     * validity interval.
+     */
+    private static final class Versions<E extends ValiditySupport> {
+
+        /**
+         * The start instants of the validity intervals, inclusive
+         */
+        private final Instant[] validFroms;
+
+        /**
+         * The elements sorted by the start instant
+         */
+        private final List<E> elements;
+
+        /**
+         * Constructor
+         *
+         * @param elements The elements sharing a key
+         * @param key      The description of the key used in the error message
+         *
+         * @exception IllegalStateException If the validity intervals overlap
+         */
+        Versions(List<E> elements, String key) {
+
+            elements.sort(Comparator.comparing(Versions::validFrom));
+
+            this.elements = elements;
+            this.validFroms = new Instant[elements.size()];
+
+            Instant previousValidTo = null;
+
+            for (int i = 0; i < elements.size(); i++) {
+                this.validFroms[i] = validFrom(elements.get(i));
+                final Instant validTo = validTo(elements.get(i));
+
+                if (!this.validFroms[i].isBefore(validTo)) {
+                    throw new IllegalStateException(
+                            String.format("The validity interval of %s is empty", elements.get(i)));
+                }
+
+                if (i > 0 && this.validFroms[i].isBefore(previousValidTo)) {
+                    throw new IllegalStateException(String.format(
+                            "The validity intervals of %s and %s overlap for the %s", elements.get(i - 1),
+                            elements.get(i), key));
+                }
+
+                previousValidTo = validTo;
+            }
+        }
+
+        /**
+         * Returns the element valid at the instant given as an argument.
+         *
+         * @param instant The instant
+         * @return The element valid at the instant, or {@code null} if there is no
+         *         element valid at the instant
+         */
+        E find(Instant instant) {
+
+            int low = 0;
+            int high = this.validFroms.length - 1;
+            int found = -1;
+
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+
+                if (this.validFroms[middle].compareTo(instant) <= 0) {
+                    found = middle;
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+
+            return found >= 0 && this.elements.get(found).isValidAt(instant) ? this.elements.get(found) : null;
+        }
+
+        /**
+         * Returns the start instant of the element, which is {@link Instant#MIN} if
+         * the interval has no lower bound.
+         *
+         * @param element The element
+         * @return The start instant of the element
+         */
+        private static Instant validFrom(ValiditySupport element) {
+            final Instant validFrom = element.getValidFrom();
+            return validFrom == null ? Instant.MIN : validFrom;
+        }
+
+        /**
+         * Returns the end instant of the element, which is {@link Instant#MAX} if the
+         * interval has no upper bound.
+         *
+         * @param element The element
+         * @return The end instant of the element
+         */
+        private static Instant validTo(ValiditySupport element) {
+            final Instant validTo = element.getValidTo();
+            return validTo == null ? Instant.MAX : validTo;
+        }
+    }
+}
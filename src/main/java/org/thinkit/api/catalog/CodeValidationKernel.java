@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+/**
+ * The class that scans the code values for the first invalid one.
+ *
+ * <p>
+ * This is the scalar implementation used on Java 11. The multi-release JAR
+ * replaces this class on Java 17 and later with the implementation that uses
+ * the Vector API if the {@code jdk.incubator.vector} module is resolved.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+final class CodeValidationKernel {
+
+    /**
+     * Constructor
+     */
+    private CodeValidationKernel() {
+    }
+
+    /**
+     * Checks if the code values are scanned with the Vector API.
+     *
+     * @return {@code true} if the code values are scanned with the Vector API,
+     *         otherwise {@code false}
+     */
+    static boolean isVectorized() {
+        return false;
+    }
+
+    /**
+     * Returns the position of the first code value out of the range given as
+     * arguments.
+     *
+     * @param codes The code values
+     * @param from  The first position to be scanned
+     * @param to    The position after the last position to be scanned
+     * @param min   The smallest valid code value
+     * @param max   The largest valid code value
+     * @return The position of the first code value out of the range, or
+     *         {@code -1} if there is no such code value
+     */
+    static int indexOfOutOfRange(int[] codes, int from, int to, int min, int max) {
+        for (int i = from; i < to; i++) {
+            if (codes[i] < min || codes[i] > max) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the position of the first code value that is not a member of the
+     * bitset given as an argument. Bit {@code n} of the bitset stands for the
+     * code value {@code min + n}.
+     *
+     * @param codes The code values
+     * @param from  The first position to be scanned
+     * @param to    The position after the last position to be scanned
+     * @param min   The code value of the first bit
+     * @param max   The code value of the last bit
+     * @param words The bitset as the words of 32 bits
+     * @return The position of the first code value that is not a member, or
+     *         {@code -1} if there is no such code value
+     */
+    static int indexOfNonMember(int[] codes, int from, int to, int min, int max, int[] words) {
+        for (int i = from; i < to; i++) {
+            final int code = codes[i];
+
+            if (code < min || code > max) {
+                return i;
+            }
+
+            final int offset = code - min;
+
+            if ((words[offset >>> 5] & (1 << offset)) == 0) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
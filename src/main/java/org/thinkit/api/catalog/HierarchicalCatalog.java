@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.List;
+
+/**
+ * The interface that extends the {@link Catalog} interface to manage the Enum
+ * elements as a tree. Each element of the Enum class that implements this
+ * interface declares the code value of its parent element, and the element
+ * that has no parent element returns {@link #NO_PARENT} as the parent code
+ * value.
+ *
+ * <p>
+ * The tree is built once on first use for each Enum class. At that time the
+ * depth, the child elements and the ancestors of each element are computed, so
+ * the ancestry checks such as {@link #isDescendantOf(HierarchicalCatalog)} are
+ * answered by a single bit test and the subtree of each element is returned
+ * without any recursion. If the parent code value of any element is not defined
+ * in the Enum class or the parent code values form a cycle,
+ * {@link IllegalStateException} is thrown when the tree is built.
+ *
+ * <p>
+ * The basic implementation and usage examples of this interface are briefly
+ * described below.
+ *
+ * <pre>
+ * <code>
+ * public enum Region implements HierarchicalCatalog&lt;Region&gt; {
+ *
+ *    ASIA(0, NO_PARENT),
+ *
+ *    JAPAN(1, 0),
+ *
+ *    TOKYO(2, 1);
+ *
+ *    private int code;
+ *
+ *    private int parentCode;
+ *
+ *    Region(int code, int parentCode) {
+ *        this.code = code;
+ *        this.parentCode = parentCode;
+ *    }
+ *
+ *    &#64;Override
+ *    public int getCode() {
+ *        return this.code;
+ *    }
+ *
+ *    &#64;Override
+ *    public int getParentCode() {
+ *        return this.parentCode;
+ *    }
+ * }
+ * </code>
+ * </pre>
+ *
+ * <pre>
+ * <code>
+ * Region.TOKYO.isDescendantOf(Region.ASIA); // Returns true
+ * Region.ASIA.getSubtree(); // Returns [ASIA, JAPAN, TOKYO]
+ * HierarchicalCatalog.getLowestCommonAncestor(Region.class, Region.TOKYO, Region.JAPAN); // Returns JAPAN
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public interface HierarchicalCatalog<E extends HierarchicalCatalog<E>>
+        extends Catalog<E>, HierarchicalCatalogSupport<E> {
+
+    /**
+     * The parent code value of the root element
+     */
+    public static final int NO_PARENT = Integer.MIN_VALUE;
+
+    /**
+     * Returns the unmodifiable {@link List} of the root elements of the target
+     * Enum class in the order of the code value.
+     *
+     * @param <E>   The type of Enum class
+     * @param clazz The target Enum class
+     * @return The root elements of the target Enum class
+     *
+     * @exception IllegalStateException If the parent code values of the target Enum
+     *                                  class do not form a tree
+     */
+    public static <E extends HierarchicalCatalog<E>> List<E> getRoots(Class<? extends HierarchicalCatalog<E>> clazz) {
+        return CatalogHierarchy.<E>of(clazz).getRoots();
+    }
+
+    /**
+     * Returns the lowest common ancestor of the elements given as arguments. If
+     * one element is an ancestor of the other element, the ancestor element itself
+     * is returned.
+     *
+     * @param <E>    The type of Enum class
+     * @param clazz  The target Enum class
+     * @param first  The first element
+     * @param second The second element
+     * @return The lowest common ancestor of the elements, or {@code null} if the
+     *         elements belong to different trees
+     *
+     * @exception IllegalStateException If the parent code values of the target Enum
+     *                                  class do not form a tree
+     */
+    public static <E extends HierarchicalCatalog<E>> E getLowestCommonAncestor(
+            Class<? extends HierarchicalCatalog<E>> clazz, E first, E second) {
+        return CatalogHierarchy.<E>of(clazz).getLowestCommonAncestor(first, second);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.List;
+
+/**
+ * The interface that represents the basic functions of HierarchicalCatalog.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public interface HierarchicalCatalogSupport<E extends HierarchicalCatalog<E>> extends CatalogSupport<E> {
+
+    /**
+     * Returns the code value of the parent element. The root element returns
+     * {@link HierarchicalCatalog#NO_PARENT}.
+     *
+     * @return The code value of the parent element
+     */
+    public int getParentCode();
+
+    /**
+     * Returns the parent element of this catalog element.
+     *
+     * @return The parent element, or {@code null} if this catalog element is a root
+     *         element
+     */
+    default E getParent() {
+        return CatalogHierarchy.<E>of(this).getParent(this.toEnum());
+    }
+
+    /**
+     * Returns the depth of this catalog element. The depth of the root element is
+     * {@code 0}.
+     *
+     * @return The depth of this catalog element
+     */
+    default int getDepth() {
+        return CatalogHierarchy.<E>of(this).getDepth(this.toEnum());
+    }
+
+    /**
+     * Returns the unmodifiable {@link List} of the child elements of this catalog
+     * element in the order of the code value.
+     *
+     * @return The child elements of this catalog element
+     */
+    default List<E> getChildren() {
+        return CatalogHierarchy.<E>of(this).getChildren(this.toEnum());
+    }
+
+    /**
+     * Returns the unmodifiable {@link List} of the elements in the subtree rooted
+     * at this catalog element. The first element of the list is this catalog
+     * element itself and the rest are its descendants in depth-first order.
+     *
+     * @return The elements in the subtree rooted at this catalog element
+     */
+    default List<E> getSubtree() {
+        return CatalogHierarchy.<E>of(this).getSubtree(this.toEnum());
+    }
+
+    /**
+     * Checks if this catalog element is a descendant of the element given as an
+     * argument. An element is not a descendant of itself.
+     *
+     * @param ancestor The element that may be an ancestor
+     * @return {@code true} if this catalog element is a descendant of the element
+     *         given as an argument, otherwise {@code false}
+     */
+    default boolean isDescendantOf(E ancestor) {
+        return CatalogHierarchy.<E>of(this).isDescendant(this.toEnum(), ancestor);
+    }
+
+    /**
+     * Checks if this catalog element is an ancestor of the element given as an
+     * argument. An element is not an ancestor of itself.
+     *
+     * @param descendant The element that may be a descendant
+     * @return {@code true} if this catalog element is an ancestor of the element
+     *         given as an argument, otherwise {@code false}
+     */
+    default boolean isAncestorOf(E descendant) {
+        return CatalogHierarchy.<E>of(this).isDescendant(descendant, this.toEnum());
+    }
+}
@@ -0,0 +1,1031 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * The class that provides the query methods of the {@link BiCatalog} interface
+ * over the values that are loaded on demand instead of the elements of an Enum
+ * class.
+ *
+ * <p>
+ * The values are resolved through the loaders given when the instance is
+ * created, and the results are held in a bounded concurrent cache. A loader that
+ * returns {@code null} means that the code value or the tag value is not defined,
+ * and this negative result is also cached. If several threads miss the same key
+ * at the same time, only one of them calls the loader and the others wait for
+ * its result.
+ *
+ * <p>
+ * When the cache is full, the value that has just been loaded for a key that is
+ * not cached yet is admitted only if its key has been requested more often than
+ * the key least recently used in the cache, which is then evicted. A value that
+ * replaces the cached value of the same key is always cached and evicts nothing.
+ * The frequency of each key is estimated by a count-min sketch of 4 counters per
+ * key that are halved periodically, so that the cache keeps the keys that are
+ * requested often rather than the keys that are requested only once. The sketch
+ * and the order of access are updated only while the lock of the eviction is
+ * held, and a hit records itself only if the lock is free, so a hit never waits
+ * for another thread. The frequency of a key requested concurrently is therefore
+ * sampled rather than counted exactly.
+ *
+ * <p>
+ * A hit does not allocate any object. The cached results of the code values are
+ * held in an open addressing table keyed by the {@code int} code value, which is
+ * read without any lock, and the cached results of the tag values are held in a
+ * {@link ConcurrentHashMap} keyed by the tag value itself. The statistics
+ * returned by {@link #getStats()} can be used to size the cache against the real
+ * traffic.
+ *
+ * <pre>
+ * <code>
+ * final LoadingCatalog&lt;City, String&gt; cities = LoadingCatalog.of(store::findByCode, store::findByName, 10_000);
+ *
+ * cities.getEnum(13101);
+ * cities.contains("Chiyoda");
+ * cities.getStats().getHitRatio();
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class LoadingCatalog<V extends CodeSupport & TagSupport<T>, T> {
+
+    /**
+     * The key that stands for the {@code null} tag value
+     */
+    private static final Object NULL_TAG = new Object();
+
+    /**
+     * The loader of the value linked to the code value
+     */
+    private final IntFunction<? extends V> codeLoader;
+
+    /**
+     * The loader of the value linked to the tag value
+     */
+    private final Function<? super T, ? extends V> tagLoader;
+
+    /**
+     * The maximum number of the cached results
+     */
+    private final int maximumSize;
+
+    /**
+     * The cached results of the code values
+     */
+    private final CodeTable<V> codeEntries = new CodeTable<>();
+
+    /**
+     * The cached results of the tag values
+     */
+    private final ConcurrentMap<Object, Node<V>> tagEntries = new ConcurrentHashMap<>();
+
+    /**
+     * The loads of the code values in progress
+     */
+    private final ConcurrentMap<Object, CompletableFuture<Node<V>>> codeLoads = new ConcurrentHashMap<>();
+
+    /**
+     * The loads of the tag values in progress
+     */
+    private final ConcurrentMap<Object, CompletableFuture<Node<V>>> tagLoads = new ConcurrentHashMap<>();
+
+    /**
+     * The lock that guards the admission, the eviction, the order of access and
+     * the sketch
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The estimator of the frequency of each key, which is guarded by the lock
+     */
+    private final FrequencySketch sketch;
+
+    /**
+     * The cached result least recently used, which is guarded by the lock
+     */
+    private Node<V> head;
+
+    /**
+     * The cached result most recently used, which is guarded by the lock
+     */
+    private Node<V> tail;
+
+    /**
+     * The number of the cached results, which is written under the lock
+     */
+    private volatile int size;
+
+    /**
+     * The number of the hits
+     */
+    private final LongAdder hitCount = new LongAdder();
+
+    /**
+     * The number of the misses
+     */
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * The number of the loads that completed successfully
+     */
+    private final LongAdder loadSuccessCount = new LongAdder();
+
+    /**
+     * The number of the loads that threw an exception
+     */
+    private final LongAdder loadFailureCount = new LongAdder();
+
+    /**
+     * The total time spent on the loads in nanoseconds
+     */
+    private final LongAdder totalLoadTime = new LongAdder();
+
+    /**
+     * The number of the evicted results
+     */
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Constructor
+     *
+     * @param codeLoader  The loader of the value linked to the code value
+     * @param tagLoader   The loader of the value linked to the tag value
+     * @param maximumSize The maximum number of the cached results
+     */
+    private LoadingCatalog(IntFunction<? extends V> codeLoader, Function<? super T, ? extends V> tagLoader,
+            int maximumSize) {
+        this.codeLoader = codeLoader;
+        this.tagLoader = tagLoader;
+        this.maximumSize = maximumSize;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * Returns the new instance of {@link LoadingCatalog} that resolves the values
+     * through the loaders given as arguments.
+     *
+     * @param <V>         The type of value
+     * @param <T>         The type of tag value
+     * @param codeLoader  The loader that returns the value linked to the code
+     *                    value, or {@code null} if the code value is not defined
+     * @param tagLoader   The loader that returns the value linked to the tag
+     *                    value, or {@code null} if the tag value is not defined
+     * @param maximumSize The maximum number of the cached results including the
+     *                    negative results
+     * @return The new instance of {@link LoadingCatalog}
+     *
+     * @exception NullPointerException     If any loader is {@code null}
+     * @exception IllegalArgumentException If {@code maximumSize} is not positive
+     */
+    public static <V extends CodeSupport & TagSupport<T>, T> LoadingCatalog<V, T> of(
+            IntFunction<? extends V> codeLoader, Function<? super T, ? extends V> tagLoader, int maximumSize) {
+        Objects.requireNonNull(codeLoader, "codeLoader must not be null");
+        Objects.requireNonNull(tagLoader, "tagLoader must not be null");
+
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+
+        return new LoadingCatalog<>(codeLoader, tagLoader, maximumSize);
+    }
+
+    /**
+     * Returns the value linked to the code value given as an argument.
+     *
+     * @param code The code value
+     * @return The value linked to the code value, or {@code null} if the code value
+     *         is not defined
+     *
+     * @exception RuntimeException The exception thrown by the loader
+     */
+    public V getEnum(int code) {
+
+        final Node<V> node = this.codeEntries.get(code);
+
+        if (node != null) {
+            this.recordHit(node);
+            return node.value;
+        }
+
+        return this.load(true, code, null);
+    }
+
+    /**
+     * Returns the value linked to the tag value given as an argument.
+     *
+     * @param tag The tag value
+     * @return The value linked to the tag value, or {@code null} if the tag value
+     *         is not defined
+     *
+     * @exception RuntimeException The exception thrown by the loader
+     */
+    public V getEnumByTag(T tag) {
+
+        final Node<V> node = this.tagEntries.get(tag == null ? NULL_TAG : tag);
+
+        if (node != null) {
+            this.recordHit(node);
+            return node.value;
+        }
+
+        return this.load(false, 0, tag);
+    }
+
+    /**
+     * Checks if the code value given as an argument is defined.
+     *
+     * @param code The code value
+     * @return {@code true} if the code value is defined, otherwise {@code false}
+     *
+     * @exception RuntimeException The exception thrown by the loader
+     */
+    public boolean hasCode(int code) {
+        return this.getEnum(code) != null;
+    }
+
+    /**
+     * Checks if the tag value given as an argument is defined.
+     *
+     * @param tag The tag value
+     * @return {@code true} if the tag value is defined, otherwise {@code false}
+     *
+     * @exception RuntimeException The exception thrown by the loader
+     */
+    public boolean contains(T tag) {
+        return this.getEnumByTag(tag) != null;
+    }
+
+    /**
+     * Returns the number of the cached results including the negative results.
+     *
+     * @return The number of the cached results
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Discards all of the cached results. The statistics are not reset.
+     */
+    public void invalidateAll() {
+        this.lock.lock();
+
+        try {
+            for (Node<V> node = this.head; node != null; node = node.next) {
+                node.linked = false;
+            }
+
+            this.head = null;
+            this.tail = null;
+            this.size = 0;
+            this.codeEntries.clear();
+            this.tagEntries.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the snapshot of the statistics of the cache.
+     *
+     * @return The snapshot of the statistics
+     */
+    public Stats getStats() {
+        return new Stats(this.hitCount.sum(), this.missCount.sum(), this.loadSuccessCount.sum(),
+                this.loadFailureCount.sum(), this.totalLoadTime.sum(), this.evictionCount.sum());
+    }
+
+    /**
+     * Loads the value linked to the code value or the tag value on a miss. Only one
+     * of the threads that miss the same key at the same time calls the loader, and
+     * the others wait for its result.
+     *
+     * @param byCode {@code true} if the value is looked up by the code value
+     * @param code   The code value
+     * @param tag    The tag value
+     * @return The loaded value, or {@code null} if the key is not defined
+     */
+    private V load(boolean byCode, int code, T tag) {
+
+        this.missCount.increment();
+
+        final Object key = byCode ? Integer.valueOf(code) : tag == null ? NULL_TAG : tag;
+        final int hash = byCode ? CodeTable.hash(code) : key.hashCode();
+
+        this.lock.lock();
+
+        try {
+            this.sketch.increment(hash);
+        } finally {
+            this.lock.unlock();
+        }
+
+        final ConcurrentMap<Object, CompletableFuture<Node<V>>> loads = byCode ? this.codeLoads : this.tagLoads;
+        final CompletableFuture<Node<V>> load = new CompletableFuture<>();
+        final CompletableFuture<Node<V>> running = loads.putIfAbsent(key, load);
+
+        if (running != null) {
+            return join(running);
+        }
+
+        try {
+            final Node<V> cached = byCode ? this.codeEntries.get(code) : this.tagEntries.get(key);
+
+            if (cached != null) {
+                load.complete(cached);
+                return cached.value;
+            }
+
+            final long start = System.nanoTime();
+            final V value;
+
+            try {
+                value = byCode ? this.codeLoader.apply(code) : this.tagLoader.apply(tag);
+            } catch (RuntimeException | Error e) {
+                this.totalLoadTime.add(System.nanoTime() - start);
+                this.loadFailureCount.increment();
+                load.completeExceptionally(e);
+                throw e;
+            }
+
+            this.totalLoadTime.add(System.nanoTime() - start);
+            this.loadSuccessCount.increment();
+
+            final Node<V> node = new Node<>(byCode, code, key, hash, value);
+            this.admit(node);
+            load.complete(node);
+
+            return value;
+        } finally {
+            loads.remove(key, load);
+        }
+    }
+
+    /**
+     * Waits for the load in progress and returns its value.
+     *
+     * @param <V>  The type of value
+     * @param load The load in progress
+     * @return The loaded value
+     */
+    private static <V> V join(CompletableFuture<Node<V>> load) {
+        try {
+            return load.join().value;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Records the hit of the cached result if the lock is free. The hit is dropped
+     * rather than waiting for the lock, since the frequency and the order of
+     * access are only hints for the eviction.
+     *
+     * @param node The cached result
+     */
+    private void recordHit(Node<V> node) {
+
+        this.hitCount.increment();
+
+        if (this.lock.tryLock()) {
+            try {
+                this.sketch.increment(node.hash);
+
+                if (node.linked && node != this.tail) {
+                    this.unlink(node);
+                    this.linkLast(node);
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Caches the result if there is room or if its key is requested more often
+     * than the key least recently used, which is evicted. The result that replaces
+     * the cached result of the same key is cached without the admission and the
+     * eviction, since the number of the cached results does not change.
+     *
+     * @param node The result
+     */
+    private void admit(Node<V> node) {
+        this.lock.lock();
+
+        try {
+            final Node<V> existing = node.byCode ? this.codeEntries.get(node.code) : this.tagEntries.get(node.key);
+
+            if (existing == null && this.size >= this.maximumSize) {
+                final Node<V> victim = this.head;
+
+                if (this.sketch.frequency(node.hash) <= this.sketch.frequency(victim.hash)) {
+                    return;
+                }
+
+                this.unlink(victim);
+                this.evictionCount.increment();
+
+                if (victim.byCode) {
+                    this.codeEntries.remove(victim);
+                } else {
+                    this.tagEntries.remove(victim.key, victim);
+                }
+            }
+
+            if (node.byCode) {
+                this.codeEntries.put(node);
+            } else {
+                this.tagEntries.put(node.key, node);
+            }
+
+            if (existing != null && existing.linked) {
+                this.unlink(existing);
+            }
+
+            this.linkLast(node);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Appends the cached result to the order of access. The lock must be held.
+     *
+     * @param node The cached result
+     */
+    private void linkLast(Node<V> node) {
+        node.prev = this.tail;
+        node.next = null;
+        node.linked = true;
+
+        if (this.tail == null) {
+            this.head = node;
+        } else {
+            this.tail.next = node;
+        }
+
+        this.tail = node;
+        this.size++;
+    }
+
+    /**
+     * Removes the cached result from the order of access. The lock must be held.
+     *
+     * @param node The cached result
+     */
+    private void unlink(Node<V> node) {
+
+        if (node.prev == null) {
+            this.head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+
+        if (node.next == null) {
+            this.tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+
+        node.prev = null;
+        node.next = null;
+        node.linked = false;
+        this.size--;
+    }
+
+    /**
+     * The snapshot of the statistics of the cache.
+     */
+    public static final class Stats {
+
+        /**
+         * The number of the hits
+         */
+        private final long hitCount;
+
+        /**
+         * The number of the misses
+         */
+        private final long missCount;
+
+        /**
+         * The number of the loads that completed successfully
+         */
+        private final long loadSuccessCount;
+
+        /**
+         * The number of the loads that threw an exception
+         */
+        private final long loadFailureCount;
+
+        /**
+         * The total time spent on the loads in nanoseconds
+         */
+        private final long totalLoadTime;
+
+        /**
+         * The number of the evicted results
+         */
+        private final long evictionCount;
+
+        /**
+         * Constructor
+         *
+         * @param hitCount         The number of the hits
+         * @param missCount        The number of the misses
+         * @param loadSuccessCount The number of the loads that completed
+         *                         successfully
+         * @param loadFailureCount The number of the loads that threw an exception
+         * @param totalLoadTime    The total time spent on the loads in nanoseconds
+         * @param evictionCount    The number of the evicted results
+         */
+        private Stats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount,
+                long totalLoadTime, long evictionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.loadSuccessCount = loadSuccessCount;
+            this.loadFailureCount = loadFailureCount;
+            this.totalLoadTime = totalLoadTime;
+            this.evictionCount = evictionCount;
+        }
+
+        /**
+         * Returns the number of the requests answered from the cache.
+         *
+         * @return The number of the hits
+         */
+        public long getHitCount() {
+            return this.hitCount;
+        }
+
+        /**
+         * Returns the number of the requests not answered from the cache, including
+         * the requests that waited for the load of another request.
+         *
+         * @return The number of the misses
+         */
+        public long getMissCount() {
+            return this.missCount;
+        }
+
+        /**
+         * Returns the number of the loads that completed successfully, including the
+         * loads that returned {@code null}.
+         *
+         * @return The number of the successful loads
+         */
+        public long getLoadSuccessCount() {
+            return this.loadSuccessCount;
+        }
+
+        /**
+         * Returns the number of the loads that threw an exception.
+         *
+         * @return The number of the failed loads
+         */
+        public long getLoadFailureCount() {
+            return this.loadFailureCount;
+        }
+
+        /**
+         * Returns the total time spent on the loads in nanoseconds.
+         *
+         * @return The total time spent on the loads
+         */
+        public long getTotalLoadTime() {
+            return this.totalLoadTime;
+        }
+
+        /**
+         * Returns the number of the results evicted from the cache.
+         *
+         * @return The number of the evicted results
+         */
+        public long getEvictionCount() {
+            return this.evictionCount;
+        }
+
+        /**
+         * Returns the ratio of the hits to all of the requests, or {@code 1.0} if
+         * there is no request.
+         *
+         * @return The ratio of the hits
+         */
+        public double getHitRatio() {
+            final long requestCount = this.hitCount + this.missCount;
+            return requestCount == 0 ? 1.0 : (double) this.hitCount / requestCount;
+        }
+
+        /**
+         * Returns the average time spent on a load in nanoseconds, or {@code 0.0} if
+         * there is no load.
+         *
+         * @return The average time spent on a load
+         */
+        public double getAverageLoadPenalty() {
+            final long loadCount = this.loadSuccessCount + this.loadFailureCount;
+            return loadCount == 0 ? 0.0 : (double) this.totalLoadTime / loadCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "Stats[hitCount=%d, missCount=%d, loadSuccessCount=%d, loadFailureCount=%d, "
+                            + "totalLoadTime=%d, evictionCount=%d]",
+                    this.hitCount, this.missCount, this.loadSuccessCount, this.loadFailureCount,
+                    this.totalLoadTime, this.evictionCount);
+        }
+    }
+
+    /**
+     * The cached result of a load, whose value is {@code null} for a negative
+     * result. The links of the order of access are guarded by the lock.
+     *
+     * @param <V> The type of value
+     */
+    private static final class Node<V> {
+
+        /**
+         * {@code true} if the result is linked to the code value
+         */
+        final boolean byCode;
+
+        /**
+         * The code value
+         */
+        final int code;
+
+        /**
+         * The key of the tag value, or the boxed code value
+         */
+        final Object key;
+
+        /**
+         * The hash of the key used by the sketch
+         */
+        final int hash;
+
+        /**
+         * The loaded value
+         */
+        final V value;
+
+        /**
+         * The previous result in the order of access
+         */
+        Node<V> prev;
+
+        /**
+         * The next result in the order of access
+         */
+        Node<V> next;
+
+        /**
+         * {@code true} if the result is in the cache
+         */
+        boolean linked;
+
+        /**
+         * Constructor
+         *
+         * @param byCode {@code true} if the result is linked to the code value
+         * @param code   The code value
+         * @param key    The key of the tag value, or the boxed code value
+         * @param hash   The hash of the key used by the sketch
+         * @param value  The loaded value
+         */
+        Node(boolean byCode, int code, Object key, int hash, V value) {
+            this.byCode = byCode;
+            this.code = code;
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The open addressing table of the cached results keyed by the code value. The
+     * table is read without any lock and is written only while the lock of the
+     * eviction is held. A removed result leaves a tombstone so that the probe of
+     * a concurrent reader is not cut short, and the table is rebuilt into a new
+     * array when the tombstones and the results fill three quarters of it, so that
+     * every probe ends at an empty slot.
+     *
+     * @param <V> The type of value
+     */
+    private static final class CodeTable<V> {
+
+        /**
+         * The initial number of the slots
+         */
+        private static final int INITIAL_CAPACITY = 16;
+
+        /**
+         * The marker of the removed result
+         */
+        private final Node<V> tombstone = new Node<>(true, 0, null, 0, null);
+
+        /**
+         * The slots
+         */
+        private volatile AtomicReferenceArray<Node<V>> slots = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+        /**
+         * The number of the slots that hold a result or a tombstone
+         */
+        private int used;
+
+        /**
+         * The number of the slots that hold a result
+         */
+        private int live;
+
+        /**
+         * Returns the hash of the code value.
+         *
+         * @param code The code value
+         * @return The hash of the code value
+         */
+        static int hash(int code) {
+            final int hash = code * 0x9E3779B9;
+            return hash ^ (hash >>> 16);
+        }
+
+        /**
+         * Returns the cached result of the code value.
+         *
+         * @param code The code value
+         * @return The cached result, or {@code null} if there is none
+         */
+        Node<V> get(int code) {
+
+            final AtomicReferenceArray<Node<V>> slots = this.slots;
+            final int mask = slots.length() - 1;
+
+            for (int i = hash(code) & mask;; i = (i + 1) & mask) {
+                final Node<V> node = slots.get(i);
+
+                if (node == null) {
+                    return null;
+                }
+
+                if (node != this.tombstone && node.code == code) {
+                    return node;
+                }
+            }
+        }
+
+        /**
+         * Caches the result of its code value.
+         *
+         * @param node The result
+         * @return The result replaced, or {@code null} if there is none
+         */
+        Node<V> put(Node<V> node) {
+
+            final AtomicReferenceArray<Node<V>> slots = this.slots;
+            final int mask = slots.length() - 1;
+            int free = -1;
+            int i = hash(node.code) & mask;
+
+            for (Node<V> current; (current = slots.get(i)) != null; i = (i + 1) & mask) {
+                if (current == this.tombstone) {
+                    if (free < 0) {
+                        free = i;
+                    }
+                } else if (current.code == node.code) {
+                    slots.set(i, node);
+                    return current;
+                }
+            }
+
+            if (free >= 0) {
+                slots.set(free, node);
+                this.live++;
+                return null;
+            }
+
+            if ((this.used + 1) * 4 > slots.length() * 3) {
+                this.rebuild();
+                return this.put(node);
+            }
+
+            slots.set(i, node);
+            this.used++;
+            this.live++;
+
+            return null;
+        }
+
+        /**
+         * Removes the cached result.
+         *
+         * @param node The cached result
+         */
+        void remove(Node<V> node) {
+
+            final AtomicReferenceArray<Node<V>> slots = this.slots;
+            final int mask = slots.length() - 1;
+
+            for (int i = hash(node.code) & mask;; i = (i + 1) & mask) {
+                final Node<V> current = slots.get(i);
+
+                if (current == null) {
+                    return;
+                }
+
+                if (current == node) {
+                    slots.set(i, this.tombstone);
+                    this.live--;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Removes all of the cached results.
+         */
+        void clear() {
+            this.slots = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+            this.used = 0;
+            this.live = 0;
+        }
+
+        /**
+         * Moves the cached results into a new array without the tombstones. The old
+         * array is not written afterwards, so the readers still probing it end at
+         * an empty slot.
+         */
+        private void rebuild() {
+
+            final AtomicReferenceArray<Node<V>> old = this.slots;
+            int capacity = INITIAL_CAPACITY;
+
+            while (capacity * 3 < (this.live + 1) * 8) {
+                capacity <<= 1;
+            }
+
+            final AtomicReferenceArray<Node<V>> slots = new AtomicReferenceArray<>(capacity);
+            final int mask = capacity - 1;
+
+            for (int i = 0; i < old.length(); i++) {
+                final Node<V> node = old.get(i);
+
+                if (node != null && node != this.tombstone) {
+                    int j = hash(node.code) & mask;
+
+                    while (slots.get(j) != null) {
+                        j = (j + 1) & mask;
+                    }
+
+                    slots.set(j, node);
+                }
+            }
+
+            this.used = this.live;
+            this.slots = slots;
+        }
+    }
+
+    /**
+     * The count-min sketch that estimates the frequency of each key with 4
+     * counters of up to 15. All of the counters are halved after a number of the
+     * increments proportional to the width, so that the estimate follows the
+     * recent traffic. The sketch is not thread-safe by itself and is guarded by
+     * the lock of the eviction.
+     */
+    private static final class FrequencySketch {
+
+        /**
+         * The seeds of the hash of each row
+         */
+        private static final long[] SEEDS = { 0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L,
+                0xD6E8FEB86659FD93L };
+
+        /**
+         * The maximum value of a counter
+         */
+        private static final int MAX_COUNT = 15;
+
+        /**
+         * The counters laid out row by row
+         */
+        private final byte[] counters;
+
+        /**
+         * The mask of the column of a row
+         */
+        private final int mask;
+
+        /**
+         * The number of the increments after which the counters are halved
+         */
+        private final int sampleSize;
+
+        /**
+         * The number of the increments since the counters were halved
+         */
+        private int additions;
+
+        /**
+         * Constructor
+         *
+         * @param maximumSize The maximum number of the cached results
+         */
+        FrequencySketch(int maximumSize) {
+            final int width = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 24)) * 2 - 1);
+            this.counters = new byte[width * SEEDS.length];
+            this.mask = width - 1;
+            this.sampleSize = width * 10;
+        }
+
+        /**
+         * Increments the counters of the hash of a key.
+         *
+         * @param hash The hash of the key
+         */
+        void increment(int hash) {
+
+            for (int row = 0; row < SEEDS.length; row++) {
+                final int slot = this.slot(hash, row);
+
+                if (this.counters[slot] < MAX_COUNT) {
+                    this.counters[slot]++;
+                }
+            }
+
+            if (++this.additions >= this.sampleSize) {
+                this.reset();
+            }
+        }
+
+        /**
+         * Returns the estimated frequency of the hash of a key.
+         *
+         * @param hash The hash of the key
+         * @return The estimated frequency of the key
+         */
+        int frequency(int hash) {
+            int frequency = MAX_COUNT;
+
+            for (int row = 0; row < SEEDS.length; row++) {
+                frequency = Math.min(frequency, this.counters[this.slot(hash, row)]);
+            }
+
+            return frequency;
+        }
+
+        /**
+         * Returns the position of the counter of the hash in the row.
+         *
+         * @param hash The hash of the key
+         * @param row  The row
+         * @return The position of the counter
+         */
+        private int slot(int hash, int row) {
+            return row * (this.mask + 1) + ((int) ((hash * SEEDS[row]) >>> 32) & this.mask);
+        }
+
+        /**
+         * Halves all of the counters.
+         */
+        private void reset() {
+            this.additions = 0;
+
+            for (int i = 0; i < this.counters.length; i++) {
+                this.counters[i] >>= 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.time.Instant;
+
+/**
+ * The interface that represents the validity interval of the Catalog.
+ *
+ * <p>
+ * The validity interval starts at {@link #getValidFrom()} inclusive and ends at
+ * {@link #getValidTo()} exclusive. If either of them is {@code null}, the
+ * interval is unbounded on that side.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public interface ValiditySupport {
+
+    /**
+     * Returns the instant at which the validity interval starts, inclusive.
+     *
+     * @return The instant at which the validity interval starts, or {@code null} if
+     *         the interval has no lower bound
+     */
+    public Instant getValidFrom();
+
+    /**
+     * Returns the instant at which the validity interval ends, exclusive.
+     *
+     * @return The instant at which the validity interval ends, or {@code null} if
+     *         the interval has no upper bound
+     */
+    public Instant getValidTo();
+
+    /**
+     * Checks if the instant given as an argument is in the validity interval.
+     *
+     * @param instant The instant
+     * @return {@code true} if the instant given as an argument is in the validity
+     *         interval, otherwise {@code false}
+     */
+    default boolean isValidAt(Instant instant) {
+        final Instant validFrom = this.getValidFrom();
+        final Instant validTo = this.getValidTo();
+        return (validFrom == null || !instant.isBefore(validFrom)) && (validTo == null || instant.isBefore(validTo));
+    }
+}
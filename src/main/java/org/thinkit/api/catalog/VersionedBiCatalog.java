@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.time.Instant;
+
+/**
+ * The interface that extends the {@link BiCatalog} interface to manage the Enum
+ * elements whose meaning changes over time. Each element of the Enum class that
+ * implements this interface carries a validity interval, and several elements
+ * can share the same code value or the same tag value as long as their validity
+ * intervals do not overlap.
+ *
+ * <p>
+ * The validity intervals are indexed once on first use for each Enum class, and
+ * {@link #getEnum(Class, int, Instant)} and
+ * {@link #getEnumByTag(Class, Object, Instant)} resolve the element valid at the
+ * given instant by a binary search over the sorted validity intervals of the
+ * code value or the tag value. If the validity intervals of the elements sharing
+ * the same code value or the same tag value overlap,
+ * {@link IllegalStateException} is thrown when the index is built.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ * @see VersionedCatalog
+ */
+public interface VersionedBiCatalog<E extends VersionedBiCatalog<E, T>, T> extends BiCatalog<E, T>, ValiditySupport {
+
+    /**
+     * Returns the Enum element that is linked to the code value given as an
+     * argument and is valid at the instant given as an argument. If the target
+     * Enum class does not have such an Enum element, {@code null} is returned.
+     *
+     * @param <E>     The type of Enum class
+     * @param <T>     The type of tag value
+     * @param clazz   The target Enum class
+     * @param code    The code value linked to the Enum element
+     * @param instant The instant at which the Enum element is valid
+     * @return The Enum element linked to the code value at the instant, or
+     *         {@code null} if there is no such Enum element
+     *
+     * @exception NullPointerException  If {@code instant} is {@code null}
+     * @exception IllegalStateException If the validity intervals of the Enum
+     *                                  elements sharing the same code value or tag
+     *                                  value overlap
+     */
+    public static <E extends VersionedBiCatalog<E, T>, T> E getEnum(Class<? extends VersionedBiCatalog<E, T>> clazz,
+            int code, Instant instant) {
+        return CatalogTimeline.<E>of(clazz).findByCode(code, instant);
+    }
+
+    /**
+     * Returns the Enum element that is linked to the tag value given as an
+     * argument and is valid at the instant given as an argument. If the target
+     * Enum class does not have such an Enum element, {@code null} is returned.
+     *
+     * @param <E>     The type of Enum class
+     * @param <T>     The type of tag value
+     * @param clazz   The target Enum class
+     * @param tag     The tag value linked to the Enum element
+     * @param instant The instant at which the Enum element is valid
+     * @return The Enum element linked to the tag value at the instant, or
+     *         {@code null} if there is no such Enum element
+     *
+     * @exception NullPointerException  If {@code instant} is {@code null}
+     * @exception IllegalStateException If the validity intervals of the Enum
+     *                                  elements sharing the same code value or tag
+     *                                  value overlap
+     */
+    public static <E extends VersionedBiCatalog<E, T>, T> E getEnumByTag(
+            Class<? extends VersionedBiCatalog<E, T>> clazz, T tag, Instant instant) {
+        return CatalogTimeline.<E>of(clazz).findByTag(tag, instant);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.time.Instant;
+
+/**
+ * The interface that extends the {@link Catalog} interface to manage the Enum
+ * elements whose meaning changes over time. Each element of the Enum class that
+ * implements this interface carries a validity interval, and several elements
+ * can share the same code value as long as their validity intervals do not
+ * overlap.
+ *
+ * <p>
+ * The validity intervals are indexed once on first use for each Enum class, and
+ * {@link #getEnum(Class, int, Instant)} resolves the element valid at the given
+ * instant by a binary search over the sorted validity intervals of the code
+ * value. If the validity intervals of the elements sharing the same code value
+ * overlap, {@link IllegalStateException} is thrown when the index is built.
+ *
+ * <p>
+ * The basic implementation and usage examples of this interface are briefly
+ * described below.
+ *
+ * <pre>
+ * <code>
+ * public enum Tariff implements VersionedCatalog&lt;Tariff&gt; {
+ *
+ *    STANDARD(0, null, Instant.parse("2021-04-01T00:00:00Z")),
+ *
+ *    STANDARD_REVISED(0, Instant.parse("2021-04-01T00:00:00Z"), null);
+ *
+ *    private int code;
+ *
+ *    private Instant validFrom;
+ *
+ *    private Instant validTo;
+ *
+ *    Tariff(int code, Instant validFrom, Instant validTo) {
+ *        this.code = code;
+ *        this.validFrom = validFrom;
+ *        this.validTo = validTo;
+ *    }
+ *
+ *    &#64;Override
+ *    public int getCode() {
+ *        return this.code;
+ *    }
+ *
+ *    &#64;Override
+ *    public Instant getValidFrom() {
+ *        return this.validFrom;
+ *    }
+ *
+ *    &#64;Override
+ *    public Instant getValidTo() {
+ *        return this.validTo;
+ *    }
+ * }
+ * </code>
+ * </pre>
+ *
+ * <pre>
+ * <code>
+ * VersionedCatalog.getEnum(Tariff.class, 0, Instant.parse("2021-01-01T00:00:00Z")); // Returns Tariff#STANDARD
+ * VersionedCatalog.getEnum(Tariff.class, 0, Instant.parse("2021-05-01T00:00:00Z")); // Returns Tariff#STANDARD_REVISED
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public interface VersionedCatalog<E extends VersionedCatalog<E>> extends Catalog<E>, ValiditySupport {
+
+    /**
+     * Returns the Enum element that is linked to the code value given as an
+     * argument and is valid at the instant given as an argument. If the target
+     * Enum class does not have such an Enum element, {@code null} is returned.
+     *
+     * @param <E>     The type of Enum class
+     * @param clazz   The target Enum class
+     * @param code    The code value linked to the Enum element
+     * @param instant The instant at which the Enum element is valid
+     * @return The Enum element linked to the code value at the instant, or
+     *         {@code null} if there is no such Enum element
+     *
+     * @exception NullPointerException  If {@code instant} is {@code null}
+     * @exception IllegalStateException If the validity intervals of the Enum
+     *                                  elements sharing the same code value overlap
+     */
+    public static <E extends VersionedCatalog<E>> E getEnum(Class<? extends VersionedCatalog<E>> clazz, int code,
+            Instant instant) {
+        return CatalogTimeline.<E>of(clazz).findByCode(code, instant);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+/**
+ * The class that scans the code values for the first invalid one.
+ *
+ * <p>
+ * This is the implementation used on Java 17 and later, which replaces the
+ * scalar implementation of Java 11 in the multi-release JAR. If the
+ * {@code jdk.incubator.vector} module is resolved, the code values are scanned
+ * with the Vector API by {@link VectorCodeValidation}. Otherwise they are
+ * scanned one by one in the same way as the scalar implementation.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+final class CodeValidationKernel {
+
+    /**
+     * Whether the {@code jdk.incubator.vector} module is resolved
+     */
+    private static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    /**
+     * Constructor
+     */
+    private CodeValidationKernel() {
+    }
+
+    /**
+     * Checks if the code values are scanned with the Vector API.
+     *
+     * @return {@code true} if the code values are scanned with the Vector API,
+     *         otherwise {@code false}
+     */
+    static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Returns the position of the first code value out of the range given as
+     * arguments.
+     *
+     * @param codes The code values
+     * @param from  The first position to be scanned
+     * @param to    The position after the last position to be scanned
+     * @param min   The smallest valid code value
+     * @param max   The largest valid code value
+     * @return The position of the first code value out of the range, or
+     *         {@code -1} if there is no such code value
+     */
+    static int indexOfOutOfRange(int[] codes, int from, int to, int min, int max) {
+
+        if (VECTORIZED) {
+            return VectorCodeValidation.indexOfOutOfRange(codes, from, to, min, max);
+        }
+
+        for (int i = from; i < to; i++) {
+            if (codes[i] < min || codes[i] > max) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the position of the first code value that is not a member of the
+     * bitset given as an argument. Bit {@code n} of the bitset stands for the
+     * code value {@code min + n}.
+     *
+     * @param codes The code values
+     * @param from  The first position to be scanned
+     * @param to    The position after the last position to be scanned
+     * @param min   The code value of the first bit
+     * @param max   The code value of the last bit
+     * @param words The bitset as the words of 32 bits
+     * @return The position of the first code value that is not a member, or
+     *         {@code -1} if there is no such code value
+     */
+    static int indexOfNonMember(int[] codes, int from, int to, int min, int max, int[] words) {
+
+        if (VECTORIZED) {
+            return VectorCodeValidation.indexOfNonMember(codes, from, to, min, max, words);
+        }
+
+        for (int i = from; i < to; i++) {
+            if (!isMember(codes[i], min, max, words)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Checks if the code value is a member of the bitset.
+     *
+     * @param code  The code value
+     * @param min   The code value of the first bit
+     * @param max   The code value of the last bit
+     * @param words The bitset as the words of 32 bits
+     * @return {@code true} if the code value is a member, otherwise {@code false}
+     */
+    static boolean isMember(int code, int min, int max, int[] words) {
+
+        if (code < min || code > max) {
+            return false;
+        }
+
+        final int offset = code - min;
+        return (words[offset >>> 5] & (1 << offset)) != 0;
+    }
+}
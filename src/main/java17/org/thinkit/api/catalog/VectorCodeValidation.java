@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The class that scans the code values with the Vector API.
+ *
+ * <p>
+ * This class is loaded only if the {@code jdk.incubator.vector} module is
+ * resolved. The code values are compared with the range lane by lane, and the
+ * words of the bitset are gathered by the offsets of the code values in the
+ * range, so that a whole vector of code values is tested at once. The remaining code values
+ * that do not fill a vector are tested one by one.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+final class VectorCodeValidation {
+
+    /**
+     * The preferred species of the vector of {@code int}
+     */
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    /**
+     * Constructor
+     */
+    private VectorCodeValidation() {
+    }
+
+    /**
+     * Returns the position of the first code value out of the range given as
+     * arguments.
+     *
+     * @param codes The code values
+     * @param from  The first position to be scanned
+     * @param to    The position after the last position to be scanned
+     * @param min   The smallest valid code value
+     * @param max   The largest valid code value
+     * @return The position of the first code value out of the range, or
+     *         {@code -1} if there is no such code value
+     */
+    static int indexOfOutOfRange(int[] codes, int from, int to, int min, int max) {
+
+        final int bound = from + SPECIES.loopBound(to - from);
+        int i = from;
+
+        for (; i < bound; i += SPECIES.length()) {
+            final IntVector vector = IntVector.fromArray(SPECIES, codes, i);
+            final VectorMask<Integer> invalid = vector.compare(VectorOperators.LT, min)
+                    .or(vector.compare(VectorOperators.GT, max));
+
+            if (invalid.anyTrue()) {
+                return i + invalid.firstTrue();
+            }
+        }
+
+        for (; i < to; i++) {
+            if (codes[i] < min || codes[i] > max) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the position of the first code value that is not a member of the
+     * bitset given as an argument. Bit {@code n} of the bitset stands for the
+     * code value {@code min + n}.
+     *
+     * @param codes The code values
+     * @param from  The first position to be scanned
+     * @param to    The position after the last position to be scanned
+     * @param min   The code value of the first bit
+     * @param max   The code value of the last bit
+     * @param words The bitset as the words of 32 bits
+     * @return The position of the first code value that is not a member, or
+     *         {@code -1} if there is no such code value
+     */
+    static int indexOfNonMember(int[] codes, int from, int to, int min, int max, int[] words) {
+
+        final int bound = from + SPECIES.loopBound(to - from);
+        final int[] wordIndexes = new int[SPECIES.length()];
+        int i = from;
+
+        for (; i < bound; i += SPECIES.length()) {
+            final IntVector vector = IntVector.fromArray(SPECIES, codes, i);
+            final VectorMask<Integer> outOfRange = vector.compare(VectorOperators.LT, min)
+                    .or(vector.compare(VectorOperators.GT, max));
+
+            final IntVector offsets = vector.sub(min).blend(0, outOfRange);
+            offsets.lanewise(VectorOperators.LSHR, 5).intoArray(wordIndexes, 0);
+
+            final VectorMask<Integer> invalid = IntVector.fromArray(SPECIES, words, 0, wordIndexes, 0)
+                    .lanewise(VectorOperators.LSHR, offsets.and(31)).and(1).compare(VectorOperators.EQ, 0)
+                    .or(outOfRange);
+
+            if (invalid.anyTrue()) {
+                return i + invalid.firstTrue();
+            }
+        }
+
+        for (; i < to; i++) {
+            if (!CodeValidationKernel.isMember(codes[i], min, max, words)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
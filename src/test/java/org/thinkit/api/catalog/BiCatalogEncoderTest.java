@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link BiCatalogEncoder} クラスのテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class BiCatalogEncoderTest {
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link BiCatalogEncoder#encode(Object[])} メソッドの返却値を確認する。
+     * テストの際には {@link BiCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・各タグ値が最初に定義された要素のコード値へ変換されること。
+     * ・未定義のタグ値が不明コード値へ変換され、その位置が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testEncodeArray() {
+        final BiCatalogEncoder.Result result = BiCatalogEncoder.of(BiCatalogForTest.class, -1)
+                .encode(new String[] { "success", "failure", "unknown", null });
+
+        assertArrayEquals(new int[] { 1, 0, -1, -1 }, result.getCodes());
+        assertArrayEquals(new int[] { 2, 3 }, result.getUnknownPositions());
+        assertFalse(result.isValid());
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link BiCatalogEncoder#encode(List)} メソッドの返却値を確認する。
+     * テストの際には {@link BiCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・並列処理の閾値を超えるリストを渡した際に全ての位置が正しく変換されること。
+     * ・未定義のタグ値の位置が昇順で返却されること。
+     * ・{@link java.util.RandomAccess} を実装しないリストでも同じ結果が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testEncodeLargeList() {
+        final int size = BiCatalogEncoder.PARALLEL_THRESHOLD * 5 + 7;
+        final List<String> tags = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            tags.add(i % 1000 == 999 ? "unknown" : (i % 2 == 0 ? "failure" : "success"));
+        }
+
+        final BiCatalogEncoder<BiCatalogForTest, String> encoder = BiCatalogEncoder.of(BiCatalogForTest.class);
+        final BiCatalogEncoder.Result result = encoder.encode(tags);
+
+        final int[] codes = result.getCodes();
+        assertEquals(size, codes.length);
+
+        int unknown = 0;
+        for (int i = 0; i < size; i++) {
+            if (i % 1000 == 999) {
+                assertEquals(BiCatalogEncoder.DEFAULT_UNKNOWN_CODE, codes[i]);
+                assertEquals(i, result.getUnknownPositions()[unknown++]);
+            } else {
+                assertEquals(i % 2, codes[i]);
+            }
+        }
+
+        assertEquals(unknown, result.getUnknownPositions().length);
+        assertArrayEquals(codes, encoder.encode(new LinkedList<>(tags)).getCodes());
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link BiCatalogEncoder.Result#isValid()} メソッドの返却値を確認する。
+     * テストの際には {@link BiCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・全てのタグ値が定義されている場合に {@code true} が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testIsValid() {
+        assertTrue(BiCatalogEncoder.of(BiCatalogForTest.class).encode(new String[] { "success" }).isValid());
+    }
+}
@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -181,6 +182,84 @@ public final class BiCatalogTest {
         assertEquals(SEQUENCE_SUCCESS, test2.getTag());
     }
 
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link BiCatalog} インターフェースの {@link BiCatalog#size(Class)} メソッドの返却値を確認する。
+     * テストの際には {@link BiCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・{@link BiCatalog#size(Class)} メソッドから取得した要素数が {@link BiCatalogForTest} の要素数と等しいこと。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testSize() {
+        assertEquals(BiCatalogForTest.values().length, BiCatalog.size(BiCatalogForTest.class));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link BiCatalog} インターフェースの {@link BiCatalog#get(Class, int)} メソッドの返却値を確認する。
+     * テストの際には {@link BiCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・{@link BiCatalog#get(Class, int)} メソッドへ渡したインデックスに対応する要素がコード値順で返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testGet() {
+        assertEquals(BiCatalogForTest.TEST_1, BiCatalog.get(BiCatalogForTest.class, 0));
+        assertEquals(BiCatalogForTest.TEST_2, BiCatalog.get(BiCatalogForTest.class, 1));
+        assertEquals(BiCatalogForTest.TEST_3, BiCatalog.get(BiCatalogForTest.class, 2));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link BiCatalog} インターフェースの {@link BiCatalog#groupingBy(Class, java.util.function.Function)} 及び
+     * {@link BiCatalog#partitioningBy(Class, java.util.function.Predicate)} メソッドの返却値を確認する。
+     * テストの際には {@link BiCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・要素がタグごとにコード値順でグループ化されること。
+     * ・述語を満たす要素と満たさない要素がコード値順で返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testGroupingByAndPartitioningBy() {
+        final Map<String, List<BiCatalogForTest>> grouping = BiCatalog.groupingBy(BiCatalogForTest.class,
+                BiCatalogForTest::getTag);
+        final CatalogPartition<BiCatalogForTest> partition = BiCatalog.partitioningBy(BiCatalogForTest.class,
+                element -> element.getCode() > 0);
+
+        assertEquals(List.of(BiCatalogForTest.TEST_1, BiCatalogForTest.TEST_3), grouping.get("failure"));
+        assertEquals(List.of(BiCatalogForTest.TEST_2), grouping.get("success"));
+        assertEquals(List.of(BiCatalogForTest.TEST_2, BiCatalogForTest.TEST_3), partition.getMatching());
+        assertEquals(List.of(BiCatalogForTest.TEST_1), partition.getNonMatching());
+    }
+
     /**
      * {@link BiCatalog#contains(Class, Object)} メソッドのインナーテストクラスです。
      *
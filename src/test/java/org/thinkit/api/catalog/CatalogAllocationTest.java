@@ -0,0 +1,246 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * 各カタログの検索処理がヒープを確保しないことを確認するテストクラスです。
+ *
+ * <p>
+ * 計測には {@link ThreadMXBean#getThreadAllocatedBytes(long)} を使用し、十分に暖機した検索処理を繰り返し呼び出した際の
+ * 現在スレッドの確保バイト数を検査する。検索処理が1回でもオブジェクトを確保する場合、確保バイト数は繰り返し回数に比例して増加するため、
+ * 計測誤差を上回り失敗する。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogAllocationTest {
+
+    /**
+     * 暖機の繰り返し回数
+     */
+    private static final int WARMUP_ITERATIONS = 50_000;
+
+    /**
+     * 計測の繰り返し回数
+     */
+    private static final int MEASURED_ITERATIONS = 100_000;
+
+    /**
+     * 計測の最大回数
+     */
+    private static final int MEASURED_ROUNDS = 3;
+
+    /**
+     * 計測誤差として許容する確保バイト数
+     */
+    private static final long TOLERANCE_BYTES = 1024;
+
+    /**
+     * {@link CatalogRegistry} に登録する名前空間
+     *
+     * <p>
+     * {@link CatalogRegistry} は登録を解除できない大域的な状態であるため、他のテストクラスと衝突しないよう、本テストクラスでのみ使用する
+     * {@link MonthCatalogForTest} クラス及び名前空間を登録する。
+     */
+    private static final int REGISTRY_NAMESPACE = 3;
+
+    /**
+     * タグ値
+     */
+    private static final String[] TAGS = { "failure", "success", "unknown" };
+
+    /**
+     * 日時
+     */
+    private static final Instant[] INSTANTS = { Instant.parse("2020-06-01T00:00:00Z"),
+            Instant.parse("2021-06-01T00:00:00Z") };
+
+    /**
+     * スレッドの管理インターフェース
+     */
+    private static ThreadMXBean threadMXBean;
+
+    /**
+     * 検索結果を保持し、検索処理が最適化により除去されることを防ぐ
+     */
+    private static Object sink;
+
+    /**
+     * スレッドの管理インターフェースを取得します。計測に対応していない環境ではテストを省略します。
+     */
+    @BeforeAll
+    static void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+
+        threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link Catalog} インターフェースの検索処理がヒープを確保しないことを確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・{@link Catalog#getEnum(Class, int)} がヒープを確保しないこと。
+     * ・{@link Catalog#hasCode(Class, int)} がヒープを確保しないこと。
+     * ・{@link Catalog#get(Class, int)} 及び {@link Catalog#size(Class)} がヒープを確保しないこと。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * 存在しないコード値の検索も計測対象に含める。
+     * </pre>
+     */
+    @Test
+    void testCatalog() {
+        assertNoAllocation("Catalog#getEnum", i -> Catalog.getEnum(CatalogForTest.class, i % 4));
+        assertNoAllocation("Catalog#hasCode", i -> Catalog.hasCode(CatalogForTest.class, i % 4));
+        assertNoAllocation("Catalog#get", i -> Catalog.get(CatalogForTest.class, i % 3));
+        assertNoAllocation("Catalog#size", i -> Catalog.size(CatalogForTest.class) == i);
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link BiCatalog} インターフェースの検索処理がヒープを確保しないことを確認する。
+     * テストの際には {@link BiCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・{@link BiCatalog#getEnum(Class, int)} がヒープを確保しないこと。
+     * ・{@link BiCatalog#hasCode(Class, int)} がヒープを確保しないこと。
+     * ・{@link BiCatalog#getEnumByTag(Class, Object)} がヒープを確保しないこと。
+     * ・{@link BiCatalog#contains(Class, Object)} がヒープを確保しないこと。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * 存在しないコード値及びタグ値の検索も計測対象に含める。
+     * </pre>
+     */
+    @Test
+    void testBiCatalog() {
+        assertNoAllocation("BiCatalog#getEnum", i -> BiCatalog.getEnum(BiCatalogForTest.class, i % 4));
+        assertNoAllocation("BiCatalog#hasCode", i -> BiCatalog.hasCode(BiCatalogForTest.class, i % 4));
+        assertNoAllocation("BiCatalog#getEnumByTag",
+                i -> BiCatalog.getEnumByTag(BiCatalogForTest.class, TAGS[i % TAGS.length]));
+        assertNoAllocation("BiCatalog#contains",
+                i -> BiCatalog.contains(BiCatalogForTest.class, TAGS[i % TAGS.length]));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * 拡張カタログの検索処理がヒープを確保しないことを確認する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・{@link HierarchicalCatalog#isDescendantOf(HierarchicalCatalog)} がヒープを確保しないこと。
+     * ・{@link VersionedBiCatalog#getEnum(Class, int, Instant)} がヒープを確保しないこと。
+     * ・{@link VersionedBiCatalog#getEnumByTag(Class, Object, Instant)} がヒープを確保しないこと。
+     * ・{@link CatalogRegistry#resolve(long)} がヒープを確保しないこと。
+     * ・{@link CatalogMapper#mapCode(int)} がヒープを確保しないこと。
+     * ・{@link CatalogBitmap#containsCode(int)} がヒープを確保しないこと。
+     * ・{@link LoadingCatalog#getEnum(int)} 及び {@link LoadingCatalog#getEnumByTag(Object)} がキャッシュに命中した場合にヒープを確保しないこと。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * ・{@link CatalogRegistry} は大域的な状態であり登録を解除できないため、本テストクラス専用の {@link #REGISTRY_NAMESPACE} を使用する。
+     * </pre>
+     */
+    @Test
+    void testExtendedCatalogs() {
+        final HierarchicalCatalogForTest[] regions = HierarchicalCatalogForTest.values();
+        assertNoAllocation("HierarchicalCatalog#isDescendantOf",
+                i -> regions[i % regions.length].isDescendantOf(HierarchicalCatalogForTest.ASIA));
+
+        assertNoAllocation("VersionedBiCatalog#getEnum",
+                i -> VersionedBiCatalog.getEnum(VersionedBiCatalogForTest.class, i % 3, INSTANTS[i & 1]));
+        assertNoAllocation("VersionedBiCatalog#getEnumByTag", i -> VersionedBiCatalog
+                .getEnumByTag(VersionedBiCatalogForTest.class, "inactive", INSTANTS[i & 1]));
+
+        CatalogRegistry.register(MonthCatalogForTest.class, REGISTRY_NAMESPACE);
+        assertNoAllocation("CatalogRegistry#resolve",
+                i -> CatalogRegistry.resolve(CatalogRegistry.pack(REGISTRY_NAMESPACE, 1 + i % 12)));
+
+        final CatalogMapper<CatalogForTest, BiCatalogForTest> mapper = CatalogMapper.of(CatalogForTest.class,
+                BiCatalogForTest.class, source -> BiCatalog.getEnum(BiCatalogForTest.class, source.getCode()));
+        assertNoAllocation("CatalogMapper#mapCode", i -> mapper.mapCode(i % 4));
+
+        final CatalogBitmap<SparseCatalogForTest> bitmap = CatalogBitmap.of(SparseCatalogForTest.class,
+                SparseCatalogForTest.values());
+        assertNoAllocation("CatalogBitmap#containsCode", i -> bitmap.containsCode(i * 65521));
+
+        final LoadingCatalog<BiCatalogForTest, String> loading = LoadingCatalog.of(
+                code -> BiCatalog.getEnum(BiCatalogForTest.class, code - 1000),
+                tag -> BiCatalog.getEnumByTag(BiCatalogForTest.class, tag), 16);
+        assertNoAllocation("LoadingCatalog#getEnum", i -> loading.getEnum(1000 + i % 4));
+        assertNoAllocation("LoadingCatalog#getEnumByTag", i -> loading.getEnumByTag(TAGS[i % TAGS.length]));
+    }
+
+    /**
+     * 暖機した検索処理を繰り返し呼び出し、確保バイト数が許容値を超えないことを検査します。
+     * JIT コンパイルの切り替え等による一時的な確保を除外するため、計測は最大 {@value #MEASURED_ROUNDS} 回行い、
+     * いずれかの計測が許容値以下であれば成功とします。
+     *
+     * @param name   検索処理の名前
+     * @param lookup 検索処理
+     */
+    private static void assertNoAllocation(String name, IntFunction<Object> lookup) {
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink = lookup.apply(i);
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        long allocated = Long.MAX_VALUE;
+
+        for (int round = 0; round < MEASURED_ROUNDS && allocated > TOLERANCE_BYTES; round++) {
+            final long before = threadMXBean.getThreadAllocatedBytes(threadId);
+
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                sink = lookup.apply(i);
+            }
+
+            allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+        }
+
+        final long result = allocated;
+
+        assertTrue(result <= TOLERANCE_BYTES,
+                () -> String.format("%s allocated %d bytes in %d calls", name, result, MEASURED_ITERATIONS));
+    }
+}
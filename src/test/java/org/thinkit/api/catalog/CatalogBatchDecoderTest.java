@@ -0,0 +1,384 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CatalogBatchDecoder} クラスのテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogBatchDecoderTest {
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogBatchDecoder#ofCodes(Class, java.util.function.BiConsumer)} メソッドで生成したデコーダの動作を確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・コード値のバッチが要素のバッチに変換されること。
+     * ・未定義のコード値がバッチから除外され、位置と共に未定義値の受け取り先へ渡されること。
+     * ・全ての値が未定義のバッチは発行されず、次のバッチが要求されること。
+     * ・完了が下流へ伝播されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * 上流には呼び出し元のスレッドで配信する {@link SubmissionPublisher} を使用する。
+     * </pre>
+     */
+    @Test
+    void testOfCodes() {
+        final List<int[]> unknownPositions = new ArrayList<>();
+        final CatalogBatchDecoder<int[], CatalogForTest> decoder = CatalogBatchDecoder.ofCodes(CatalogForTest.class,
+                (batch, positions) -> unknownPositions.add(positions));
+        final RecordingSubscriber<List<CatalogForTest>> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+
+        try (SubmissionPublisher<int[]> publisher = new SubmissionPublisher<>(Runnable::run, 16)) {
+            publisher.subscribe(decoder);
+            decoder.subscribe(subscriber);
+
+            publisher.submit(new int[] { 0, 1, 2 });
+            publisher.submit(new int[] { 5, 2, -1, 0 });
+            publisher.submit(new int[] { 9 });
+            publisher.submit(new int[] { 1 });
+        }
+
+        assertEquals(List.of(List.of(CatalogForTest.TEST_1, CatalogForTest.TEST_2, CatalogForTest.TEST_3),
+                List.of(CatalogForTest.TEST_3, CatalogForTest.TEST_1), List.of(CatalogForTest.TEST_2)),
+                subscriber.items);
+        assertEquals(2, unknownPositions.size());
+        assertArrayEquals(new int[] { 0, 2 }, unknownPositions.get(0));
+        assertArrayEquals(new int[] { 0 }, unknownPositions.get(1));
+        assertTrue(subscriber.completed);
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogBatchDecoder#ofTags(Class, java.util.function.BiConsumer)} メソッドで生成したデコーダの動作を確認する。
+     * テストの際には {@link BiCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・タグのバッチが要素のバッチに変換されること。
+     * ・同一のタグが複数定義されている場合は最初に定義された要素に変換されること。
+     * ・未定義のタグの位置が未定義値の受け取り先へ渡されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testOfTags() {
+        final List<List<String>> unknownBatches = new ArrayList<>();
+        final List<int[]> unknownPositions = new ArrayList<>();
+        final CatalogBatchDecoder<List<String>, BiCatalogForTest> decoder = CatalogBatchDecoder
+                .ofTags(BiCatalogForTest.class, (batch, positions) -> {
+                    unknownBatches.add(batch);
+                    unknownPositions.add(positions);
+                });
+        final RecordingSubscriber<List<BiCatalogForTest>> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+
+        try (SubmissionPublisher<List<String>> publisher = new SubmissionPublisher<>(Runnable::run, 16)) {
+            publisher.subscribe(decoder);
+            decoder.subscribe(subscriber);
+
+            publisher.submit(List.of("success", "unknown", "failure"));
+        }
+
+        assertEquals(List.of(List.of(BiCatalogForTest.TEST_2, BiCatalogForTest.TEST_1)), subscriber.items);
+        assertEquals(List.of(List.of("success", "unknown", "failure")), unknownBatches);
+        assertArrayEquals(new int[] { 1 }, unknownPositions.get(0));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogBatchDecoder} クラスが下流の要求数を守ることを確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・上流の購読前に要求された数が購読時に上流へ伝播されること。
+     * ・要求された数を超えるバッチが発行されないこと。
+     * ・追加の要求に応じて残りのバッチが発行されること。
+     * ・キャンセル後はバッチが発行されないこと。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testDemand() {
+        final CatalogBatchDecoder<int[], CatalogForTest> decoder = CatalogBatchDecoder.ofCodes(CatalogForTest.class,
+                (batch, positions) -> {
+                });
+        final RecordingSubscriber<List<CatalogForTest>> subscriber = new RecordingSubscriber<>(1);
+
+        try (SubmissionPublisher<int[]> publisher = new SubmissionPublisher<>(Runnable::run, 16)) {
+            decoder.subscribe(subscriber);
+            publisher.subscribe(decoder);
+
+            publisher.submit(new int[] { 0 });
+            publisher.submit(new int[] { 1 });
+            publisher.submit(new int[] { 2 });
+
+            assertEquals(List.of(List.of(CatalogForTest.TEST_1)), subscriber.items);
+
+            subscriber.subscription.request(1);
+            assertEquals(List.of(List.of(CatalogForTest.TEST_1), List.of(CatalogForTest.TEST_2)), subscriber.items);
+
+            subscriber.subscription.cancel();
+            subscriber.subscription.request(1);
+            assertEquals(2, subscriber.items.size());
+        }
+
+        assertFalse(subscriber.completed);
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogBatchDecoder} クラスの異常系の動作を確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・2つ目の購読者にはエラーが通知されること。
+     * ・未定義値の受け取り先で発生した例外が下流へ通知されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testErrors() {
+        final CatalogBatchDecoder<int[], CatalogForTest> decoder = CatalogBatchDecoder.ofCodes(CatalogForTest.class,
+                (batch, positions) -> {
+                    throw new IllegalStateException("unknown");
+                });
+        final RecordingSubscriber<List<CatalogForTest>> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        final RecordingSubscriber<List<CatalogForTest>> second = new RecordingSubscriber<>(Long.MAX_VALUE);
+
+        try (SubmissionPublisher<int[]> publisher = new SubmissionPublisher<>(Runnable::run, 16)) {
+            publisher.subscribe(decoder);
+            decoder.subscribe(subscriber);
+            decoder.subscribe(second);
+
+            publisher.submit(new int[] { 0, 7 });
+        }
+
+        assertTrue(second.error instanceof IllegalStateException);
+        assertTrue(subscriber.error instanceof IllegalStateException);
+        assertTrue(subscriber.items.isEmpty());
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogBatchDecoder} クラスが下流へのシグナルを直列に通知することを確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・下流の購読前に完了した上流の完了が、購読の通知が戻った後に下流へ通知されること。
+     * ・購読の通知中に要求された数が、購読の通知が戻った後に上流へ伝播されること。
+     * ・バッチの通知中に 0 以下の数が要求された場合、エラーがバッチの通知が戻った後に下流へ通知されること。
+     * ・エラーの通知後はバッチが発行されないこと。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testSerialSignals() {
+        final List<String> signals = new ArrayList<>();
+        final CatalogBatchDecoder<int[], CatalogForTest> completedDecoder = CatalogBatchDecoder
+                .ofCodes(CatalogForTest.class, (batch, positions) -> {
+                });
+
+        try (SubmissionPublisher<int[]> publisher = new SubmissionPublisher<>(Runnable::run, 16)) {
+            publisher.subscribe(completedDecoder);
+        }
+
+        completedDecoder.subscribe(new Flow.Subscriber<List<CatalogForTest>>() {
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                signals.add("subscribe:start");
+                subscription.request(1);
+                signals.add("subscribe:end");
+            }
+
+            @Override
+            public void onNext(List<CatalogForTest> item) {
+                signals.add("next");
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                signals.add("error");
+            }
+
+            @Override
+            public void onComplete() {
+                signals.add("complete");
+            }
+        });
+
+        assertEquals(List.of("subscribe:start", "subscribe:end", "complete"), signals);
+        signals.clear();
+
+        final CatalogBatchDecoder<int[], CatalogForTest> decoder = CatalogBatchDecoder.ofCodes(CatalogForTest.class,
+                (batch, positions) -> {
+                });
+        final List<Throwable> errors = new ArrayList<>();
+
+        try (SubmissionPublisher<int[]> publisher = new SubmissionPublisher<>(Runnable::run, 16)) {
+            publisher.subscribe(decoder);
+            publisher.submit(new int[] { 0 });
+            publisher.submit(new int[] { 1 });
+
+            decoder.subscribe(new Flow.Subscriber<List<CatalogForTest>>() {
+
+                /**
+                 * 購読
+                 */
+                private Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    signals.add("subscribe:start");
+                    subscription.request(Long.MAX_VALUE);
+                    signals.add("subscribe:end");
+                }
+
+                @Override
+                public void onNext(List<CatalogForTest> item) {
+                    signals.add("next:start");
+                    this.subscription.request(0);
+                    signals.add("next:end");
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    errors.add(throwable);
+                    signals.add("error");
+                }
+
+                @Override
+                public void onComplete() {
+                    signals.add("complete");
+                }
+            });
+        }
+
+        assertEquals(List.of("subscribe:start", "subscribe:end", "next:start", "next:end", "error"), signals);
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0) instanceof IllegalArgumentException);
+    }
+
+    /**
+     * テスト用の購読者です。
+     *
+     * @param <T> 受け取る値の型
+     */
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+        /**
+         * 購読開始時の要求数
+         */
+        private final long initialDemand;
+
+        /**
+         * 受け取った値
+         */
+        private final List<T> items = new ArrayList<>();
+
+        /**
+         * 購読
+         */
+        private Flow.Subscription subscription;
+
+        /**
+         * 受け取ったエラー
+         */
+        private Throwable error;
+
+        /**
+         * 完了したか否か
+         */
+        private boolean completed;
+
+        /**
+         * コンストラクタ
+         *
+         * @param initialDemand 購読開始時の要求数
+         */
+        RecordingSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(this.initialDemand);
+        }
+
+        @Override
+        public void onNext(T item) {
+            this.items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CatalogBitmap} クラスのテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogBitmapTest {
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogBitmap} の追加、削除及び包含判定を確認する。
+     * テストの際には {@link SparseCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・{@code int} の全範囲に分布するコード値を追加及び判定できること。
+     * ・コード値の昇順で要素が走査されること。
+     * ・未定義のコード値を追加した際に例外が発生すること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testAddAndContains() {
+        final CatalogBitmap<SparseCatalogForTest> bitmap = CatalogBitmap.of(SparseCatalogForTest.class);
+
+        for (final SparseCatalogForTest element : SparseCatalogForTest.values()) {
+            assertFalse(bitmap.contains(element));
+            assertTrue(bitmap.add(element));
+            assertFalse(bitmap.add(element));
+            assertTrue(bitmap.contains(element));
+        }
+
+        assertEquals(SparseCatalogForTest.values().length, bitmap.getCardinality());
+        assertFalse(bitmap.containsCode(65534));
+
+        final List<SparseCatalogForTest> elements = new ArrayList<>();
+        bitmap.forEach(elements::add);
+        assertEquals(Catalog.getOrderedList(SparseCatalogForTest.class), elements);
+
+        assertTrue(bitmap.remove(SparseCatalogForTest.MIN));
+        assertFalse(bitmap.remove(SparseCatalogForTest.MIN));
+        assertFalse(bitmap.contains(SparseCatalogForTest.MIN));
+        assertTrue(bitmap.addCode(Integer.MIN_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> bitmap.addCode(42));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogBitmap#union(CatalogBitmap)} 及び {@link CatalogBitmap#intersection(CatalogBitmap)} メソッドの返却値を確認する。
+     * テストの際には {@link SparseCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・和集合及び積集合が期待するコード値を持つこと。
+     * ・演算元のビットマップが変更されないこと。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testUnionAndIntersection() {
+        final CatalogBitmap<SparseCatalogForTest> first = CatalogBitmap.of(SparseCatalogForTest.class,
+                SparseCatalogForTest.MIN, SparseCatalogForTest.ZERO, SparseCatalogForTest.ONE,
+                SparseCatalogForTest.MILLION);
+        final CatalogBitmap<SparseCatalogForTest> second = CatalogBitmap.of(SparseCatalogForTest.class,
+                SparseCatalogForTest.ONE, SparseCatalogForTest.LOW_MAX, SparseCatalogForTest.MILLION,
+                SparseCatalogForTest.MAX);
+
+        assertArrayEquals(new int[] { Integer.MIN_VALUE, 0, 1, 65535, 1_000_000, Integer.MAX_VALUE },
+                first.union(second).toCodeArray());
+        assertArrayEquals(new int[] { 1, 1_000_000 }, first.intersection(second).toCodeArray());
+        assertEquals(4, first.getCardinality());
+        assertTrue(first.intersection(CatalogBitmap.of(SparseCatalogForTest.class)).isEmpty());
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogBitmap#runOptimize()} 及び直列化形式を確認する。
+     * テストの際には {@link SparseCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・連続するコード値をランコンテナへ変換しても内容が変わらないこと。
+     * ・直列化形式から復元したビットマップが元のビットマップと等価であること。
+     * ・不正な直列化形式を渡した際に例外が発生すること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testRunOptimizeAndSerialize() {
+        final CatalogBitmap<SparseCatalogForTest> bitmap = CatalogBitmap.of(SparseCatalogForTest.class,
+                SparseCatalogForTest.MINUS_ONE, SparseCatalogForTest.ZERO, SparseCatalogForTest.ONE,
+                SparseCatalogForTest.TWO, SparseCatalogForTest.THREE, SparseCatalogForTest.MAX);
+        final CatalogBitmap<SparseCatalogForTest> optimized = CatalogBitmap
+                .fromByteArray(SparseCatalogForTest.class, bitmap.toByteArray()).runOptimize();
+
+        assertEquals(bitmap, optimized);
+        assertEquals(bitmap.hashCode(), optimized.hashCode());
+        assertTrue(optimized.contains(SparseCatalogForTest.TWO));
+        assertFalse(optimized.contains(SparseCatalogForTest.LOW_MAX));
+
+        final byte[] bytes = optimized.toByteArray();
+        assertTrue(bytes.length < bitmap.toByteArray().length);
+        assertEquals(bitmap, CatalogBitmap.fromByteArray(SparseCatalogForTest.class, bytes));
+
+        assertTrue(optimized.remove(SparseCatalogForTest.ONE));
+        assertArrayEquals(new int[] { -1, 0, 2, 3, Integer.MAX_VALUE }, optimized.toCodeArray());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> CatalogBitmap.fromByteArray(SparseCatalogForTest.class, new byte[] { 9 }));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * ビットマップコンテナを含む直列化形式の復元及び集合演算を確認する。
+     * テストの際には {@link SparseCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・配列コンテナの上限を超える値を持つコンテナが復元されること。
+     * ・ビットマップコンテナと配列コンテナの和集合及び積集合が期待する値を持つこと。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * テスト用カタログの要素数は配列コンテナの上限に満たないため、ビットマップコンテナは直列化形式から生成する。
+     * </pre>
+     *
+     * @throws IOException 入出力例外が発生した場合
+     */
+    @Test
+    void testBitmapContainer() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(1);
+            out.writeInt(1);
+            out.writeShort(0x8000);
+            out.writeByte(1);
+
+            for (int i = 0; i < 1024; i++) {
+                out.writeLong(i < 160 ? 0x5555555555555555L : 0L);
+            }
+        }
+
+        final CatalogBitmap<SparseCatalogForTest> dense = CatalogBitmap.fromByteArray(SparseCatalogForTest.class,
+                bytes.toByteArray());
+
+        assertEquals(160 * 32, dense.getCardinality());
+        assertTrue(dense.containsCode(0));
+        assertFalse(dense.containsCode(1));
+        assertTrue(dense.containsCode(2));
+        assertEquals(dense, CatalogBitmap.fromByteArray(SparseCatalogForTest.class, dense.toByteArray()));
+
+        final CatalogBitmap<SparseCatalogForTest> sparse = CatalogBitmap.of(SparseCatalogForTest.class,
+                SparseCatalogForTest.ONE, SparseCatalogForTest.TWO, SparseCatalogForTest.LOW_MAX);
+
+        assertArrayEquals(new int[] { 2 }, dense.intersection(sparse).toCodeArray());
+        assertEquals(160 * 32 + 2, dense.union(sparse).getCardinality());
+        assertEquals(160 * 32 + 2, sparse.union(dense).getCardinality());
+    }
+}
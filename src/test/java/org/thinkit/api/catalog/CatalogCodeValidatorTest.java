@@ -0,0 +1,155 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CatalogCodeValidator} クラスのテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogCodeValidatorTest {
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * コード値が連続するカタログに対する {@link CatalogCodeValidator} クラスの検証結果を確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・定義されたコード値のみの配列が有効と判定されること。
+     * ・範囲外のコード値の最初の位置が返却されること。
+     * ・範囲外のコード値の数が返却されること。
+     * ・同一のカタログクラスに対して同一のインスタンスが返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testContiguousCodes() {
+        final CatalogCodeValidator<CatalogForTest> validator = CatalogCodeValidator.of(CatalogForTest.class);
+        final int[] codes = new int[100];
+
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = i % 3;
+        }
+
+        assertTrue(validator.isValid(codes));
+        assertEquals(-1, validator.indexOfInvalid(codes));
+
+        codes[37] = 3;
+        codes[80] = -1;
+        codes[99] = Integer.MIN_VALUE;
+
+        assertFalse(validator.isValid(codes));
+        assertEquals(37, validator.indexOfInvalid(codes));
+        assertEquals(80, validator.indexOfInvalid(codes, 38, 100));
+        assertEquals(-1, validator.indexOfInvalid(codes, 38, 80));
+        assertEquals(3, validator.countInvalid(codes));
+        assertSame(validator, CatalogCodeValidator.of(CatalogForTest.class));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * コード値が連続しないカタログに対する {@link CatalogCodeValidator} クラスの検証結果を確認する。
+     * テストの際には {@link HierarchicalCatalogForTest} 及び {@link SparseCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・範囲内で未定義のコード値が無効と判定されること。
+     * ・範囲外のコード値が無効と判定されること。
+     * ・コード値の範囲が広いカタログでも定義されたコード値が有効と判定されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testSparseCodes() {
+        final CatalogCodeValidator<HierarchicalCatalogForTest> hierarchical = CatalogCodeValidator
+                .of(HierarchicalCatalogForTest.class);
+        final int[] defined = Arrays.stream(HierarchicalCatalogForTest.values())
+                .mapToInt(HierarchicalCatalogForTest::getCode).toArray();
+        final int[] codes = new int[64];
+
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = defined[i % defined.length];
+        }
+
+        assertTrue(hierarchical.isValid(codes));
+
+        codes[20] = 50;
+        codes[40] = 102;
+
+        assertEquals(20, hierarchical.indexOfInvalid(codes));
+        assertEquals(2, hierarchical.countInvalid(codes));
+
+        final CatalogCodeValidator<SparseCatalogForTest> sparse = CatalogCodeValidator.of(SparseCatalogForTest.class);
+        final int[] sparseCodes = Arrays.stream(SparseCatalogForTest.values()).mapToInt(SparseCatalogForTest::getCode)
+                .toArray();
+
+        assertTrue(sparse.isValid(sparseCodes));
+
+        sparseCodes[5] = 4;
+
+        assertEquals(5, sparse.indexOfInvalid(sparseCodes));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogCodeValidator#indexOfInvalid(int[], int, int)} メソッドの異常系を確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・範囲外の位置を渡した場合は {@link IndexOutOfBoundsException} が発生すること。
+     * ・{@code null} を渡した場合は {@link NullPointerException} が発生すること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testInvalidArguments() {
+        final CatalogCodeValidator<CatalogForTest> validator = CatalogCodeValidator.of(CatalogForTest.class);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> validator.indexOfInvalid(new int[3], 2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> validator.indexOfInvalid(new int[3], 2, 1));
+        assertThrows(NullPointerException.class, () -> validator.isValid(null));
+    }
+}
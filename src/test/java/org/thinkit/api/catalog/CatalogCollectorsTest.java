@@ -0,0 +1,222 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CatalogCollectors} クラスのテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogCollectorsTest {
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogCollectors#toCountsByCode(Class, java.util.function.ToIntFunction)} メソッドで集計した結果を確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・コード値ごとの件数が要素とコード値の両方から参照できること。
+     * ・未定義のコード値の件数が別に集計されること。
+     * ・並列ストリームで集計した結果が逐次ストリームで集計した結果と一致すること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testToCountsByCode() {
+        final CatalogCounts<CatalogForTest> counts = IntStream.range(0, 100_000).parallel().boxed()
+                .collect(CatalogCollectors.toCountsByCode(CatalogForTest.class, i -> i % 4));
+
+        assertEquals(25_000, counts.get(CatalogForTest.TEST_1));
+        assertEquals(25_000, counts.getByCode(1));
+        assertEquals(25_000, counts.getByCode(2));
+        assertEquals(0, counts.getByCode(3));
+        assertEquals(25_000, counts.getUnknown());
+        assertEquals(100_000, counts.getTotal());
+        assertArrayEquals(new long[] { 25_000, 25_000, 25_000 }, counts.toArray());
+
+        final CatalogCounts<CatalogForTest> sequential = IntStream.range(0, 100_000).boxed()
+                .collect(CatalogCollectors.toCountsByCode(CatalogForTest.class, i -> i % 4));
+
+        assertEquals(sequential.toMap(), counts.toMap());
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogCollectors#toCounts(Class, java.util.function.Function)} メソッドで集計した結果を確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・要素ごとの件数が集計されること。
+     * ・件数が1件以上の要素のみがコード値順で {@link Map} に含まれること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testToCounts() {
+        final CatalogCounts<CatalogForTest> counts = Stream
+                .of(CatalogForTest.TEST_3, CatalogForTest.TEST_1, CatalogForTest.TEST_3)
+                .collect(CatalogCollectors.toCounts(CatalogForTest.class, element -> element));
+
+        assertEquals(2, counts.get(CatalogForTest.TEST_3));
+        assertEquals(0, counts.get(CatalogForTest.TEST_2));
+        assertEquals(List.of(CatalogForTest.TEST_1, CatalogForTest.TEST_3), new ArrayList<>(counts.toMap().keySet()));
+        assertEquals(0, counts.getUnknown());
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogCollectors#toCatalogSet(Class)} メソッドで収集した結果を確認する。
+     * テストの際には {@link SparseCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・重複した要素が1つにまとめられ、コード値順で反復されること。
+     * ・要素とコード値の両方で所属を判定できること。
+     * ・返却された集合が変更不可であること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testToCatalogSet() {
+        final CatalogSet<SparseCatalogForTest> set = Stream
+                .of(SparseCatalogForTest.MAX, SparseCatalogForTest.ZERO, SparseCatalogForTest.MIN,
+                        SparseCatalogForTest.ZERO)
+                .parallel().collect(CatalogCollectors.toCatalogSet(SparseCatalogForTest.class));
+
+        assertEquals(3, set.size());
+        assertEquals(List.of(SparseCatalogForTest.MIN, SparseCatalogForTest.ZERO, SparseCatalogForTest.MAX),
+                new ArrayList<>(set));
+        assertTrue(set.contains(SparseCatalogForTest.ZERO));
+        assertFalse(set.contains(SparseCatalogForTest.ONE));
+        assertFalse(set.contains(CatalogForTest.TEST_1));
+        assertTrue(set.containsCode(Integer.MAX_VALUE));
+        assertFalse(set.containsCode(1));
+        assertEquals(Set.of(SparseCatalogForTest.MIN, SparseCatalogForTest.ZERO, SparseCatalogForTest.MAX), set);
+        assertThrows(UnsupportedOperationException.class, () -> set.add(SparseCatalogForTest.ONE));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogCollectors#groupingByCatalog(Class, java.util.function.Function, java.util.stream.Collector)}
+     * メソッドで集計した結果を確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・レコードが要素ごとにグループ化され、下流の {@link java.util.stream.Collector} で集計されること。
+     * ・レコードを持つ要素のみがコード値順で含まれること。
+     * ・並列ストリームでもレコードの順序が保たれること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testGroupingByCatalog() {
+        final Map<CatalogForTest, List<Integer>> grouping = IntStream.range(0, 1000).parallel().boxed()
+                .collect(CatalogCollectors.groupingByCatalog(CatalogForTest.class,
+                        i -> i % 2 == 0 ? CatalogForTest.TEST_3 : CatalogForTest.TEST_1, Collectors.toList()));
+
+        assertEquals(2, grouping.size());
+        assertEquals(List.of(CatalogForTest.TEST_1, CatalogForTest.TEST_3), new ArrayList<>(grouping.keySet()));
+        assertEquals(IntStream.range(0, 500).map(i -> i * 2).boxed().collect(Collectors.toList()),
+                grouping.get(CatalogForTest.TEST_3));
+        assertNull(grouping.get(CatalogForTest.TEST_2));
+        assertFalse(grouping.containsKey(CatalogForTest.TEST_2));
+        assertNull(grouping.get("TEST_1"));
+        assertThrows(UnsupportedOperationException.class, () -> grouping.remove(CatalogForTest.TEST_1));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * 下流の {@link java.util.stream.Collector} が {@code null} を返却する場合の
+     * {@link CatalogCollectors#groupingByCatalog(Class, java.util.function.Function, java.util.stream.Collector)}
+     * メソッドで集計した結果を確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・集計結果が {@code null} の要素もキーとして含まれること。
+     * ・{@link Collectors#groupingBy(java.util.function.Function, java.util.stream.Collector)} メソッドの結果と一致すること。
+     * ・レコードを持たない要素はキーとして含まれないこと。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testGroupingByCatalogWithNullResult() {
+        final Map<CatalogForTest, Integer> grouping = IntStream.range(0, 10).boxed()
+                .collect(CatalogCollectors.groupingByCatalog(CatalogForTest.class,
+                        i -> i < 9 ? CatalogForTest.TEST_1 : CatalogForTest.TEST_3,
+                        Collectors.collectingAndThen(Collectors.counting(), count -> count > 1 ? 1 : null)));
+
+        assertEquals(2, grouping.size());
+        assertEquals(List.of(CatalogForTest.TEST_1, CatalogForTest.TEST_3), new ArrayList<>(grouping.keySet()));
+        assertTrue(grouping.containsKey(CatalogForTest.TEST_3));
+        assertNull(grouping.get(CatalogForTest.TEST_3));
+        assertFalse(grouping.containsKey(CatalogForTest.TEST_2));
+        assertEquals(IntStream.range(0, 10).boxed()
+                .collect(Collectors.groupingBy(i -> i < 9 ? CatalogForTest.TEST_1 : CatalogForTest.TEST_3,
+                        Collectors.collectingAndThen(Collectors.counting(), count -> count > 1 ? 1 : null))),
+                grouping);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CatalogColumn} クラスのテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogColumnTest {
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogColumn} クラスへ追加した値の参照結果を確認する。
+     * テストの際には {@link CatalogForTest} 及び {@link MonthCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・値のビット数が要素数から決定されること。
+     * ・複数のワードにまたがって追加した値を位置、要素及びコード値で参照できること。
+     * ・値を置換できること。
+     * ・逐次アクセスで追加した順に要素が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testAddAndGet() {
+        assertEquals(2, CatalogColumn.of(CatalogForTest.class).getBitsPerValue());
+
+        final CatalogColumn<MonthCatalogForTest> column = CatalogColumn.of(MonthCatalogForTest.class, 0);
+        final int[] codes = new int[100];
+
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = i % 12 + 1;
+        }
+
+        column.add(MonthCatalogForTest.DECEMBER);
+        column.addCodes(codes);
+        column.addCode(6);
+
+        assertEquals(4, column.getBitsPerValue());
+        assertEquals(102, column.size());
+        assertEquals(MonthCatalogForTest.DECEMBER, column.get(0));
+        assertEquals(MonthCatalogForTest.JANUARY, column.get(1));
+        assertEquals(5, column.getCode(17));
+        assertEquals(MonthCatalogForTest.JUNE, column.get(101));
+
+        column.set(1, MonthCatalogForTest.MAY);
+
+        final List<MonthCatalogForTest> elements = new ArrayList<>();
+        column.forEach(elements::add);
+
+        assertEquals(MonthCatalogForTest.MAY, elements.get(1));
+        assertEquals(MonthCatalogForTest.FEBRUARY, elements.get(2));
+        assertEquals(102, elements.size());
+        assertEquals(5, column.toCodeArray()[1]);
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogColumn#count(CodeSupport)} 及び {@link CatalogColumn#indexesOf(CodeSupport)} メソッドの返却値を確認する。
+     * テストの際には {@link HierarchicalCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・要素の出現数が返却されること。
+     * ・要素の出現位置が昇順で返却されること。
+     * ・末尾のワードの未使用領域が出現として扱われないこと。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * {@link HierarchicalCatalogForTest} クラスは要素数が7であるため、値は3ビットで1ワードに21個格納される。
+     * </pre>
+     */
+    @Test
+    void testCount() {
+        final CatalogColumn<HierarchicalCatalogForTest> column = CatalogColumn.of(HierarchicalCatalogForTest.class);
+
+        for (int i = 0; i < 50; i++) {
+            column.add(i % 5 == 0 ? HierarchicalCatalogForTest.TOKYO : HierarchicalCatalogForTest.ASIA);
+        }
+
+        assertEquals(10, column.count(HierarchicalCatalogForTest.TOKYO));
+        assertEquals(40, column.count(HierarchicalCatalogForTest.ASIA));
+        assertEquals(40, column.countCode(0));
+        assertEquals(0, column.count(HierarchicalCatalogForTest.FRANCE));
+        assertEquals(0, column.countCode(99));
+        assertArrayEquals(new int[] { 0, 5, 10, 15, 20, 25, 30, 35, 40, 45 },
+                column.indexesOf(HierarchicalCatalogForTest.TOKYO));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogColumn} クラスの異常系を確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・未定義のコード値を追加した場合は {@link IllegalArgumentException} が発生し、値が追加されないこと。
+     * ・範囲外の位置を参照した場合は {@link IndexOutOfBoundsException} が発生すること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testInvalidArguments() {
+        final CatalogColumn<CatalogForTest> column = CatalogColumn.of(CatalogForTest.class);
+
+        assertThrows(IllegalArgumentException.class, () -> column.addCodes(new int[] { 0, 1, 3 }));
+        assertEquals(0, column.size());
+        assertThrows(IllegalArgumentException.class, () -> column.addCode(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> column.get(0));
+        assertThrows(IllegalArgumentException.class, () -> CatalogColumn.of(CatalogForTest.class, -1));
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CatalogLabels} クラスのテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogLabelsTest {
+
+    /**
+     * テスト用のリソースバンドルの基底名
+     */
+    private static final String BASE_NAME = LabelBundleForTest.class.getName();
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogLabels#getLabel(CodeSupport, Locale)} メソッドの返却値を確認する。
+     * テストの際には {@link BiCatalogForTest} クラスと {@link LabelBundleForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・指定したロケールのラベルが返却されること。
+     * ・国を含むロケールに対して言語のみのロケールのラベルが返却されること。
+     * ・未指定のロケールに対してルートロケールのラベルが返却されること。
+     * ・いずれのバンドルにも定義されていない要素に対してタグの文字列が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testGetLabel() {
+        final CatalogLabels<BiCatalogForTest> labels = CatalogLabels.of(BiCatalogForTest.class, BASE_NAME,
+                Locale.JAPANESE, Locale.FRENCH);
+
+        assertEquals(List.of(Locale.JAPANESE, Locale.FRENCH), labels.getLocales());
+        assertEquals("成功", labels.getLabel(BiCatalogForTest.TEST_2, Locale.JAPANESE));
+        assertEquals("成功", labels.getLabel(BiCatalogForTest.TEST_2, Locale.JAPAN));
+        assertEquals("Success", labels.getLabel(BiCatalogForTest.TEST_2, Locale.FRENCH));
+        assertEquals("Success", labels.getLabel(BiCatalogForTest.TEST_2, Locale.GERMANY));
+        assertEquals("Failure", labels.getLabel(BiCatalogForTest.TEST_1, Locale.ROOT));
+        assertEquals("failure", labels.getLabel(BiCatalogForTest.TEST_3, Locale.ROOT));
+        assertEquals("失敗", labels.getLabel(BiCatalogForTest.TEST_3, Locale.JAPANESE));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogLabels#getEnumByLabel(String, Locale)} メソッドの返却値を確認する。
+     * テストの際には {@link BiCatalogForTest} クラスと {@link LabelBundleForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・ラベルに紐づく要素が返却されること。
+     * ・同一のラベルを持つ要素が複数ある場合はコード値が最小の要素が返却されること。
+     * ・存在しないラベルに対して {@code null} が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testGetEnumByLabel() {
+        final CatalogLabels<BiCatalogForTest> labels = CatalogLabels.of(BiCatalogForTest.class, BASE_NAME,
+                Locale.JAPANESE);
+
+        assertEquals(BiCatalogForTest.TEST_2, labels.getEnumByLabel("成功", Locale.JAPAN));
+        assertEquals(BiCatalogForTest.TEST_1, labels.getEnumByLabel("失敗", Locale.JAPANESE));
+        assertEquals(BiCatalogForTest.TEST_3, labels.getEnumByLabel("failure", Locale.ROOT));
+        assertNull(labels.getEnumByLabel("成功", Locale.ROOT));
+        assertNull(labels.getEnumByLabel(null, Locale.ROOT));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * キーを変換する関数を指定した場合及び存在しない基底名を指定した場合の {@link CatalogLabels} クラスの動作を確認する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・変換したキーでラベルが読み込まれること。
+     * ・バンドルが存在しない場合は全ての要素のラベルがタグの文字列となること。
+     * ・{@code null} のロケールに対して {@link NullPointerException} が送出されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testKeyMapperAndMissingBundle() {
+        final CatalogLabels<BiCatalogForTest> labels = CatalogLabels.of(BiCatalogForTest.class, BASE_NAME,
+                element -> element == BiCatalogForTest.TEST_3 ? "TEST_2" : element.name(), Locale.JAPANESE);
+
+        assertEquals("成功", labels.getLabel(BiCatalogForTest.TEST_3, Locale.JAPANESE));
+
+        final CatalogLabels<BiCatalogForTest> missing = CatalogLabels.of(BiCatalogForTest.class, "unknown",
+                Locale.JAPANESE);
+
+        assertEquals("success", missing.getLabel(BiCatalogForTest.TEST_2, Locale.JAPANESE));
+        assertThrows(NullPointerException.class, () -> missing.getLabel(BiCatalogForTest.TEST_2, null));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * 生成時に指定していないロケールに対する {@link CatalogLabels#getLabel(CodeSupport, Locale)} メソッドの返却値を確認する。
+     * テストの際には {@link BiCatalogForTest} クラスと {@link LabelBundleForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・用字及びバリアントを含むロケールに対して言語のみのロケールのラベルが返却されること。
+     * ・多数の未指定のロケールを繰り返し指定しても最も近いロケールのラベルが返却されること。
+     * ・未指定のロケールで参照した後も {@link CatalogLabels#getLocales()} が変化しないこと。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testUnconfiguredLocales() {
+        final CatalogLabels<BiCatalogForTest> labels = CatalogLabels.of(BiCatalogForTest.class, BASE_NAME,
+                Locale.JAPANESE);
+
+        assertEquals("成功", labels.getLabel(BiCatalogForTest.TEST_2, Locale.forLanguageTag("ja-Jpan-JP")));
+        assertEquals("成功", labels.getLabel(BiCatalogForTest.TEST_2, new Locale("ja", "JP", "JP")));
+
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals("成功", labels.getLabel(BiCatalogForTest.TEST_2, new Locale("ja", "", "V" + i)));
+            assertEquals("Success", labels.getLabel(BiCatalogForTest.TEST_2, new Locale("x" + i)));
+        }
+
+        assertEquals(List.of(Locale.JAPANESE), labels.getLocales());
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogLabels#forLocale(Locale)} メソッドで解決したロケールのラベルを確認する。
+     * テストの際には {@link BiCatalogForTest} クラスと {@link LabelBundleForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・指定したロケールが保持されること。
+     * ・国を含むロケールに対して言語のみのロケールのラベルが返却されること。
+     * ・未指定のロケールに対してルートロケールのラベルが返却されること。
+     * ・ラベルに紐づく要素が返却されること。
+     * ・{@code null} のロケール及び要素に対して {@link NullPointerException} が送出されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testForLocale() {
+        final CatalogLabels<BiCatalogForTest> labels = CatalogLabels.of(BiCatalogForTest.class, BASE_NAME,
+                Locale.JAPANESE);
+        final CatalogLabels.Localized<BiCatalogForTest> japan = labels.forLocale(Locale.JAPAN);
+        final CatalogLabels.Localized<BiCatalogForTest> germany = labels.forLocale(Locale.GERMANY);
+
+        assertEquals(Locale.JAPAN, japan.getLocale());
+        assertEquals("成功", japan.getLabel(BiCatalogForTest.TEST_2));
+        assertEquals("失敗", japan.getLabel(BiCatalogForTest.TEST_3));
+        assertEquals("Success", germany.getLabel(BiCatalogForTest.TEST_2));
+        assertEquals(BiCatalogForTest.TEST_2, japan.getEnumByLabel("成功"));
+        assertNull(germany.getEnumByLabel("成功"));
+        assertThrows(NullPointerException.class, () -> labels.forLocale(null));
+        assertThrows(NullPointerException.class, () -> japan.getLabel(null));
+    }
+}
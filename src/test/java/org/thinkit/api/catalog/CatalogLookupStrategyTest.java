@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.Month;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CatalogLookupStrategy} クラスのテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogLookupStrategyTest {
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogLookupStrategy#ofCode(Class)} 及び {@link CatalogLookupStrategy#ofTag(Class)} メソッドの返却値を確認する。
+     * テストの際には {@link BiCatalogForTest} 、 {@link MonthCatalogForTest} 及び {@link SparseCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・要素数が少ない場合は {@link CatalogLookupStrategy#LINEAR_SCAN} が選択されること。
+     * ・コード値が密な場合は {@link CatalogLookupStrategy#DENSE_ARRAY} が選択されること。
+     * ・コード値が疎な場合は {@link CatalogLookupStrategy#HASH_TABLE} が選択されること。
+     * ・タグが同一の Enum クラスの要素である場合は {@link CatalogLookupStrategy#ORDINAL_ARRAY} が選択されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testStrategies() {
+        assertEquals(CatalogLookupStrategy.LINEAR_SCAN, CatalogLookupStrategy.ofCode(BiCatalogForTest.class));
+        assertEquals(CatalogLookupStrategy.LINEAR_SCAN, CatalogLookupStrategy.ofTag(BiCatalogForTest.class));
+        assertEquals(CatalogLookupStrategy.DENSE_ARRAY, CatalogLookupStrategy.ofCode(MonthCatalogForTest.class));
+        assertEquals(CatalogLookupStrategy.ORDINAL_ARRAY, CatalogLookupStrategy.ofTag(MonthCatalogForTest.class));
+        assertEquals(CatalogLookupStrategy.HASH_TABLE, CatalogLookupStrategy.ofCode(SparseCatalogForTest.class));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * 各戦略で検索した結果を確認する。
+     * テストの際には {@link MonthCatalogForTest} 及び {@link SparseCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・定義されたコード値とタグに対して対応する要素が返却されること。
+     * ・未定義のコード値と別の Enum クラスのタグに対して {@code null} が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testLookup() {
+        for (final MonthCatalogForTest element : MonthCatalogForTest.values()) {
+            assertEquals(element, BiCatalog.getEnum(MonthCatalogForTest.class, element.getCode()));
+            assertEquals(element, BiCatalog.getEnumByTag(MonthCatalogForTest.class, element.getTag()));
+        }
+
+        for (final SparseCatalogForTest element : SparseCatalogForTest.values()) {
+            assertEquals(element, Catalog.getEnum(SparseCatalogForTest.class, element.getCode()));
+        }
+
+        assertNull(BiCatalog.getEnum(MonthCatalogForTest.class, 0));
+        assertNull(BiCatalog.getEnum(MonthCatalogForTest.class, Integer.MIN_VALUE));
+        assertNull(BiCatalog.getEnum(MonthCatalogForTest.class, 13));
+        assertTrue(BiCatalog.contains(MonthCatalogForTest.class, Month.MAY));
+        assertNull(BiCatalog.getEnumByTag(MonthCatalogForTest.class, null));
+        assertNull(Catalog.getEnum(SparseCatalogForTest.class, 4));
+        assertNull(Catalog.getEnum(SparseCatalogForTest.class, -2));
+        assertNull(CatalogIndex.of(MonthCatalogForTest.class).findByTag(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * 線形探索で特定の値を繰り返し検索した後の探索順序と検索結果を確認する。
+     * テストの際には {@link ScanCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・初期の探索順序がコード値の順序及び宣言の順序であること。
+     * ・繰り返し検索した値が探索順序の先頭に移動すること。
+     * ・探索順序の再構築後も全ての値に対して正しい要素が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * 検索のうち一部のみが標本として数えられるため、再構築に十分な回数を検索する。
+     * {@link ScanCatalogForTest} クラスは他のテストで使用しないこと。
+     * </pre>
+     */
+    @Test
+    void testReorder() {
+        final CatalogIndex<ScanCatalogForTest> index = CatalogIndex.of(ScanCatalogForTest.class);
+
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, index.getCodeScanOrder());
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, index.getTagScanOrder());
+
+        for (int i = 0; i < CatalogIndex.REORDER_INTERVAL * CatalogIndex.SAMPLE_RATE * 8; i++) {
+            assertEquals(ScanCatalogForTest.WEST, BiCatalog.getEnum(ScanCatalogForTest.class, 3));
+            assertEquals(ScanCatalogForTest.SOUTH, BiCatalog.getEnumByTag(ScanCatalogForTest.class, "south"));
+        }
+
+        assertEquals(index.indexOf(ScanCatalogForTest.WEST), index.getCodeScanOrder()[0]);
+        assertEquals(index.indexOf(ScanCatalogForTest.SOUTH), index.getTagScanOrder()[0]);
+
+        for (final ScanCatalogForTest element : ScanCatalogForTest.values()) {
+            assertEquals(element, BiCatalog.getEnum(ScanCatalogForTest.class, element.getCode()));
+            assertEquals(element, BiCatalog.getEnumByTag(ScanCatalogForTest.class, element.getTag()));
+        }
+
+        assertNull(BiCatalog.getEnum(ScanCatalogForTest.class, 4));
+        assertNull(BiCatalog.getEnumByTag(ScanCatalogForTest.class, "center"));
+        assertNull(CatalogIndex.of(MonthCatalogForTest.class).getCodeScanOrder());
+    }
+}
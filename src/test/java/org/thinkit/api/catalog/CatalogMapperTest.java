@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CatalogMapper} クラスのテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogMapperTest {
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * 変換関数から生成した {@link CatalogMapper} の変換結果を確認する。
+     * テストの際には {@link CatalogForTest} 及び {@link BiCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・全ての要素が変換関数に従って変換されること。
+     * ・未対応の要素が存在しないこと。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testOfFunction() {
+        final CatalogMapper<CatalogForTest, BiCatalogForTest> mapper = CatalogMapper.of(CatalogForTest.class,
+                BiCatalogForTest.class, source -> BiCatalog.getEnum(BiCatalogForTest.class, 2 - source.getCode()));
+
+        assertTrue(mapper.isComplete());
+        assertEquals(BiCatalogForTest.TEST_3, mapper.map(CatalogForTest.TEST_1));
+        assertEquals(BiCatalogForTest.TEST_2, mapper.map(CatalogForTest.TEST_2));
+        assertEquals(BiCatalogForTest.TEST_1, mapper.mapCode(2));
+        assertNull(mapper.mapCode(3));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * コード値の組から生成した {@link CatalogMapper} の変換結果を確認する。
+     * テストの際には {@link CatalogForTest} 及び {@link BiCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・未対応の要素が生成時に報告されること。
+     * ・コード値の列が一括で変換され、変換できない位置に指定したコード値が設定されること。
+     * ・不正なコード値の組を渡した際に例外が発生すること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testOfCodePairs() {
+        final CatalogMapper<CatalogForTest, BiCatalogForTest> mapper = CatalogMapper.of(CatalogForTest.class,
+                BiCatalogForTest.class, new int[] { 0, 1 }, new int[] { 2, 0 });
+
+        assertFalse(mapper.isComplete());
+        assertEquals(List.of(CatalogForTest.TEST_2), mapper.getUnmappedElements());
+        assertNull(mapper.map(CatalogForTest.TEST_2));
+
+        final int[] codes = { 0, 1, 2, 5, 2 };
+        assertArrayEquals(new int[] { 1, -1, 0, -1, 0 }, mapper.mapCodes(codes, -1));
+        assertEquals(2, mapper.mapCodes(codes, codes, -1));
+        assertArrayEquals(new int[] { 1, -1, 0, -1, 0 }, codes);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> CatalogMapper.of(CatalogForTest.class, BiCatalogForTest.class, new int[] { 0, 9 }));
+        assertThrows(IllegalArgumentException.class, () -> CatalogMapper.of(CatalogForTest.class,
+                BiCatalogForTest.class, new int[] { 0, 1 }, new int[] { 0, 2 }));
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CatalogPacker} クラスのテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogPackerTest {
+
+    /**
+     * テスト用のパッカー
+     */
+    private static final CatalogPacker PACKER = CatalogPacker.of(MonthCatalogForTest.class,
+            StateCatalogForTest.class, CatalogForTest.class);
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogPacker#getBitWidth(int)} 及び {@link CatalogPacker#getBitWidth()} メソッドの返却値を確認する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・各フィールドのビット幅がカタログの要素数から算出されること。
+     * ・キーのビット幅が各フィールドのビット幅の合計であること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testGetBitWidth() {
+        assertEquals(3, PACKER.getFieldCount());
+        assertEquals(4, PACKER.getBitWidth(0));
+        assertEquals(3, PACKER.getBitWidth(1));
+        assertEquals(2, PACKER.getBitWidth(2));
+        assertEquals(9, PACKER.getBitWidth());
+        assertEquals("CatalogPacker[MonthCatalogForTest:4, StateCatalogForTest:3, CatalogForTest:2]",
+                PACKER.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> PACKER.getBitWidth(3));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogPacker#pack(CodeSupport...)} 、 {@link CatalogPacker#packCodes(int...)} 及び
+     * {@link CatalogPacker#get(long, int, Class)} メソッドの動作を確認する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・先頭のフィールドが上位のビットに配置されること。
+     * ・要素とコード値から同一のキーが生成されること。
+     * ・キーから各フィールドの要素とコード値が復元されること。
+     * ・キーの大小がフィールド順のコード値の大小と一致すること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testPackAndUnpack() {
+        final long key = PACKER.pack(MonthCatalogForTest.MARCH, StateCatalogForTest.PAID, CatalogForTest.TEST_3);
+
+        assertEquals((2L << 5) | (1L << 2) | 2L, key);
+        assertEquals(key, PACKER.packCodes(3, 1, 2));
+        assertEquals(key, PACKER.with(PACKER.with(PACKER.with(0L, 2, CatalogForTest.TEST_3), 1,
+                StateCatalogForTest.PAID), 0, MonthCatalogForTest.MARCH));
+        assertEquals(MonthCatalogForTest.MARCH, PACKER.get(key, 0, MonthCatalogForTest.class));
+        assertEquals(StateCatalogForTest.PAID, PACKER.get(key, 1));
+        assertEquals(2, PACKER.getCode(key, 2));
+        assertEquals(StateCatalogForTest.ON_HOLD,
+                PACKER.get(PACKER.withCode(key, 1, 4), 1, StateCatalogForTest.class));
+        assertTrue(PACKER.packCodes(3, 4, 2) < PACKER.packCodes(4, 0, 0));
+        assertTrue(PACKER.packCodes(12, 4, 2) > 0);
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogPacker#matching(int, CodeSupport)} メソッドで生成したパターンの動作を確認する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・指定したフィールドのみが一致するキーに対して {@code true} が返却されること。
+     * ・絞り込んだパターンが全ての条件を満たすキーのみに一致すること。
+     * ・一致するキーの数と一致するキーが元の順序で返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testMatching() {
+        final long[] keys = { PACKER.packCodes(1, 1, 0), PACKER.packCodes(2, 0, 0), PACKER.packCodes(3, 1, 2),
+                PACKER.packCodes(3, 1, 0) };
+        final CatalogPacker.KeyPattern paid = PACKER.matching(1, StateCatalogForTest.PAID);
+        final CatalogPacker.KeyPattern paidInMarch = paid.andCode(0, 3);
+
+        assertTrue(paid.test(keys[0]));
+        assertFalse(paid.test(keys[1]));
+        assertEquals(3, paid.count(keys));
+        assertArrayEquals(new long[] { keys[2], keys[3] }, paidInMarch.filter(keys));
+        assertArrayEquals(new long[] { keys[3] }, paidInMarch.and(2, CatalogForTest.TEST_1).filter(keys));
+        assertEquals(PACKER.matchingCode(1, 1).getMask(), paid.getMask());
+        assertEquals(PACKER.matchingCode(1, 1).getValue(), paid.getValue());
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * 不正な引数を指定した場合の {@link CatalogPacker} クラスの動作を確認する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・フィールドと異なるカタログの要素に対して {@link IllegalArgumentException} が送出されること。
+     * ・列挙型ではない {@link CodeSupport} の実装に対して {@link IllegalArgumentException} が送出されること。
+     * ・未定義のコード値に対して {@link IllegalArgumentException} が送出されること。
+     * ・値の数がフィールドの数と異なる場合に {@link IllegalArgumentException} が送出されること。
+     * ・要素を保持しないフィールドの復元に対して {@link IllegalArgumentException} が送出されること。
+     * ・63 ビットを超えるフィールドに対して {@link IllegalArgumentException} が送出されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PACKER.pack(MonthCatalogForTest.MARCH, CatalogForTest.TEST_1, CatalogForTest.TEST_1));
+        assertThrows(IllegalArgumentException.class,
+                () -> PACKER.pack(MonthCatalogForTest.MARCH, StateCatalogForTest.CREATED, () -> 0));
+        assertThrows(IllegalArgumentException.class, () -> PACKER.packCodes(13, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> PACKER.packCodes(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> PACKER.get(15L << 5, 0));
+        assertThrows(IllegalArgumentException.class, () -> PACKER.get(0L, 0, StateCatalogForTest.class));
+        assertThrows(IllegalArgumentException.class, () -> CatalogPacker.of());
+
+        final Class<?>[] classes = Arrays.copyOf(new Class<?>[] { StateCatalogForTest.class }, 16);
+        Arrays.fill(classes, 1, 16, SparseCatalogForTest.class);
+
+        assertEquals(63, castOf(classes).getBitWidth());
+
+        final Class<?>[] overflow = classes.clone();
+        overflow[0] = MonthCatalogForTest.class;
+
+        assertThrows(IllegalArgumentException.class, () -> castOf(overflow));
+    }
+
+    /**
+     * カタログクラスの配列からパッカーを生成します。
+     *
+     * @param classes カタログクラスの配列
+     * @return パッカー
+     */
+    @SuppressWarnings("unchecked")
+    private static CatalogPacker castOf(Class<?>[] classes) {
+        return CatalogPacker.of((Class<? extends CodeSupport>[]) classes);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CatalogRegistry} クラスのテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogRegistryTest {
+
+    /**
+     * {@link CatalogForTest} の名前空間
+     */
+    private static final int CATALOG_NAMESPACE = 1;
+
+    /**
+     * {@link BiCatalogForTest} の名前空間
+     */
+    private static final int BI_CATALOG_NAMESPACE = -2;
+
+    /**
+     * テスト用カタログを登録します。
+     */
+    @BeforeAll
+    static void registerCatalogs() {
+        CatalogRegistry.register(CatalogForTest.class, CATALOG_NAMESPACE);
+        CatalogRegistry.register(BiCatalogForTest.class, BI_CATALOG_NAMESPACE);
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogRegistry#pack(int, int)} メソッドで生成したキーを確認する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・負の名前空間及びコード値を含むキーから元の値が復元できること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testPack() {
+        final long key = CatalogRegistry.pack(-3, -4);
+
+        assertEquals(-3, CatalogRegistry.getNamespace(key));
+        assertEquals(-4, CatalogRegistry.getCode(key));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogRegistry#toKey(CodeSupport)} 及び {@link CatalogRegistry#resolve(long)} メソッドの返却値を確認する。
+     * テストの際には {@link CatalogForTest} 及び {@link BiCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・各カタログの全要素が自身のキーから解決されること。
+     * ・未定義のコード値及び未登録の名前空間に対して {@code null} が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testResolve() {
+        for (final CatalogForTest element : CatalogForTest.values()) {
+            assertEquals(element, CatalogRegistry.resolve(CatalogRegistry.toKey(element)));
+        }
+
+        for (final BiCatalogForTest element : BiCatalogForTest.values()) {
+            assertEquals(element, CatalogRegistry.resolve(CatalogRegistry.toKey(element)));
+        }
+
+        assertEquals(BiCatalogForTest.TEST_2, CatalogRegistry.resolve(BI_CATALOG_NAMESPACE, 1));
+        assertNull(CatalogRegistry.resolve(CATALOG_NAMESPACE, 100));
+        assertNull(CatalogRegistry.resolve(Integer.MAX_VALUE, 0));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogRegistry#register(Class, int)} メソッドの処理を確認する。
+     * テストの際には {@link CatalogForTest} 及び {@link BiCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・同じカタログを同じ名前空間で再登録できること。
+     * ・登録済みの名前空間を別のカタログへ割り当てた際に例外が発生すること。
+     * ・登録済みのカタログを別の名前空間で登録した際に例外が発生すること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testRegister() {
+        CatalogRegistry.register(CatalogForTest.class, CATALOG_NAMESPACE);
+
+        assertTrue(CatalogRegistry.isRegistered(CatalogForTest.class));
+        assertEquals(CATALOG_NAMESPACE, CatalogRegistry.getNamespace(CatalogForTest.class));
+        assertThrows(IllegalArgumentException.class,
+                () -> CatalogRegistry.register(HierarchicalCatalogForTest.class, CATALOG_NAMESPACE));
+        assertThrows(IllegalArgumentException.class,
+                () -> CatalogRegistry.register(CatalogForTest.class, CATALOG_NAMESPACE + 100));
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CatalogSorter} クラス及び {@link CatalogBuckets} クラスのテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogSorterTest {
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogSorter#sort(List, Class, java.util.function.Function)} メソッドの動作を確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・リストがコード値順に並べ替えられること。
+     * ・同一の要素を持つレコードの順序が保たれること。
+     * ・各要素のレコードの境界が返却されること。
+     * ・要素を持つレコードのみが {@link CatalogBuckets#forEach(java.util.function.BiConsumer)} で処理されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testSortList() {
+        final List<String> records = new LinkedList<>(List.of("2a", "0a", "2b", "0b", "2c"));
+        final CatalogBuckets<CatalogForTest, String> buckets = CatalogSorter.sort(records, CatalogForTest.class,
+                CatalogSorterTest::keyOf);
+
+        assertEquals(List.of("0a", "0b", "2a", "2b", "2c"), records);
+        assertEquals(records, buckets.getRecords());
+        assertEquals(List.of("0a", "0b"), buckets.get(CatalogForTest.TEST_1));
+        assertEquals(List.of(), buckets.get(CatalogForTest.TEST_2));
+        assertEquals(2, buckets.getStart(CatalogForTest.TEST_3));
+        assertEquals(5, buckets.getEnd(CatalogForTest.TEST_3));
+        assertEquals(3, buckets.getCount(CatalogForTest.TEST_3));
+        assertArrayEquals(new int[] { 0, 2, 2, 5 }, buckets.getBoundaries());
+
+        final List<CatalogForTest> visited = new ArrayList<>();
+        buckets.forEach((element, slice) -> visited.add(element));
+
+        assertEquals(List.of(CatalogForTest.TEST_1, CatalogForTest.TEST_3), visited);
+        assertThrows(UnsupportedOperationException.class, () -> buckets.getRecords().add("1a"));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogSorter#sort(Object[], Class, java.util.function.Function)} 及び
+     * {@link CatalogSorter#partition(java.util.Collection, Class, java.util.function.Function)} メソッドの動作を確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・配列がコード値順に並べ替えられること。
+     * ・分割の際に元のレコードが変更されないこと。
+     * ・キーが {@code null} の場合は {@link NullPointerException} が送出されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testSortArrayAndPartition() {
+        final String[] array = { "1a", "0a", "1b", "2a", "0b" };
+        final CatalogBuckets<CatalogForTest, String> sorted = CatalogSorter.sort(array, CatalogForTest.class,
+                CatalogSorterTest::keyOf);
+
+        assertArrayEquals(new String[] { "0a", "0b", "1a", "1b", "2a" }, array);
+        assertEquals(List.of("1a", "1b"), sorted.get(CatalogForTest.TEST_2));
+
+        final Set<String> records = new HashSet<>(List.of("1a", "0a", "2a"));
+        final CatalogBuckets<CatalogForTest, String> partitioned = CatalogSorter.partition(records,
+                CatalogForTest.class, CatalogSorterTest::keyOf);
+
+        assertEquals(List.of("0a", "1a", "2a"), partitioned.getRecords());
+        assertEquals(Set.of("1a", "0a", "2a"), records);
+        assertEquals("CatalogBuckets[TEST_1=1, TEST_2=1, TEST_3=1]", partitioned.toString());
+        assertThrows(NullPointerException.class,
+                () -> CatalogSorter.sort(new String[] { "0a" }, CatalogForTest.class, record -> null));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogSorter#parallelSort(Object[], Class, java.util.function.Function)} 及び
+     * {@link CatalogSorter#parallelPartition(java.util.Collection, Class, java.util.function.Function)} メソッドの動作を確認する。
+     * テストの際には {@link SparseCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・並列で並べ替えた結果が安定ソートの結果と一致すること。
+     * ・各要素のレコードの境界が並べ替えの結果と一致すること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * 並列処理が行われるように十分な数のレコードを使用する。
+     * </pre>
+     */
+    @Test
+    void testParallelSort() {
+        final List<SparseCatalogForTest> elements = Catalog.getOrderedList(SparseCatalogForTest.class);
+        final Random random = new Random(43);
+        final int[][] records = new int[200_000][];
+
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new int[] { elements.get(random.nextInt(elements.size())).getCode(), i };
+        }
+
+        final List<int[]> expected = new ArrayList<>(Arrays.asList(records));
+        expected.sort(Comparator.comparingInt(record -> record[0]));
+
+        final CatalogBuckets<SparseCatalogForTest, int[]> partitioned = CatalogSorter.parallelPartition(
+                Arrays.asList(records), SparseCatalogForTest.class,
+                record -> Catalog.getEnum(SparseCatalogForTest.class, record[0]));
+        final CatalogBuckets<SparseCatalogForTest, int[]> sorted = CatalogSorter.parallelSort(records,
+                SparseCatalogForTest.class, record -> Catalog.getEnum(SparseCatalogForTest.class, record[0]));
+
+        assertEquals(expected, Arrays.asList(records));
+        assertEquals(expected, partitioned.getRecords());
+        assertArrayEquals(sorted.getBoundaries(), partitioned.getBoundaries());
+
+        for (final SparseCatalogForTest element : elements) {
+            for (final int[] record : sorted.get(element)) {
+                assertEquals(element.getCode(), record[0]);
+            }
+        }
+    }
+
+    /**
+     * レコードのキーを返却します。
+     *
+     * @param record レコード
+     * @return レコードのキー
+     */
+    private static CatalogForTest keyOf(String record) {
+        return Catalog.getEnum(CatalogForTest.class, record.charAt(0) - '0');
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.thinkit.api.catalog.StateCatalogForTest.CANCELLED;
+import static org.thinkit.api.catalog.StateCatalogForTest.CREATED;
+import static org.thinkit.api.catalog.StateCatalogForTest.ON_HOLD;
+import static org.thinkit.api.catalog.StateCatalogForTest.PAID;
+import static org.thinkit.api.catalog.StateCatalogForTest.SHIPPED;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CatalogStateMachine} クラスのテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class CatalogStateMachineTest {
+
+    /**
+     * テスト用の状態機械
+     */
+    private static final CatalogStateMachine<StateCatalogForTest> MACHINE = CatalogStateMachine.of(
+            StateCatalogForTest.class, new int[] { 0, 1 }, new int[] { 0, 3 }, new int[] { 1, 2 },
+            new int[] { 1, 3 }, new int[] { 1, 4 }, new int[] { 4, 1 }, new int[] { 0, 1 });
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogStateMachine#canTransition(int, int)} 及び
+     * {@link CatalogStateMachine#getNextStates(Catalog)} メソッドの返却値を確認する。
+     * テストの際には {@link StateCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・定義された遷移に対して {@code true} が返却されること。
+     * ・定義されていない遷移と未定義のコード値に対して {@code false} が返却されること。
+     * ・遷移先の状態がコード値順で返却され、同一の状態に対して同一のインスタンスが返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testCanTransition() {
+        assertTrue(MACHINE.canTransition(0, 1));
+        assertTrue(MACHINE.canTransition(ON_HOLD, PAID));
+        assertFalse(MACHINE.canTransition(1, 0));
+        assertFalse(MACHINE.canTransition(0, 2));
+        assertFalse(MACHINE.canTransition(0, 99));
+        assertFalse(MACHINE.canTransition(-1, 1));
+
+        assertEquals(List.of(PAID, CANCELLED), MACHINE.getNextStates(CREATED));
+        assertEquals(List.of(SHIPPED, CANCELLED, ON_HOLD), MACHINE.getNextStates(1));
+        assertEquals(List.of(), MACHINE.getNextStates(99));
+        assertSame(MACHINE.getNextStates(PAID), MACHINE.getNextStates(1));
+        assertThrows(UnsupportedOperationException.class, () -> MACHINE.getNextStates(PAID).add(CREATED));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogStateMachine#isReachable(int, int)} 及び
+     * {@link CatalogStateMachine#getReachableStates(Catalog)} メソッドの返却値を確認する。
+     * テストの際には {@link StateCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・複数回の遷移で到達できる状態に対して {@code true} が返却されること。
+     * ・循環する遷移を持つ状態は自身から到達できること。
+     * ・到達できない状態に対して {@code false} が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testIsReachable() {
+        assertTrue(MACHINE.isReachable(0, 2));
+        assertTrue(MACHINE.isReachable(ON_HOLD, SHIPPED));
+        assertTrue(MACHINE.isReachable(PAID, PAID));
+        assertFalse(MACHINE.isReachable(CREATED, CREATED));
+        assertFalse(MACHINE.isReachable(SHIPPED, CANCELLED));
+        assertFalse(MACHINE.isReachable(1, 0));
+
+        assertEquals(List.of(PAID, SHIPPED, CANCELLED, ON_HOLD), MACHINE.getReachableStates(CREATED));
+        assertEquals(List.of(PAID, SHIPPED, CANCELLED, ON_HOLD), MACHINE.getReachableStates(ON_HOLD));
+        assertEquals(List.of(), MACHINE.getReachableStates(SHIPPED));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogStateMachine#getTerminalStates()} 及び {@link CatalogStateMachine#isTerminal(int)}
+     * メソッドの返却値を確認する。
+     * テストの際には {@link StateCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・遷移先を持たない状態が終端状態としてコード値順で返却されること。
+     * ・未定義のコード値に対して {@code false} が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testTerminalStates() {
+        assertEquals(List.of(SHIPPED, CANCELLED), MACHINE.getTerminalStates());
+        assertTrue(MACHINE.isTerminal(2));
+        assertTrue(MACHINE.isTerminal(CANCELLED));
+        assertFalse(MACHINE.isTerminal(ON_HOLD));
+        assertFalse(MACHINE.isTerminal(99));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link CatalogStateMachine#of(Class, int[]...)} メソッドの異常系を確認する。
+     * テストの際には {@link StateCatalogForTest} クラス及び {@link DuplicateStateCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・要素数が2ではない遷移を渡した場合は {@link IllegalArgumentException} が発生すること。
+     * ・未定義のコード値を含む遷移を渡した場合は {@link IllegalArgumentException} が発生すること。
+     * ・同一のコード値を持つ要素を含むカタログを渡した場合は {@link IllegalArgumentException} が発生すること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testInvalidTransitions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CatalogStateMachine.of(StateCatalogForTest.class, new int[] { 0, 1, 2 }));
+        assertThrows(IllegalArgumentException.class,
+                () -> CatalogStateMachine.of(StateCatalogForTest.class, new int[] { 0, 5 }));
+        assertThrows(IllegalArgumentException.class,
+                () -> CatalogStateMachine.of(DuplicateStateCatalogForTest.class, new int[] { 0, 1 }));
+        assertThrows(IllegalArgumentException.class, () -> CatalogStateMachine.of(DuplicateStateCatalogForTest.class));
+    }
+}
@@ -15,11 +15,22 @@
 package org.thinkit.api.catalog;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import org.junit.jupiter.api.Test;
 
@@ -42,6 +53,16 @@ public final class CatalogTest {
      */
     private static final String SEQUENCE_FAILURE = "failure";
 
+    /**
+     * 要素を文字列へ分類する関数
+     */
+    private static final Function<CatalogForTest, String> SEQUENCE = CatalogForTest::getSequence;
+
+    /**
+     * 文字列が {@code "failure"} である要素を判定する述語
+     */
+    private static final Predicate<CatalogForTest> IS_FAILURE = e -> SEQUENCE_FAILURE.equals(e.getSequence());
+
     /**
      * <pre>
      * ❏ 概要
@@ -141,4 +162,185 @@ public final class CatalogTest {
         assertEquals(SEQUENCE_SUCCESS, test2.getSequence());
         assertEquals(SEQUENCE_FAILURE, test3.getSequence());
     }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link Catalog} インターフェースの {@link Catalog#size(Class)} メソッドの返却値を確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・{@link Catalog#size(Class)} メソッドから取得した要素数が {@link CatalogForTest} の要素数と等しいこと。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testSize() {
+        assertEquals(CatalogForTest.values().length, Catalog.size(CatalogForTest.class));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link Catalog} インターフェースの {@link Catalog#get(Class, int)} メソッドの返却値を確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・{@link Catalog#get(Class, int)} メソッドへ渡したインデックスに対応する要素がコード値順で返却されること。
+     * ・範囲外のインデックスを {@link Catalog#get(Class, int)} メソッドへ渡した際に例外が発生すること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testGet() {
+        assertEquals(CatalogForTest.TEST_1, Catalog.get(CatalogForTest.class, 0));
+        assertEquals(CatalogForTest.TEST_2, Catalog.get(CatalogForTest.class, 1));
+        assertEquals(CatalogForTest.TEST_3, Catalog.get(CatalogForTest.class, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> Catalog.get(CatalogForTest.class, 3));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link Catalog} インターフェースの {@link Catalog#forEach(Class, java.util.function.Consumer)} メソッドの処理を確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・{@link Catalog#forEach(Class, java.util.function.Consumer)} メソッドで走査した要素が {@link Catalog#getOrderedList(Class)} と等価であること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testForEach() {
+        final List<CatalogForTest> catalogs = new ArrayList<>(3);
+        Catalog.forEach(CatalogForTest.class, catalogs::add);
+
+        assertEquals(Catalog.getOrderedList(CatalogForTest.class), catalogs);
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link Catalog} インターフェースの {@link Catalog#spliterator(Class)} メソッドの返却値を確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・{@link Catalog#spliterator(Class)} メソッドから取得したスプリッテレータが期待する特性を持つこと。
+     * ・{@link Catalog#spliterator(Class)} メソッドから取得したスプリッテレータのサイズが要素数と等しいこと。
+     * ・並列ストリームで収集した要素が {@link Catalog#getOrderedList(Class)} と等価であること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testSpliterator() {
+        final Spliterator<CatalogForTest> spliterator = Catalog.spliterator(CatalogForTest.class);
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(3, spliterator.getExactSizeIfKnown());
+
+        assertEquals(Catalog.getOrderedList(CatalogForTest.class),
+                StreamSupport.stream(Catalog.spliterator(CatalogForTest.class), true).collect(Collectors.toList()));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link Catalog} インターフェースの {@link Catalog#groupingBy(Class, java.util.function.Function)} メソッドの返却値を確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・要素が分類関数の返却値ごとにコード値順でグループ化されること。
+     * ・同一の分類関数を渡した場合はキャッシュされた同一のインスタンスが返却されること。
+     * ・異なる分類関数を渡した場合は同一の内容の別のインスタンスが返却されること。
+     * ・返却された {@link java.util.Map} とリストが変更不可であること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testGroupingBy() {
+        final Map<String, List<CatalogForTest>> grouping = Catalog.groupingBy(CatalogForTest.class, SEQUENCE);
+
+        assertEquals(List.of(SEQUENCE_FAILURE, SEQUENCE_SUCCESS), new ArrayList<>(grouping.keySet()));
+        assertEquals(List.of(CatalogForTest.TEST_1, CatalogForTest.TEST_3), grouping.get(SEQUENCE_FAILURE));
+        assertEquals(List.of(CatalogForTest.TEST_2), grouping.get(SEQUENCE_SUCCESS));
+        assertSame(grouping, Catalog.groupingBy(CatalogForTest.class, SEQUENCE));
+
+        final Map<String, List<CatalogForTest>> other = Catalog.groupingBy(CatalogForTest.class,
+                element -> element.getSequence());
+
+        assertNotSame(grouping, other);
+        assertEquals(grouping, other);
+        assertThrows(UnsupportedOperationException.class, () -> grouping.remove(SEQUENCE_FAILURE));
+        assertThrows(UnsupportedOperationException.class, () -> grouping.get(SEQUENCE_SUCCESS).clear());
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link Catalog} インターフェースの {@link Catalog#partitioningBy(Class, java.util.function.Predicate)} メソッドの返却値を確認する。
+     * テストの際には {@link CatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・述語を満たす要素のビットがコード値順のインデックスに立っていること。
+     * ・述語を満たす要素と満たさない要素がコード値順で返却されること。
+     * ・同一の述語を渡した場合はキャッシュされた同一のインスタンスが返却されること。
+     * ・範囲外のインデックスを渡した場合は {@link IndexOutOfBoundsException} が発生すること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testPartitioningBy() {
+        final CatalogPartition<CatalogForTest> partition = Catalog.partitioningBy(CatalogForTest.class, IS_FAILURE);
+
+        assertTrue(partition.test(CatalogForTest.TEST_1));
+        assertFalse(partition.test(CatalogForTest.TEST_2));
+        assertTrue(partition.get(2));
+        assertEquals(2, partition.cardinality());
+        assertEquals(List.of(CatalogForTest.TEST_1, CatalogForTest.TEST_3), partition.getMatching());
+        assertEquals(List.of(CatalogForTest.TEST_2), partition.getNonMatching());
+        assertEquals(BitSet.valueOf(new long[] { 0b101L }), partition.toBitSet());
+        assertSame(partition, Catalog.partitioningBy(CatalogForTest.class, IS_FAILURE));
+        assertThrows(IndexOutOfBoundsException.class, () -> partition.get(3));
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+/**
+ * {@link HierarchicalCatalog} インタフェースのテスト用カタログです。
+ *
+ * <pre>
+ * ASIA(0)
+ * ├── JAPAN(10)
+ * │   ├── TOKYO(100)
+ * │   └── OSAKA(101)
+ * └── CHINA(11)
+ * EUROPE(1)
+ * └── FRANCE(12)
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public enum HierarchicalCatalogForTest implements HierarchicalCatalog<HierarchicalCatalogForTest> {
+
+    /**
+     * 東京
+     */
+    TOKYO(100, 10),
+
+    /**
+     * アジア
+     */
+    ASIA(0, NO_PARENT),
+
+    /**
+     * 日本
+     */
+    JAPAN(10, 0),
+
+    /**
+     * 大阪
+     */
+    OSAKA(101, 10),
+
+    /**
+     * 中国
+     */
+    CHINA(11, 0),
+
+    /**
+     * ヨーロッパ
+     */
+    EUROPE(1, NO_PARENT),
+
+    /**
+     * フランス
+     */
+    FRANCE(12, 1);
+
+    /**
+     * コード値
+     */
+    private int code;
+
+    /**
+     * 親のコード値
+     */
+    private int parentCode;
+
+    /**
+     * コンストラクタ
+     *
+     * @param code       コード値
+     * @param parentCode 親のコード値
+     */
+    HierarchicalCatalogForTest(int code, int parentCode) {
+        this.code = code;
+        this.parentCode = parentCode;
+    }
+
+    @Override
+    public int getCode() {
+        return this.code;
+    }
+
+    @Override
+    public int getParentCode() {
+        return this.parentCode;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.thinkit.api.catalog.HierarchicalCatalogForTest.ASIA;
+import static org.thinkit.api.catalog.HierarchicalCatalogForTest.CHINA;
+import static org.thinkit.api.catalog.HierarchicalCatalogForTest.EUROPE;
+import static org.thinkit.api.catalog.HierarchicalCatalogForTest.FRANCE;
+import static org.thinkit.api.catalog.HierarchicalCatalogForTest.JAPAN;
+import static org.thinkit.api.catalog.HierarchicalCatalogForTest.OSAKA;
+import static org.thinkit.api.catalog.HierarchicalCatalogForTest.TOKYO;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link HierarchicalCatalog} インターフェースのテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class HierarchicalCatalogTest {
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link HierarchicalCatalog#getParent()} 及び {@link HierarchicalCatalog#getDepth()} メソッドの返却値を確認する。
+     * テストの際には {@link HierarchicalCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・ルート要素の親が {@code null} であり、深さが {@code 0} であること。
+     * ・子孫要素の親と深さが定義に従っていること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testGetParentAndDepth() {
+        assertNull(ASIA.getParent());
+        assertEquals(ASIA, JAPAN.getParent());
+        assertEquals(JAPAN, TOKYO.getParent());
+        assertEquals(0, EUROPE.getDepth());
+        assertEquals(1, FRANCE.getDepth());
+        assertEquals(2, OSAKA.getDepth());
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link HierarchicalCatalog#getChildren()} 、 {@link HierarchicalCatalog#getSubtree()} 及び
+     * {@link HierarchicalCatalog#getRoots(Class)} メソッドの返却値を確認する。
+     * テストの際には {@link HierarchicalCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・子要素がコード値順で返却されること。
+     * ・部分木が自身を先頭とした深さ優先順で返却されること。
+     * ・ルート要素がコード値順で返却されること。
+     * ・返却されたリストが変更不可であること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testChildrenAndSubtree() {
+        assertEquals(List.of(JAPAN, CHINA), ASIA.getChildren());
+        assertEquals(List.of(), TOKYO.getChildren());
+        assertEquals(List.of(ASIA, JAPAN, TOKYO, OSAKA, CHINA), ASIA.getSubtree());
+        assertEquals(List.of(JAPAN, TOKYO, OSAKA), JAPAN.getSubtree());
+        assertEquals(List.of(FRANCE), FRANCE.getSubtree());
+        assertEquals(List.of(ASIA, EUROPE), HierarchicalCatalog.getRoots(HierarchicalCatalogForTest.class));
+        assertThrows(UnsupportedOperationException.class, () -> ASIA.getSubtree().add(EUROPE));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link HierarchicalCatalog#isDescendantOf(HierarchicalCatalog)} 及び
+     * {@link HierarchicalCatalog#isAncestorOf(HierarchicalCatalog)} メソッドの返却値を確認する。
+     * テストの際には {@link HierarchicalCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・子孫要素に対して {@code true} が返却されること。
+     * ・自身、兄弟要素及び別の木の要素に対して {@code false} が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testIsDescendantOf() {
+        assertTrue(TOKYO.isDescendantOf(ASIA));
+        assertTrue(TOKYO.isDescendantOf(JAPAN));
+        assertTrue(ASIA.isAncestorOf(OSAKA));
+        assertFalse(TOKYO.isDescendantOf(TOKYO));
+        assertFalse(TOKYO.isDescendantOf(OSAKA));
+        assertFalse(TOKYO.isDescendantOf(EUROPE));
+        assertFalse(ASIA.isDescendantOf(TOKYO));
+        assertFalse(FRANCE.isAncestorOf(CHINA));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link HierarchicalCatalog#getLowestCommonAncestor(Class, HierarchicalCatalog, HierarchicalCatalog)} メソッドの返却値を確認する。
+     * テストの際には {@link HierarchicalCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・兄弟要素に対して共通の親が返却されること。
+     * ・祖先と子孫に対して祖先が返却されること。
+     * ・別の木に属する要素に対して {@code null} が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testGetLowestCommonAncestor() {
+        final Class<HierarchicalCatalogForTest> clazz = HierarchicalCatalogForTest.class;
+
+        assertEquals(JAPAN, HierarchicalCatalog.getLowestCommonAncestor(clazz, TOKYO, OSAKA));
+        assertEquals(ASIA, HierarchicalCatalog.getLowestCommonAncestor(clazz, OSAKA, CHINA));
+        assertEquals(JAPAN, HierarchicalCatalog.getLowestCommonAncestor(clazz, JAPAN, TOKYO));
+        assertEquals(TOKYO, HierarchicalCatalog.getLowestCommonAncestor(clazz, TOKYO, TOKYO));
+        assertNull(HierarchicalCatalog.getLowestCommonAncestor(clazz, TOKYO, FRANCE));
+    }
+}
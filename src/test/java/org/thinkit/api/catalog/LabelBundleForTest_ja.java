@@ -0,0 +1,31 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.util.ListResourceBundle;
+
+/**
+ * {@link CatalogLabels} クラスのテスト用の日本語のリソースバンドルです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class LabelBundleForTest_ja extends ListResourceBundle {
+
+    @Override
+    protected Object[][] getContents() {
+        return new Object[][] { { "TEST_1", "失敗" }, { "TEST_2", "成功" }, { "TEST_3", "失敗" } };
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link LoadingCatalog} クラスのテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class LoadingCatalogTest {
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link LoadingCatalog#getEnum(int)} 、 {@link LoadingCatalog#getEnumByTag(Object)} 、
+     * {@link LoadingCatalog#hasCode(int)} 及び {@link LoadingCatalog#contains(Object)} メソッドの返却値を確認する。
+     * テストの際には {@link BiCatalogForTest} クラスをローダーの返却値として使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・ローダーが返却した値が返却されること。
+     * ・同一のキーに対するローダーの呼び出しが一度のみであること。
+     * ・ローダーが {@code null} を返却したキーも一度のみ呼び出されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testGetEnum() {
+        final AtomicInteger codeLoads = new AtomicInteger();
+        final AtomicInteger tagLoads = new AtomicInteger();
+        final LoadingCatalog<BiCatalogForTest, String> catalog = LoadingCatalog.of(code -> {
+            codeLoads.incrementAndGet();
+            return BiCatalog.getEnum(BiCatalogForTest.class, code);
+        }, tag -> {
+            tagLoads.incrementAndGet();
+            return BiCatalog.getEnumByTag(BiCatalogForTest.class, tag);
+        }, 16);
+
+        assertSame(BiCatalogForTest.TEST_2, catalog.getEnum(1));
+        assertSame(BiCatalogForTest.TEST_2, catalog.getEnum(1));
+        assertTrue(catalog.hasCode(1));
+        assertEquals(1, codeLoads.get());
+
+        assertNull(catalog.getEnum(100));
+        assertFalse(catalog.hasCode(100));
+        assertEquals(2, codeLoads.get());
+
+        assertSame(BiCatalogForTest.TEST_1, catalog.getEnumByTag("failure"));
+        assertTrue(catalog.contains("failure"));
+        assertFalse(catalog.contains("unknown"));
+        assertFalse(catalog.contains("unknown"));
+        assertEquals(2, tagLoads.get());
+        assertEquals(4, catalog.size());
+
+        catalog.invalidateAll();
+
+        assertEquals(0, catalog.size());
+        assertTrue(catalog.hasCode(1));
+        assertEquals(3, codeLoads.get());
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * ローダーが例外を送出した場合の {@link LoadingCatalog#getEnum(int)} メソッドの動作を確認する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・ローダーが送出した例外がそのまま送出されること。
+     * ・例外が発生した結果はキャッシュされず、次回の呼び出しで再度ロードされること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testLoadFailure() {
+        final AtomicInteger loads = new AtomicInteger();
+        final LoadingCatalog<BiCatalogForTest, String> catalog = LoadingCatalog.of(code -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("unavailable");
+            }
+
+            return BiCatalog.getEnum(BiCatalogForTest.class, code);
+        }, tag -> null, 16);
+
+        assertThrows(IllegalStateException.class, () -> catalog.getEnum(0));
+        assertSame(BiCatalogForTest.TEST_1, catalog.getEnum(0));
+        assertEquals(2, loads.get());
+        assertEquals(1, catalog.getStats().getLoadFailureCount());
+        assertEquals(1, catalog.getStats().getLoadSuccessCount());
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * 複数のスレッドから同一のキーを同時に要求した場合の {@link LoadingCatalog#getEnum(int)} メソッドの動作を確認する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・ローダーの呼び出しが一度のみであること。
+     * ・全てのスレッドに同一の値が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * ローダーは全てのスレッドが要求を開始するまで待機する。
+     * </pre>
+     */
+    @Test
+    void testConcurrentMisses() throws Exception {
+        final int threads = 8;
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(threads);
+        final LoadingCatalog<BiCatalogForTest, String> catalog = LoadingCatalog.of(code -> {
+            loads.incrementAndGet();
+
+            try {
+                started.await(5, TimeUnit.SECONDS);
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return BiCatalog.getEnum(BiCatalogForTest.class, code);
+        }, tag -> null, 16);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            final List<Future<BiCatalogForTest>> results = new ArrayList<>();
+
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    started.countDown();
+                    return catalog.getEnum(2);
+                }));
+            }
+
+            for (final Future<BiCatalogForTest> result : results) {
+                assertSame(BiCatalogForTest.TEST_3, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1, catalog.getStats().getLoadSuccessCount());
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * キャッシュが上限に達した場合の {@link LoadingCatalog} クラスの動作を確認する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・頻繁に要求されるキーが一度のみ要求されたキーによって追い出されないこと。
+     * ・一度のみ要求されたキーも繰り返し要求されることでキャッシュされること。
+     * ・キャッシュされた結果の数が上限を超えないこと。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testEviction() {
+        final AtomicInteger loads = new AtomicInteger();
+        final LoadingCatalog<BiCatalogForTest, String> catalog = LoadingCatalog.of(code -> {
+            loads.incrementAndGet();
+            return BiCatalog.getEnum(BiCatalogForTest.class, code);
+        }, tag -> null, 2);
+
+        for (int i = 0; i < 5; i++) {
+            catalog.getEnum(0);
+            catalog.getEnum(1);
+        }
+
+        assertEquals(2, loads.get());
+
+        catalog.getEnum(2);
+
+        assertEquals(2, catalog.size());
+        assertEquals(0, catalog.getStats().getEvictionCount());
+
+        catalog.getEnum(0);
+        catalog.getEnum(1);
+
+        assertEquals(3, loads.get());
+
+        for (int i = 0; i < 10; i++) {
+            catalog.getEnum(2);
+        }
+
+        assertEquals(2, catalog.size());
+        assertEquals(1, catalog.getStats().getEvictionCount());
+        assertSame(BiCatalogForTest.TEST_3, catalog.getEnum(2));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link LoadingCatalog#getStats()} メソッドの返却値を確認する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・ヒット数、ミス数及びヒット率が要求に従っていること。
+     * ・ロードの平均時間が記録されること。
+     * ・要求がない場合のヒット率が {@code 1.0} であること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testGetStats() {
+        final LoadingCatalog<BiCatalogForTest, String> catalog = LoadingCatalog
+                .of(code -> BiCatalog.getEnum(BiCatalogForTest.class, code), tag -> null, 16);
+
+        assertEquals(1.0, catalog.getStats().getHitRatio());
+        assertEquals(0.0, catalog.getStats().getAverageLoadPenalty());
+
+        catalog.getEnum(0);
+        catalog.getEnum(0);
+        catalog.getEnum(0);
+        catalog.getEnum(1);
+
+        final LoadingCatalog.Stats stats = catalog.getStats();
+
+        assertEquals(2, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(0.5, stats.getHitRatio());
+        assertEquals(2, stats.getLoadSuccessCount());
+        assertTrue(stats.getAverageLoadPenalty() > 0.0);
+        assertThrows(IllegalArgumentException.class, () -> LoadingCatalog.of(code -> null, tag -> null, 0));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * 多数のコード値を要求して追い出しが繰り返される場合の {@link LoadingCatalog#getEnum(int)} メソッドの返却値を確認する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・追い出しと再構築が繰り返された後も要求したコード値の値が返却されること。
+     * ・キャッシュされた結果の数が上限を超えないこと。
+     * ・頻繁に要求されるコード値がキャッシュに残ること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testManyCodes() {
+        final LoadingCatalog<BiCatalogForTest, String> catalog = LoadingCatalog
+                .of(code -> BiCatalog.getEnum(BiCatalogForTest.class, code % 3), tag -> null, 64);
+        final Random random = new Random(41);
+
+        for (int i = 0; i < 100_000; i++) {
+            final int code = (i & 1) == 0 ? random.nextInt(16) * 3 + 1 : random.nextInt(10_000);
+            assertSame(BiCatalog.getEnum(BiCatalogForTest.class, code % 3), catalog.getEnum(code));
+            assertTrue(catalog.size() <= 64);
+        }
+
+        final long loads = catalog.getStats().getLoadSuccessCount();
+
+        for (int i = 0; i < 16; i++) {
+            assertSame(BiCatalogForTest.TEST_2, catalog.getEnum(i * 3 + 1));
+        }
+
+        assertEquals(loads, catalog.getStats().getLoadSuccessCount());
+        assertTrue(catalog.getStats().getEvictionCount() > 0);
+    }
+}
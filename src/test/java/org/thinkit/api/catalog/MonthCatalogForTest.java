@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.time.Month;
+
+/**
+ * 密なコード値と Enum のタグを持つテスト用カタログです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public enum MonthCatalogForTest implements BiCatalog<MonthCatalogForTest, Month> {
+
+    /**
+     * 1月
+     */
+    JANUARY(1, Month.JANUARY),
+
+    /**
+     * 2月
+     */
+    FEBRUARY(2, Month.FEBRUARY),
+
+    /**
+     * 3月
+     */
+    MARCH(3, Month.MARCH),
+
+    /**
+     * 4月
+     */
+    APRIL(4, Month.APRIL),
+
+    /**
+     * 5月
+     */
+    MAY(5, Month.MAY),
+
+    /**
+     * 6月
+     */
+    JUNE(6, Month.JUNE),
+
+    /**
+     * 7月
+     */
+    JULY(7, Month.JULY),
+
+    /**
+     * 8月
+     */
+    AUGUST(8, Month.AUGUST),
+
+    /**
+     * 9月
+     */
+    SEPTEMBER(9, Month.SEPTEMBER),
+
+    /**
+     * 10月
+     */
+    OCTOBER(10, Month.OCTOBER),
+
+    /**
+     * 11月
+     */
+    NOVEMBER(11, Month.NOVEMBER),
+
+    /**
+     * 12月
+     */
+    DECEMBER(12, Month.DECEMBER);
+
+    /**
+     * コード値
+     */
+    private int code;
+
+    /**
+     * タグ
+     */
+    private Month tag;
+
+    /**
+     * コンストラクタ
+     *
+     * @param code コード値
+     * @param tag  タグ
+     */
+    MonthCatalogForTest(int code, Month tag) {
+        this.code = code;
+        this.tag = tag;
+    }
+
+    @Override
+    public int getCode() {
+        return this.code;
+    }
+
+    @Override
+    public Month getTag() {
+        return this.tag;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.time.Instant;
+
+/**
+ * 有効期間が重複する要素を含む {@link VersionedCatalog} インタフェースのテスト用カタログです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public enum OverlappingVersionedCatalogForTest implements VersionedCatalog<OverlappingVersionedCatalogForTest> {
+
+    /**
+     * 旧標準
+     */
+    STANDARD_OLD(0, null, "2021-04-01T00:00:00Z"),
+
+    /**
+     * 新標準
+     */
+    STANDARD_NEW(0, "2021-03-01T00:00:00Z", null);
+
+    /**
+     * コード値
+     */
+    private int code;
+
+    /**
+     * 有効期間の開始日時
+     */
+    private Instant validFrom;
+
+    /**
+     * 有効期間の終了日時
+     */
+    private Instant validTo;
+
+    /**
+     * コンストラクタ
+     *
+     * @param code      コード値
+     * @param validFrom 有効期間の開始日時
+     * @param validTo   有効期間の終了日時
+     */
+    OverlappingVersionedCatalogForTest(int code, String validFrom, String validTo) {
+        this.code = code;
+        this.validFrom = validFrom == null ? null : Instant.parse(validFrom);
+        this.validTo = validTo == null ? null : Instant.parse(validTo);
+    }
+
+    @Override
+    public int getCode() {
+        return this.code;
+    }
+
+    @Override
+    public Instant getValidFrom() {
+        return this.validFrom;
+    }
+
+    @Override
+    public Instant getValidTo() {
+        return this.validTo;
+    }
+}
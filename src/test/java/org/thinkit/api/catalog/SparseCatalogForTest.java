@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+/**
+ * 疎なコード値を持つテスト用カタログです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public enum SparseCatalogForTest implements Catalog<SparseCatalogForTest> {
+
+    /**
+     * 最小値
+     */
+    MIN(Integer.MIN_VALUE),
+
+    /**
+     * 負の値
+     */
+    NEGATIVE(-70000),
+
+    /**
+     * マイナス1
+     */
+    MINUS_ONE(-1),
+
+    /**
+     * ゼロ
+     */
+    ZERO(0),
+
+    /**
+     * 1
+     */
+    ONE(1),
+
+    /**
+     * 2
+     */
+    TWO(2),
+
+    /**
+     * 3
+     */
+    THREE(3),
+
+    /**
+     * 下位16ビットの最大値
+     */
+    LOW_MAX(65535),
+
+    /**
+     * 上位16ビットの境界値
+     */
+    HIGH_BOUNDARY(65536),
+
+    /**
+     * 百万
+     */
+    MILLION(1_000_000),
+
+    /**
+     * 最大値
+     */
+    MAX(Integer.MAX_VALUE);
+
+    /**
+     * コード値
+     */
+    private int code;
+
+    /**
+     * コンストラクタ
+     *
+     * @param code コード値
+     */
+    SparseCatalogForTest(int code) {
+        this.code = code;
+    }
+
+    @Override
+    public int getCode() {
+        return this.code;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+/**
+ * {@link CatalogStateMachine} クラスのテスト用カタログです。
+ *
+ * <pre>
+ * CREATED(0) → PAID(1), CANCELLED(3)
+ * PAID(1)    → SHIPPED(2), CANCELLED(3), ON_HOLD(4)
+ * ON_HOLD(4) → PAID(1)
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public enum StateCatalogForTest implements Catalog<StateCatalogForTest> {
+
+    /**
+     * 作成済み
+     */
+    CREATED(0),
+
+    /**
+     * 支払済み
+     */
+    PAID(1),
+
+    /**
+     * 出荷済み
+     */
+    SHIPPED(2),
+
+    /**
+     * 取消済み
+     */
+    CANCELLED(3),
+
+    /**
+     * 保留中
+     */
+    ON_HOLD(4);
+
+    /**
+     * コード値
+     */
+    private int code;
+
+    /**
+     * コンストラクタ
+     *
+     * @param code コード値
+     */
+    StateCatalogForTest(int code) {
+        this.code = code;
+    }
+
+    @Override
+    public int getCode() {
+        return this.code;
+    }
+}
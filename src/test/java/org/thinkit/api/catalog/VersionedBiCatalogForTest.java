@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import java.time.Instant;
+
+/**
+ * {@link VersionedBiCatalog} インタフェースのテスト用カタログです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public enum VersionedBiCatalogForTest implements VersionedBiCatalog<VersionedBiCatalogForTest, String> {
+
+    /**
+     * 旧有効
+     */
+    ACTIVE_OLD(0, "active", null, "2021-01-01T00:00:00Z"),
+
+    /**
+     * 新有効
+     */
+    ACTIVE_NEW(0, "enabled", "2021-01-01T00:00:00Z", null),
+
+    /**
+     * 旧無効
+     */
+    INACTIVE_OLD(1, "inactive", "2020-01-01T00:00:00Z", "2021-01-01T00:00:00Z"),
+
+    /**
+     * 新無効
+     */
+    INACTIVE_NEW(2, "inactive", "2021-01-01T00:00:00Z", "2022-01-01T00:00:00Z");
+
+    /**
+     * コード値
+     */
+    private int code;
+
+    /**
+     * タグ
+     */
+    private String tag;
+
+    /**
+     * 有効期間の開始日時
+     */
+    private Instant validFrom;
+
+    /**
+     * 有効期間の終了日時
+     */
+    private Instant validTo;
+
+    /**
+     * コンストラクタ
+     *
+     * @param code      コード値
+     * @param tag       タグ
+     * @param validFrom 有効期間の開始日時
+     * @param validTo   有効期間の終了日時
+     */
+    VersionedBiCatalogForTest(int code, String tag, String validFrom, String validTo) {
+        this.code = code;
+        this.tag = tag;
+        this.validFrom = validFrom == null ? null : Instant.parse(validFrom);
+        this.validTo = validTo == null ? null : Instant.parse(validTo);
+    }
+
+    @Override
+    public int getCode() {
+        return this.code;
+    }
+
+    @Override
+    public String getTag() {
+        return this.tag;
+    }
+
+    @Override
+    public Instant getValidFrom() {
+        return this.validFrom;
+    }
+
+    @Override
+    public Instant getValidTo() {
+        return this.validTo;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link VersionedBiCatalog} インターフェースのテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class VersionedBiCatalogTest {
+
+    /**
+     * 切替日時より前の日時
+     */
+    private static final Instant BEFORE_CUTOVER = Instant.parse("2020-06-01T00:00:00Z");
+
+    /**
+     * 切替日時
+     */
+    private static final Instant CUTOVER = Instant.parse("2021-01-01T00:00:00Z");
+
+    /**
+     * 全ての有効期間より後の日時
+     */
+    private static final Instant FAR_FUTURE = Instant.parse("2030-01-01T00:00:00Z");
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link VersionedBiCatalog#getEnum(Class, int, Instant)} メソッドの返却値を確認する。
+     * テストの際には {@link VersionedBiCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・同じコード値に対して日時に応じた要素が返却されること。
+     * ・有効期間の終了日時は期間に含まれないこと。
+     * ・有効な要素が存在しない場合に {@code null} が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testGetEnum() {
+        final Class<VersionedBiCatalogForTest> clazz = VersionedBiCatalogForTest.class;
+
+        assertEquals(VersionedBiCatalogForTest.ACTIVE_OLD, VersionedBiCatalog.getEnum(clazz, 0, BEFORE_CUTOVER));
+        assertEquals(VersionedBiCatalogForTest.ACTIVE_NEW, VersionedBiCatalog.getEnum(clazz, 0, CUTOVER));
+        assertEquals(VersionedBiCatalogForTest.ACTIVE_NEW, VersionedBiCatalog.getEnum(clazz, 0, FAR_FUTURE));
+        assertEquals(VersionedBiCatalogForTest.INACTIVE_OLD, VersionedBiCatalog.getEnum(clazz, 1, BEFORE_CUTOVER));
+        assertNull(VersionedBiCatalog.getEnum(clazz, 1, CUTOVER));
+        assertNull(VersionedBiCatalog.getEnum(clazz, 2, FAR_FUTURE));
+        assertNull(VersionedBiCatalog.getEnum(clazz, 3, CUTOVER));
+        assertThrows(NullPointerException.class, () -> VersionedBiCatalog.getEnum(clazz, 0, null));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link VersionedBiCatalog#getEnumByTag(Class, Object, Instant)} メソッドの返却値を確認する。
+     * テストの際には {@link VersionedBiCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・同じタグ値に対して日時に応じた要素が返却されること。
+     * ・有効期間外のタグ値に対して {@code null} が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testGetEnumByTag() {
+        final Class<VersionedBiCatalogForTest> clazz = VersionedBiCatalogForTest.class;
+
+        assertEquals(VersionedBiCatalogForTest.INACTIVE_OLD,
+                VersionedBiCatalog.getEnumByTag(clazz, "inactive", BEFORE_CUTOVER));
+        assertEquals(VersionedBiCatalogForTest.INACTIVE_NEW, VersionedBiCatalog.getEnumByTag(clazz, "inactive", CUTOVER));
+        assertEquals(VersionedBiCatalogForTest.ACTIVE_OLD, VersionedBiCatalog.getEnumByTag(clazz, "active", BEFORE_CUTOVER));
+        assertNull(VersionedBiCatalog.getEnumByTag(clazz, "active", CUTOVER));
+        assertNull(VersionedBiCatalog.getEnumByTag(clazz, "enabled", BEFORE_CUTOVER));
+        assertNull(VersionedBiCatalog.getEnumByTag(clazz, "unknown", CUTOVER));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link VersionedCatalog} インターフェースのテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class VersionedCatalogTest {
+
+    /**
+     * 切替日時
+     */
+    private static final Instant CUTOVER = Instant.parse("2021-04-01T00:00:00Z");
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link VersionedCatalog#getEnum(Class, int, Instant)} メソッドの返却値を確認する。
+     * テストの際には {@link VersionedCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・コード値ごとに日時に応じた要素が返却されること。
+     * ・開始日時及び終了日時が未指定の有効期間は無期限として扱われること。
+     * ・有効期間の間の空白期間及び開始日時より前の日時に対して {@code null} が返却されること。
+     * ・未定義のコード値に対して {@code null} が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testGetEnum() {
+        final Class<VersionedCatalogForTest> clazz = VersionedCatalogForTest.class;
+
+        assertEquals(VersionedCatalogForTest.STANDARD_OLD, VersionedCatalog.getEnum(clazz, 0, Instant.MIN));
+        assertEquals(VersionedCatalogForTest.STANDARD_NEW, VersionedCatalog.getEnum(clazz, 0, Instant.MAX));
+        assertNull(VersionedCatalog.getEnum(clazz, 1, Instant.parse("2019-12-31T23:59:59Z")));
+        assertEquals(VersionedCatalogForTest.DISCOUNT_OLD,
+                VersionedCatalog.getEnum(clazz, 1, Instant.parse("2020-06-01T00:00:00Z")));
+        assertNull(VersionedCatalog.getEnum(clazz, 1, Instant.parse("2021-03-01T00:00:00Z")));
+        assertEquals(VersionedCatalogForTest.DISCOUNT_NEW,
+                VersionedCatalog.getEnum(clazz, 1, Instant.parse("2030-01-01T00:00:00Z")));
+        assertEquals(VersionedCatalogForTest.SPECIAL, VersionedCatalog.getEnum(clazz, 2, CUTOVER));
+        assertNull(VersionedCatalog.getEnum(clazz, 3, CUTOVER));
+        assertThrows(NullPointerException.class, () -> VersionedCatalog.getEnum(clazz, 0, null));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * 有効期間の境界における {@link VersionedCatalog#getEnum(Class, int, Instant)} メソッドの返却値を確認する。
+     * テストの際には {@link VersionedCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・開始日時は有効期間に含まれること。
+     * ・終了日時は有効期間に含まれないこと。
+     * ・開始日時の直前の日時に対して前の有効期間の要素が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testValidFromBoundary() {
+        final Class<VersionedCatalogForTest> clazz = VersionedCatalogForTest.class;
+
+        assertEquals(VersionedCatalogForTest.STANDARD_OLD, VersionedCatalog.getEnum(clazz, 0, CUTOVER.minusNanos(1)));
+        assertEquals(VersionedCatalogForTest.STANDARD_NEW, VersionedCatalog.getEnum(clazz, 0, CUTOVER));
+        assertEquals(VersionedCatalogForTest.DISCOUNT_OLD,
+                VersionedCatalog.getEnum(clazz, 1, Instant.parse("2020-01-01T00:00:00Z")));
+        assertNull(VersionedCatalog.getEnum(clazz, 1, Instant.parse("2021-01-01T00:00:00Z")));
+        assertNull(VersionedCatalog.getEnum(clazz, 1, Instant.parse("2021-06-01T00:00:00Z").minusNanos(1)));
+        assertEquals(VersionedCatalogForTest.DISCOUNT_NEW,
+                VersionedCatalog.getEnum(clazz, 1, Instant.parse("2021-06-01T00:00:00Z")));
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * 不正な有効期間を持つカタログに対する {@link VersionedCatalog#getEnum(Class, int, Instant)} メソッドの動作を確認する。
+     * テストの際には {@link OverlappingVersionedCatalogForTest} クラス及び
+     * {@link EmptyIntervalVersionedCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・同じコード値の有効期間が重複する場合は {@link IllegalStateException} が発生すること。
+     * ・開始日時と終了日時が等しい空の有効期間の場合は {@link IllegalStateException} が発生すること。
+     * ・重複していないコード値を参照した場合も {@link IllegalStateException} が発生すること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testInvalidIntervals() {
+        assertThrows(IllegalStateException.class,
+                () -> VersionedCatalog.getEnum(OverlappingVersionedCatalogForTest.class, 0, CUTOVER));
+        assertThrows(IllegalStateException.class,
+                () -> VersionedCatalog.getEnum(OverlappingVersionedCatalogForTest.class, 1, CUTOVER));
+        assertThrows(IllegalStateException.class,
+                () -> VersionedCatalog.getEnum(EmptyIntervalVersionedCatalogForTest.class, 0, CUTOVER));
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.api.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Java 17 以降で使用される {@link VectorCodeValidation} クラスのテストクラスです。
+ *
+ * <p>
+ * このテストクラスは {@code jdk.incubator.vector} モジュールを解決した Java 17 の環境で、マルチリリースのクラスを
+ * Java 11 のクラスよりも優先してクラスパスに配置して実行する。
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class VectorCodeValidationTest {
+
+    /**
+     * 乱数の種
+     */
+    private static final long SEED = 37;
+
+    /**
+     * 検査の繰り返し回数
+     */
+    private static final int ITERATIONS = 2_000;
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * Java 17 のクラスが使用され、Vector API による走査が有効であることを確認する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・{@link CodeValidationKernel#isVectorized()} が {@code true} を返却すること。
+     * ・{@link CatalogCodeValidator#isVectorized()} が {@code true} を返却すること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testIsVectorized() {
+        assertTrue(CodeValidationKernel.isVectorized());
+        assertTrue(CatalogCodeValidator.isVectorized());
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link VectorCodeValidation#indexOfOutOfRange(int[], int, int, int, int)} メソッドの返却値を
+     * 1件ずつ走査した結果と比較する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・任意の配列長、走査範囲及び有効範囲に対して1件ずつ走査した結果と一致すること。
+     * ・ベクトルの長さに満たない末尾のコード値も検査されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testIndexOfOutOfRange() {
+        final Random random = new Random(SEED);
+
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            final int min = random.nextInt(64) - 32;
+            final int max = min + random.nextInt(64);
+            final int[] codes = codesOf(random, min - 4, max + 4, min, max);
+            final int from = random.nextInt(codes.length + 1);
+            final int to = from + random.nextInt(codes.length - from + 1);
+
+            assertEquals(scalarIndexOfOutOfRange(codes, from, to, min, max),
+                    VectorCodeValidation.indexOfOutOfRange(codes, from, to, min, max));
+        }
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * {@link VectorCodeValidation#indexOfNonMember(int[], int, int, int, int, int[])} メソッドの返却値を
+     * 1件ずつ走査した結果と比較する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・任意のビットセット及び走査範囲に対して1件ずつ走査した結果と一致すること。
+     * ・範囲外のコード値と範囲内の非メンバーが同じベクトルに含まれる場合も先頭の位置が返却されること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testIndexOfNonMember() {
+        final Random random = new Random(SEED);
+
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            final int min = random.nextInt(1 << 16) - (1 << 15);
+            final int bits = 1 + random.nextInt(200);
+            final int max = min + bits - 1;
+            final int[] words = new int[(bits + 31) >>> 5];
+
+            for (int bit = 0; bit < bits; bit++) {
+                if (random.nextInt(8) != 0) {
+                    words[bit >>> 5] |= 1 << bit;
+                }
+            }
+
+            final int[] codes = codesOf(random, min - 8, max + 8, min, max);
+            final int from = random.nextInt(codes.length + 1);
+            final int to = from + random.nextInt(codes.length - from + 1);
+
+            assertEquals(scalarIndexOfNonMember(codes, from, to, min, max, words),
+                    VectorCodeValidation.indexOfNonMember(codes, from, to, min, max, words));
+        }
+    }
+
+    /**
+     * <pre>
+     * ❏ 概要
+     * Vector API を使用した {@link CatalogCodeValidator} クラスの検証結果を {@link Catalog#hasCode(Class, int)}
+     * メソッドと比較する。
+     * テストの際には {@link CatalogForTest} クラス及び {@link SparseCatalogForTest} クラスを使用する。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 観点
+     * ・最初の無効なコード値の位置が {@link Catalog#hasCode(Class, int)} で1件ずつ検査した結果と一致すること。
+     * ・無効なコード値の数が {@link Catalog#hasCode(Class, int)} で1件ずつ検査した結果と一致すること。
+     * </pre>
+     *
+     * <pre>
+     * ❏ 留意点
+     * なし
+     * </pre>
+     */
+    @Test
+    void testCatalogCodeValidator() {
+        final Random random = new Random(SEED);
+        final CatalogCodeValidator<CatalogForTest> contiguous = CatalogCodeValidator.of(CatalogForTest.class);
+        final CatalogCodeValidator<SparseCatalogForTest> sparse = CatalogCodeValidator.of(SparseCatalogForTest.class);
+
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            final int[] codes = codesOf(random, -2, 5, 0, 3);
+
+            int expectedIndex = -1;
+            int expectedCount = 0;
+
+            for (int i = 0; i < codes.length; i++) {
+                if (!Catalog.hasCode(CatalogForTest.class, codes[i])) {
+                    expectedIndex = expectedIndex < 0 ? i : expectedIndex;
+                    expectedCount++;
+                }
+            }
+
+            assertEquals(expectedIndex, contiguous.indexOfInvalid(codes));
+            assertEquals(expectedCount, contiguous.countInvalid(codes));
+
+            int sparseIndex = -1;
+
+            for (int i = 0; i < codes.length; i++) {
+                if (!Catalog.hasCode(SparseCatalogForTest.class, codes[i])) {
+                    sparseIndex = i;
+                    break;
+                }
+            }
+
+            assertEquals(sparseIndex, sparse.indexOfInvalid(codes));
+        }
+    }
+
+    /**
+     * 多くが有効範囲内に収まるコード値の配列を生成します。
+     *
+     * @param random   乱数
+     * @param lower    生成するコード値の下限
+     * @param upper    生成するコード値の上限
+     * @param validMin 有効範囲の下限
+     * @param validMax 有効範囲の上限
+     * @return コード値の配列
+     */
+    private static int[] codesOf(Random random, int lower, int upper, int validMin, int validMax) {
+        final int[] codes = new int[random.nextInt(100)];
+        final int invalidRate = 1 + random.nextInt(64);
+
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = random.nextInt(invalidRate) == 0 ? lower + random.nextInt(upper - lower + 1)
+                    : validMin + random.nextInt(validMax - validMin + 1);
+        }
+
+        return codes;
+    }
+
+    /**
+     * 範囲外のコード値の最初の位置を1件ずつ走査して返却します。
+     *
+     * @param codes コード値の配列
+     * @param from  走査の開始位置
+     * @param to    走査の終了位置
+     * @param min   有効なコード値の最小値
+     * @param max   有効なコード値の最大値
+     * @return 範囲外のコード値の最初の位置、存在しない場合は {@code -1}
+     */
+    private static int scalarIndexOfOutOfRange(int[] codes, int from, int to, int min, int max) {
+        for (int i = from; i < to; i++) {
+            if (codes[i] < min || codes[i] > max) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * ビットセットに含まれないコード値の最初の位置を1件ずつ走査して返却します。
+     *
+     * @param codes コード値の配列
+     * @param from  走査の開始位置
+     * @param to    走査の終了位置
+     * @param min   先頭のビットのコード値
+     * @param max   末尾のビットのコード値
+     * @param words 32ビットのワードで表したビットセット
+     * @return ビットセットに含まれないコード値の最初の位置、存在しない場合は {@code -1}
+     */
+    private static int scalarIndexOfNonMember(int[] codes, int from, int to, int min, int max, int[] words) {
+        for (int i = from; i < to; i++) {
+            if (!CodeValidationKernel.isMember(codes[i], min, max, words)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}